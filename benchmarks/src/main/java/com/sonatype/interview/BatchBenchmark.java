@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the REPL batch mode I/O path, per line,
+ * reading from and writing to memory
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class BatchBenchmark
+{
+	@Param( { "INT_32", "LONG_64", "DIGITS_100", "MAX_LENGTH", "INVALID" } )
+	Dataset dataset;
+
+	private byte[] input;
+
+	// Discard the output without copying it
+	private final OutputStream output = new OutputStream()
+	{
+		@Override
+		public void write( int b )
+		{
+		}
+
+		@Override
+		public void write( byte[] b, int off, int len )
+		{
+		}
+	};
+
+	@Setup
+	public void setup()
+	{
+		input = String.join( "\n", dataset.generate() ).getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( Dataset.SIZE )
+	public long batch() throws IOException
+	{
+		return WordifyREPL.batch( new ByteArrayInputStream( input ), output );
+	}
+}
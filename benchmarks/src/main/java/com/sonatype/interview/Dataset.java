@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Seeded benchmark inputs, so every run and every release
+ * measures exactly the same numbers
+ */
+public enum Dataset
+{
+	/**
+	 * Anything that fits in a 32-bit signed integer
+	 */
+	INT_32
+	{
+		@Override
+		String next( Random random )
+		{
+			return Integer.toString( random.nextInt() );
+		}
+	},
+
+	/**
+	 * Anything that fits in a 64-bit signed integer
+	 */
+	LONG_64
+	{
+		@Override
+		String next( Random random )
+		{
+			return Long.toString( random.nextLong() );
+		}
+	},
+
+	/**
+	 * Exactly 100 digits
+	 */
+	DIGITS_100
+	{
+		@Override
+		String next( Random random )
+		{
+			return digits( random, 100 );
+		}
+	},
+
+	/**
+	 * As many digits as ValidateNumeric.maxIntegerRepresentation()
+	 */
+	MAX_LENGTH
+	{
+		@Override
+		String next( Random random )
+		{
+			return digits( random, ValidateNumeric.maxDigits() );
+		}
+	},
+
+	/**
+	 * Mostly zeros, like 10^3000, with the odd non-zero group
+	 */
+	SPARSE
+	{
+		@Override
+		String next( Random random )
+		{
+			char[] chars = new char[3001];
+			Arrays.fill( chars, '0' );
+			chars[0] = '1';
+			if ( random.nextBoolean() )
+			{
+				chars[1 + random.nextInt( chars.length - 1 )] = (char) ( '1' + random.nextInt( 9 ) );
+			}
+			return new String( chars );
+		}
+	},
+
+	/**
+	 * A mix of inputs that each fail validation for a different reason
+	 */
+	INVALID
+	{
+		private final String[] invalid = {
+			"", "-", "-0", "07", "1.5", " 12", "12 ", "--12", "12-3", "12a", "一二", "१२३",
+			ValidateNumeric.maxIntegerRepresentation() + '9'
+		};
+
+		@Override
+		String next( Random random )
+		{
+			return invalid[random.nextInt( invalid.length )];
+		}
+	};
+
+	/**
+	 * Number of inputs in each dataset, a power of two
+	 */
+	final static int SIZE = 1 << 10;
+
+	private final static long SEED = 1003;
+
+	/**
+	 * Generate the next input
+	 *
+	 * @param random The seeded source of randomness
+	 * @return An integer representation
+	 */
+	abstract String next( Random random );
+
+	/**
+	 * Generate the inputs for this dataset
+	 *
+	 * @return SIZE inputs, identical on every call
+	 */
+	String[] generate()
+	{
+		Random random = new Random( SEED );
+		String[] inputs = new String[SIZE];
+		for ( int i = 0; i < SIZE; i++ )
+		{
+			inputs[i] = next( random );
+		}
+		return inputs;
+	}
+
+	/**
+	 * A random positive number with the given number of digits
+	 *
+	 * @param random The seeded source of randomness
+	 * @param length The number of digits
+	 * @return Digits with no leading zero
+	 */
+	private static String digits( Random random, int length )
+	{
+		char[] chars = new char[length];
+		chars[0] = (char) ( '1' + random.nextInt( 9 ) );
+		for ( int i = 1; i < length; i++ )
+		{
+			chars[i] = (char) ( '0' + random.nextInt( 10 ) );
+		}
+		return new String( chars );
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the int, long and BigInteger overloads
+ * against formatting the number and taking the String path
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class PrimitiveBenchmark
+{
+	@Param( { "INT_32", "LONG_64", "DIGITS_100", "MAX_LENGTH" } )
+	Dataset dataset;
+
+	private long[] longs;
+
+	private BigInteger[] bigIntegers;
+
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		String[] inputs = dataset.generate();
+		longs = new long[inputs.length];
+		bigIntegers = new BigInteger[inputs.length];
+		for ( int i = 0; i < inputs.length; i++ )
+		{
+			bigIntegers[i] = new BigInteger( inputs[i] );
+			longs[i] = bigIntegers[i].longValue();
+		}
+	}
+
+	private int nextIndex()
+	{
+		next = ( next + 1 ) & ( Dataset.SIZE - 1 );
+		return next;
+	}
+
+	@Benchmark
+	public String longToWords()
+	{
+		return Wordify.numberToWords( longs[nextIndex()] );
+	}
+
+	@Benchmark
+	public String longToStringToWords()
+	{
+		return Wordify.numberToWords( Long.toString( longs[nextIndex()] ) );
+	}
+
+	@Benchmark
+	public String bigIntegerToWords()
+	{
+		return Wordify.numberToWords( bigIntegers[nextIndex()] );
+	}
+
+	@Benchmark
+	public String bigIntegerToStringToWords()
+	{
+		return Wordify.numberToWords( bigIntegers[nextIndex()].toString() );
+	}
+}
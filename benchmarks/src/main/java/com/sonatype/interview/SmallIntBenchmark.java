@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rendering a single group from 1 to 999,
+ * recursively against the precomputed phrase tables
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class SmallIntBenchmark
+{
+	private int group;
+
+	private int nextGroup()
+	{
+		group = group % 999 + 1;
+		return group;
+	}
+
+	@Benchmark
+	public String smallIntToWords()
+	{
+		return Wordify.smallIntToWords( nextGroup(), true );
+	}
+
+	@Benchmark
+	public String phrase()
+	{
+		return WordifyEngine.DEFAULT.phrase( nextGroup(), true );
+	}
+}
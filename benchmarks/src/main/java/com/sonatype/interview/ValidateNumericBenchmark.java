@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of validating valid and invalid integer representations
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class ValidateNumericBenchmark
+{
+	@Param( { "INT_32", "LONG_64", "DIGITS_100", "MAX_LENGTH", "SPARSE", "INVALID" } )
+	Dataset dataset;
+
+	private String[] inputs;
+
+	private ByteBuffer[] bytes;
+
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		inputs = dataset.generate();
+		bytes = new ByteBuffer[inputs.length];
+		for ( int i = 0; i < inputs.length; i++ )
+		{
+			bytes[i] = ByteBuffer.wrap( inputs[i].getBytes( StandardCharsets.UTF_8 ) );
+		}
+	}
+
+	private int nextIndex()
+	{
+		next = ( next + 1 ) & ( Dataset.SIZE - 1 );
+		return next;
+	}
+
+	@Benchmark
+	public String validateWithHints()
+	{
+		return ValidateNumeric.validateWithHints( inputs[nextIndex()] );
+	}
+
+	@Benchmark
+	public String validateBytesWithHints()
+	{
+		ByteBuffer buffer = bytes[nextIndex()];
+		return ValidateNumeric.validateWithHints( buffer, 0, buffer.limit() );
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of converting valid integer representations to words
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class WordifyBenchmark
+{
+	@Param( { "INT_32", "LONG_64", "DIGITS_100", "MAX_LENGTH", "SPARSE" } )
+	Dataset dataset;
+
+	private String[] inputs;
+
+	// The same inputs without a leading dash, for grouping
+	private String[] nonNegative;
+
+	private final StringBuilder sb = new StringBuilder( 1 << 16 );
+
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		inputs = dataset.generate();
+		nonNegative = new String[inputs.length];
+		for ( int i = 0; i < inputs.length; i++ )
+		{
+			nonNegative[i] = inputs[i].startsWith( "-" ) ? inputs[i].substring( 1 ) : inputs[i];
+		}
+	}
+
+	private int nextIndex()
+	{
+		next = ( next + 1 ) & ( Dataset.SIZE - 1 );
+		return next;
+	}
+
+	@Benchmark
+	public String numberToWords()
+	{
+		return Wordify.numberToWords( inputs[nextIndex()] );
+	}
+
+	@Benchmark
+	public StringBuilder numberToWordsAppend()
+	{
+		sb.setLength( 0 );
+		Wordify.numberToWords( inputs[nextIndex()], sb );
+		return sb;
+	}
+
+	@Benchmark
+	public Conversion convert()
+	{
+		return WordifyEngine.DEFAULT.convert( inputs[nextIndex()] );
+	}
+
+	@Benchmark
+	public int[] groupNonNegativeIntegers()
+	{
+		return Wordify.groupNonNegativeIntegers( nonNegative[nextIndex()] );
+	}
+}
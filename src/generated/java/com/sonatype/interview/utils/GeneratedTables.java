@@ -0,0 +1,820 @@
+/* Generated by com.sonatype.interview.TableGenerator. Do not edit. */
+
+package com.sonatype.interview.utils;
+
+/**
+ * Phrase tables and thousands scales of the built-in language, packed by PackedWords
+ */
+public final class GeneratedTables
+{
+	public final static String SCALES_BYTES =
+		"thousandmillionbilliontrillionquadrillionquintillionsextillionseptillionoctillionnonilliondecill" +
+		"ionundecillionduodecilliontredecillionquattuordecillionquindecillionsexdecillionseptendecilliono" +
+		"codecillionnovemdecillionvigintillionunvigintillionduovigintilliontrevigintillionquattuorviginti" +
+		"llionquinvigintillionsexvigintillionseptenvigintillionoctovigintillionnovemvigintilliontrigintil" +
+		"lionuntrigintillionduotrigintilliontretrigintillionquattuortrigintillionquintrigintillionsextrig" +
+		"intillionseptentrigintillionoctotrigintillionnovemtrigintillionquadragintillionunquadragintillio" +
+		"nduoquadragintilliontresquadragintillionquattuorquadragintillionquindragintillionsesquadragintil" +
+		"lionseptenquadragintillionoctoquadragintillionnovenquadragintillionquinquagintillionunquinquagin" +
+		"tillionduoquinquagintilliontresquinquagintillionquattuorquinquagintillionquinquinquagintillionse" +
+		"squinquagintillionseptenquinquagintillionoctoquinquagintillionnovenquinquagintillionsexagintilli" +
+		"onunsexagintillionduosexagintilliontresexagintillionquattuorsexagintillionquinsexagintillionsese" +
+		"xagintillionseptensexagintillionoctosexagintillionnovensexagintillionseptuagintillionunseptuagin" +
+		"tillionduoseptuagintilliontreseptuagintillionquattuorseptuagintillionquinseptuagintillionseseptu" +
+		"agintillionseptenseptuagintillionoctoseptuagintillionnovenseptuagintillionoctogintillionunoctogi" +
+		"ntillionduooctogintilliontresoctogintillionquattuoroctogintillionquinoctogintillionsexoctogintil" +
+		"lionseptemoctogintillionoctooctogintillionnovemoctogintillionnonagintillionunnonagintillionduono" +
+		"nagintilliontrenonagintillionquattuornonagintillionquinnonagintillionsenonagintillionseptenonagi" +
+		"ntillionoctononagintillionnovenonagintillioncentillionuncentillionduocentilliontrescentillionqua" +
+		"ttuorcentillionquincentillionsexcentillionseptencentillionoctocentillionnovencentilliondecicenti" +
+		"llionundecicentillionduodecicentilliontredecicentillionquattuordecicentillionquindecicentillions" +
+		"edecicentillionseptendecicentillionoctodecicentillionnovendecicentillionviginticentillionunvigin" +
+		"ticentillionduoviginticentilliontresviginticentillionquattuorviginticentillionquinviginticentill" +
+		"ionsesviginticentillionseptemviginticentillionoctoviginticentillionnovemviginticentilliontrigint" +
+		"acentillionuntrigintacentillionduotrigintacentilliontrestrigintacentillionquattuortrigintacentil" +
+		"lionquintrigintacentillionsestrigintacentillionseptentrigintacentillionoctotrigintacentillionnov" +
+		"entrigintacentillionquadragintacentillionunquadragintacentillionduoquadragintacentilliontresquad" +
+		"ragintacentillionquattuorquadragintacentillionquinquadragintacentillionsesquadragintacentillions" +
+		"eptenquadragintacentillionoctoquadragintacentillionnovenquadragintacentillionquinquagintacentill" +
+		"ionunquinquagintacentillionduoquinquagintacentilliontresquinquagintacentillionquattuorquinquagin" +
+		"tacentillionquinquinquagintacentillionsesquinquagintacentillionseptenquinquagintacentillionoctoq" +
+		"uinquagintacentillionnovenquinquagintacentillionsexagintacentillionunsexagintacentillionduosexag" +
+		"intacentilliontresexagintacentillionquattuorsexagintacentillionquinsexagintacentillionsesexagint" +
+		"acentillionseptensexagintacentillionoctosexagintacentillionnovensexagintacentillionseptuagintace" +
+		"ntillionunseptuagintacentillionduoseptuagintacentilliontreseptuagintacentillionquattuorseptuagin" +
+		"tacentillionquinseptuagintacentillionseseptuagintacentillionseptenseptuagintacentillionoctoseptu" +
+		"agintacentillionnovenseptuagintacentillionoctogintacentillionunoctogintacentillionduooctogintace" +
+		"ntilliontresoctogintacentillionquattuoroctogintacentillionquinoctogintacentillionsexoctogintacen" +
+		"tillionseptemoctogintacentillionoctooctogintacentillionnovemoctogintacentillionnonagintacentilli" +
+		"onunnonagintacentillionduononagintacentilliontrenonagintacentillionquattuornonagintacentillionqu" +
+		"innonagintacentillionsenonagintacentillionseptenonagintacentillionoctononagintacentillionnovenon" +
+		"agintacentillionducentillionunducentillionduoducentilliontreducentillionquattuorducentillionquin" +
+		"ducentillionseducentillionseptenducentillionoctoducentillionnovenducentilliondeciducentillionund" +
+		"eciducentillionduodeciducentilliontredeciducentillionquattuordeciducentillionquindeciducentillio" +
+		"nsedeciducentillionseptendeciducentillionoctodeciducentillionnovendeciducentillionvigintiducenti" +
+		"llionunvigintiducentillionduovigintiducentilliontresvigintiducentillionquattuorvigintiducentilli" +
+		"onquinvigintiducentillionsesvigintiducentillionseptemvigintiducentillionoctovigintiducentillionn" +
+		"ovemvigintiducentilliontrigintaducentillionuntrigintaducentillionduotrigintaducentilliontrestrig" +
+		"intaducentillionquattuortrigintaducentillionquintrigintaducentillionsestrigintaducentillionsepte" +
+		"ntrigintaducentillionoctotrigintaducentillionnoventrigintaducentillionquadragintaducentillionunq" +
+		"uadragintaducentillionduoquadragintaducentilliontresquadragintaducentillionquattuorquadragintadu" +
+		"centillionquinquadragintaducentillionsesquadragintaducentillionseptenquadragintaducentillionocto" +
+		"quadragintaducentillionnovenquadragintaducentillionquinquagintaducentillionunquinquagintaducenti" +
+		"llionduoquinquagintaducentilliontresquinquagintaducentillionquattuorquinquagintaducentillionquin" +
+		"quinquagintaducentillionsesquinquagintaducentillionseptenquinquagintaducentillionoctoquinquagint" +
+		"aducentillionnovenquinquagintaducentillionsexagintaducentillionunsexagintaducentillionduosexagin" +
+		"taducentilliontresexagintaducentillionquattuorsexagintaducentillionquinsexagintaducentillionsese" +
+		"xagintaducentillionseptensexagintaducentillionoctosexagintaducentillionnovensexagintaducentillio" +
+		"nseptuagintaducentillionunseptuagintaducentillionduoseptuagintaducentilliontreseptuagintaducenti" +
+		"llionquattuorseptuagintaducentillionquinseptuagintaducentillionseseptuagintaducentillionseptense" +
+		"ptuagintaducentillionoctoseptuagintaducentillionnovenseptuagintaducentillionoctogintaducentillio" +
+		"nunoctogintaducentillionduooctogintaducentilliontresoctogintaducentillionquattuoroctogintaducent" +
+		"illionquinoctogintaducentillionsexoctogintaducentillionseptemoctogintaducentillionoctooctogintad" +
+		"ucentillionnovemoctogintaducentillionnonagintaducentillionunnonagintaducentillionduononagintaduc" +
+		"entilliontrenonagintaducentillionquattuornonagintaducentillionquinnonagintaducentillionsenonagin" +
+		"taducentillionseptenonagintaducentillionoctononagintaducentillionnovenonagintaducentilliontrecen" +
+		"tillionuntrecentillionduotrecentilliontrestrecentillionquattuortrecentillionquintrecentillionses" +
+		"trecentillionseptentrecentillionoctotrecentillionnoventrecentilliondecitrecentillionundecitrecen" +
+		"tillionduodecitrecentilliontredecitrecentillionquattuordecitrecentillionquindecitrecentillionsed" +
+		"ecitrecentillionseptendecitrecentillionoctodecitrecentillionnovendecitrecentillionvigintitrecent" +
+		"illionunvigintitrecentillionduovigintitrecentilliontresvigintitrecentillionquattuorvigintitrecen" +
+		"tillionquinvigintitrecentillionsesvigintitrecentillionseptemvigintitrecentillionoctovigintitrece" +
+		"ntillionnovemvigintitrecentilliontrigintatrecentillionuntrigintatrecentillionduotrigintatrecenti" +
+		"lliontrestrigintatrecentillionquattuortrigintatrecentillionquintrigintatrecentillionsestrigintat" +
+		"recentillionseptentrigintatrecentillionoctotrigintatrecentillionnoventrigintatrecentillionquadra" +
+		"gintatrecentillionunquadragintatrecentillionduoquadragintatrecentilliontresquadragintatrecentill" +
+		"ionquattuorquadragintatrecentillionquinquadragintatrecentillionsesquadragintatrecentillionsepten" +
+		"quadragintatrecentillionoctoquadragintatrecentillionnovenquadragintatrecentillionquinquagintatre" +
+		"centillionunquinquagintatrecentillionduoquinquagintatrecentilliontresquinquagintatrecentillionqu" +
+		"attuorquinquagintatrecentillionquinquinquagintatrecentillionsesquinquagintatrecentillionseptenqu" +
+		"inquagintatrecentillionoctoquinquagintatrecentillionnovenquinquagintatrecentillionsexagintatrece" +
+		"ntillionunsexagintatrecentillionduosexagintatrecentilliontresexagintatrecentillionquattuorsexagi" +
+		"ntatrecentillionquinsexagintatrecentillionsesexagintatrecentillionseptensexagintatrecentillionoc" +
+		"tosexagintatrecentillionnovensexagintatrecentillionseptuagintatrecentillionunseptuagintatrecenti" +
+		"llionduoseptuagintatrecentilliontreseptuagintatrecentillionquattuorseptuagintatrecentillionquins" +
+		"eptuagintatrecentillionseseptuagintatrecentillionseptenseptuagintatrecentillionoctoseptuagintatr" +
+		"ecentillionnovenseptuagintatrecentillionoctogintatrecentillionunoctogintatrecentillionduooctogin" +
+		"tatrecentilliontresoctogintatrecentillionquattuoroctogintatrecentillionquinoctogintatrecentillio" +
+		"nsexoctogintatrecentillionseptemoctogintatrecentillionoctooctogintatrecentillionnovemoctogintatr" +
+		"ecentillionnonagintatrecentillionunnonagintatrecentillionduononagintatrecentilliontrenonagintatr" +
+		"ecentillionquattuornonagintatrecentillionquinnonagintatrecentillionsenonagintatrecentillionsepte" +
+		"nonagintatrecentillionoctononagintatrecentillionnovenonagintatrecentillionquadringentillionunqua" +
+		"dringentillionduoquadringentilliontresquadringentillionquattuorquadringentillionquinquadringenti" +
+		"llionsesquadringentillionseptenquadringentillionoctoquadringentillionnovenquadringentilliondeciq" +
+		"uadringentillionundeciquadringentillionduodeciquadringentilliontredeciquadringentillionquattuord" +
+		"eciquadringentillionquindeciquadringentillionsedeciquadringentillionseptendeciquadringentilliono" +
+		"ctodeciquadringentillionnovendeciquadringentillionvigintiquadringentillionunvigintiquadringentil" +
+		"lionduovigintiquadringentilliontresvigintiquadringentillionquattuorvigintiquadringentillionquinv" +
+		"igintiquadringentillionsesvigintiquadringentillionseptemvigintiquadringentillionoctovigintiquadr" +
+		"ingentillionnovemvigintiquadringentilliontrigintaquadringentillionuntrigintaquadringentillionduo" +
+		"trigintaquadringentilliontrestrigintaquadringentillionquattuortrigintaquadringentillionquintrigi" +
+		"ntaquadringentillionsestrigintaquadringentillionseptentrigintaquadringentillionoctotrigintaquadr" +
+		"ingentillionnoventrigintaquadringentillionquadragintaquadringentillionunquadragintaquadringentil" +
+		"lionduoquadragintaquadringentilliontresquadragintaquadringentillionquattuorquadragintaquadringen" +
+		"tillionquinquadragintaquadringentillionsesquadragintaquadringentillionseptenquadragintaquadringe" +
+		"ntillionoctoquadragintaquadringentillionnovenquadragintaquadringentillionquinquagintaquadringent" +
+		"illionunquinquagintaquadringentillionduoquinquagintaquadringentilliontresquinquagintaquadringent" +
+		"illionquattuorquinquagintaquadringentillionquinquinquagintaquadringentillionsesquinquagintaquadr" +
+		"ingentillionseptenquinquagintaquadringentillionoctoquinquagintaquadringentillionnovenquinquagint" +
+		"aquadringentillionsexagintaquadringentillionunsexagintaquadringentillionduosexagintaquadringenti" +
+		"lliontresexagintaquadringentillionquattuorsexagintaquadringentillionquinsexagintaquadringentilli" +
+		"onsesexagintaquadringentillionseptensexagintaquadringentillionoctosexagintaquadringentillionnove" +
+		"nsexagintaquadringentillionseptuagintaquadringentillionunseptuagintaquadringentillionduoseptuagi" +
+		"ntaquadringentilliontreseptuagintaquadringentillionquattuorseptuagintaquadringentillionquinseptu" +
+		"agintaquadringentillionseseptuagintaquadringentillionseptenseptuagintaquadringentillionoctoseptu" +
+		"agintaquadringentillionnovenseptuagintaquadringentillionoctogintaquadringentillionunoctogintaqua" +
+		"dringentillionduooctogintaquadringentilliontresoctogintaquadringentillionquattuoroctogintaquadri" +
+		"ngentillionquinoctogintaquadringentillionsexoctogintaquadringentillionseptemoctogintaquadringent" +
+		"illionoctooctogintaquadringentillionnovemoctogintaquadringentillionnonagintaquadringentillionunn" +
+		"onagintaquadringentillionduononagintaquadringentilliontrenonagintaquadringentillionquattuornonag" +
+		"intaquadringentillionquinnonagintaquadringentillionsenonagintaquadringentillionseptenonagintaqua" +
+		"dringentillionoctononagintaquadringentillionnovenonagintaquadringentillionquingentillionunquinge" +
+		"ntillionduoquingentilliontresquingentillionquattuorquingentillionquinquingentillionsesquingentil" +
+		"lionseptenquingentillionoctoquingentillionnovenquingentilliondeciquingentillionundeciquingentill" +
+		"ionduodeciquingentilliontredeciquingentillionquattuordeciquingentillionquindeciquingentillionsed" +
+		"eciquingentillionseptendeciquingentillionoctodeciquingentillionnovendeciquingentillionvigintiqui" +
+		"ngentillionunvigintiquingentillionduovigintiquingentilliontresvigintiquingentillionquattuorvigin" +
+		"tiquingentillionquinvigintiquingentillionsesvigintiquingentillionseptemvigintiquingentillionocto" +
+		"vigintiquingentillionnovemvigintiquingentilliontrigintaquingentillionuntrigintaquingentillionduo" +
+		"trigintaquingentilliontrestrigintaquingentillionquattuortrigintaquingentillionquintrigintaquinge" +
+		"ntillionsestrigintaquingentillionseptentrigintaquingentillionoctotrigintaquingentillionnoventrig" +
+		"intaquingentillionquadragintaquingentillionunquadragintaquingentillionduoquadragintaquingentilli" +
+		"ontresquadragintaquingentillionquattuorquadragintaquingentillionquinquadragintaquingentillionses" +
+		"quadragintaquingentillionseptenquadragintaquingentillionoctoquadragintaquingentillionnovenquadra" +
+		"gintaquingentillionquinquagintaquingentillionunquinquagintaquingentillionduoquinquagintaquingent" +
+		"illiontresquinquagintaquingentillionquattuorquinquagintaquingentillionquinquinquagintaquingentil" +
+		"lionsesquinquagintaquingentillionseptenquinquagintaquingentillionoctoquinquagintaquingentillionn" +
+		"ovenquinquagintaquingentillionsexagintaquingentillionunsexagintaquingentillionduosexagintaquinge" +
+		"ntilliontresexagintaquingentillionquattuorsexagintaquingentillionquinsexagintaquingentillionsese" +
+		"xagintaquingentillionseptensexagintaquingentillionoctosexagintaquingentillionnovensexagintaquing" +
+		"entillionseptuagintaquingentillionunseptuagintaquingentillionduoseptuagintaquingentilliontresept" +
+		"uagintaquingentillionquattuorseptuagintaquingentillionquinseptuagintaquingentillionseseptuaginta" +
+		"quingentillionseptenseptuagintaquingentillionoctoseptuagintaquingentillionnovenseptuagintaquinge" +
+		"ntillionoctogintaquingentillionunoctogintaquingentillionduooctogintaquingentilliontresoctogintaq" +
+		"uingentillionquattuoroctogintaquingentillionquinoctogintaquingentillionsexoctogintaquingentillio" +
+		"nseptemoctogintaquingentillionoctooctogintaquingentillionnovemoctogintaquingentillionnonagintaqu" +
+		"ingentillionunnonagintaquingentillionduononagintaquingentilliontrenonagintaquingentillionquattuo" +
+		"rnonagintaquingentillionquinnonagintaquingentillionsenonagintaquingentillionseptenonagintaquinge" +
+		"ntillionoctononagintaquingentillionnovenonagintaquingentillionsescentillionunsescentillionduoses" +
+		"centilliontresescentillionquattuorsescentillionquinsescentillionsesescentillionseptensescentilli" +
+		"onoctosescentillionnovensescentilliondecisescentillionundecisescentillionduodecisescentilliontre" +
+		"decisescentillionquattuordecisescentillionquindecisescentillionsedecisescentillionseptendecisesc" +
+		"entillionoctodecisescentillionnovendecisescentillionvigintisescentillionunvigintisescentilliondu" +
+		"ovigintisescentilliontresvigintisescentillionquattuorvigintisescentillionquinvigintisescentillio" +
+		"nsesvigintisescentillionseptemvigintisescentillionoctovigintisescentillionnovemvigintisescentill" +
+		"iontrigintasescentillionuntrigintasescentillionduotrigintasescentilliontrestrigintasescentillion" +
+		"quattuortrigintasescentillionquintrigintasescentillionsestrigintasescentillionseptentrigintasesc" +
+		"entillionoctotrigintasescentillionnoventrigintasescentillionquadragintasescentillionunquadragint" +
+		"asescentillionduoquadragintasescentilliontresquadragintasescentillionquattuorquadragintasescenti" +
+		"llionquinquadragintasescentillionsesquadragintasescentillionseptenquadragintasescentillionoctoqu" +
+		"adragintasescentillionnovenquadragintasescentillionquinquagintasescentillionunquinquagintasescen" +
+		"tillionduoquinquagintasescentilliontresquinquagintasescentillionquattuorquinquagintasescentillio" +
+		"nquinquinquagintasescentillionsesquinquagintasescentillionseptenquinquagintasescentillionoctoqui" +
+		"nquagintasescentillionnovenquinquagintasescentillionsexagintasescentillionunsexagintasescentilli" +
+		"onduosexagintasescentilliontresexagintasescentillionquattuorsexagintasescentillionquinsexagintas" +
+		"escentillionsesexagintasescentillionseptensexagintasescentillionoctosexagintasescentillionnovens" +
+		"exagintasescentillionseptuagintasescentillionunseptuagintasescentillionduoseptuagintasescentilli" +
+		"ontreseptuagintasescentillionquattuorseptuagintasescentillionquinseptuagintasescentillionseseptu" +
+		"agintasescentillionseptenseptuagintasescentillionoctoseptuagintasescentillionnovenseptuagintases" +
+		"centillionoctogintasescentillionunoctogintasescentillionduooctogintasescentilliontresoctogintase" +
+		"scentillionquattuoroctogintasescentillionquinoctogintasescentillionsexoctogintasescentillionsept" +
+		"emoctogintasescentillionoctooctogintasescentillionnovemoctogintasescentillionnonagintasescentill" +
+		"ionunnonagintasescentillionduononagintasescentilliontrenonagintasescentillionquattuornonagintase" +
+		"scentillionquinnonagintasescentillionsenonagintasescentillionseptenonagintasescentillionoctonona" +
+		"gintasescentillionnovenonagintasescentillionseptingentillionunseptingentillionduoseptingentillio" +
+		"ntreseptingentillionquattuorseptingentillionquinseptingentillionseseptingentillionseptenseptinge" +
+		"ntillionoctoseptingentillionnovenseptingentilliondeciseptingentillionundeciseptingentillionduode" +
+		"ciseptingentilliontredeciseptingentillionquattuordeciseptingentillionquindeciseptingentillionsed" +
+		"eciseptingentillionseptendeciseptingentillionoctodeciseptingentillionnovendeciseptingentillionvi" +
+		"gintiseptingentillionunvigintiseptingentillionduovigintiseptingentilliontresvigintiseptingentill" +
+		"ionquattuorvigintiseptingentillionquinvigintiseptingentillionsesvigintiseptingentillionseptemvig" +
+		"intiseptingentillionoctovigintiseptingentillionnovemvigintiseptingentilliontrigintaseptingentill" +
+		"ionuntrigintaseptingentillionduotrigintaseptingentilliontrestrigintaseptingentillionquattuortrig" +
+		"intaseptingentillionquintrigintaseptingentillionsestrigintaseptingentillionseptentrigintasepting" +
+		"entillionoctotrigintaseptingentillionnoventrigintaseptingentillionquadragintaseptingentillionunq" +
+		"uadragintaseptingentillionduoquadragintaseptingentilliontresquadragintaseptingentillionquattuorq" +
+		"uadragintaseptingentillionquinquadragintaseptingentillionsesquadragintaseptingentillionseptenqua" +
+		"dragintaseptingentillionoctoquadragintaseptingentillionnovenquadragintaseptingentillionquinquagi" +
+		"ntaseptingentillionunquinquagintaseptingentillionduoquinquagintaseptingentilliontresquinquaginta" +
+		"septingentillionquattuorquinquagintaseptingentillionquinquinquagintaseptingentillionsesquinquagi" +
+		"ntaseptingentillionseptenquinquagintaseptingentillionoctoquinquagintaseptingentillionnovenquinqu" +
+		"agintaseptingentillionsexagintaseptingentillionunsexagintaseptingentillionduosexagintaseptingent" +
+		"illiontresexagintaseptingentillionquattuorsexagintaseptingentillionquinsexagintaseptingentillion" +
+		"sesexagintaseptingentillionseptensexagintaseptingentillionoctosexagintaseptingentillionnovensexa" +
+		"gintaseptingentillionseptuagintaseptingentillionunseptuagintaseptingentillionduoseptuagintasepti" +
+		"ngentilliontreseptuagintaseptingentillionquattuorseptuagintaseptingentillionquinseptuagintasepti" +
+		"ngentillionseseptuagintaseptingentillionseptenseptuagintaseptingentillionoctoseptuagintaseptinge" +
+		"ntillionnovenseptuagintaseptingentillionoctogintaseptingentillionunoctogintaseptingentillionduoo" +
+		"ctogintaseptingentilliontresoctogintaseptingentillionquattuoroctogintaseptingentillionquinoctogi" +
+		"ntaseptingentillionsexoctogintaseptingentillionseptemoctogintaseptingentillionoctooctogintasepti" +
+		"ngentillionnovemoctogintaseptingentillionnonagintaseptingentillionunnonagintaseptingentillionduo" +
+		"nonagintaseptingentilliontrenonagintaseptingentillionquattuornonagintaseptingentillionquinnonagi" +
+		"ntaseptingentillionsenonagintaseptingentillionseptenonagintaseptingentillionoctononagintasepting" +
+		"entillionnovenonagintaseptingentillionoctingentillionunoctingentillionduooctingentilliontresocti" +
+		"ngentillionquattuoroctingentillionquinoctingentillionsexoctingentillionseptemoctingentillionocto" +
+		"octingentillionnovemoctingentilliondecioctingentillionundecioctingentillionduodecioctingentillio" +
+		"ntredecioctingentillionquattuordecioctingentillionquindecioctingentillionsedecioctingentillionse" +
+		"ptendecioctingentillionoctodecioctingentillionnovendecioctingentillionvigintioctingentillionunvi" +
+		"gintioctingentillionduovigintioctingentilliontresvigintioctingentillionquattuorvigintioctingenti" +
+		"llionquinvigintioctingentillionsesvigintioctingentillionseptemvigintioctingentillionoctovigintio" +
+		"ctingentillionnovemvigintioctingentilliontrigintaoctingentillionuntrigintaoctingentillionduotrig" +
+		"intaoctingentilliontrestrigintaoctingentillionquattuortrigintaoctingentillionquintrigintaoctinge" +
+		"ntillionsestrigintaoctingentillionseptentrigintaoctingentillionoctotrigintaoctingentillionnovent" +
+		"rigintaoctingentillionquadragintaoctingentillionunquadragintaoctingentillionduoquadragintaocting" +
+		"entilliontresquadragintaoctingentillionquattuorquadragintaoctingentillionquinquadragintaoctingen" +
+		"tillionsesquadragintaoctingentillionseptenquadragintaoctingentillionoctoquadragintaoctingentilli" +
+		"onnovenquadragintaoctingentillionquinquagintaoctingentillionunquinquagintaoctingentillionduoquin" +
+		"quagintaoctingentilliontresquinquagintaoctingentillionquattuorquinquagintaoctingentillionquinqui" +
+		"nquagintaoctingentillionsesquinquagintaoctingentillionseptenquinquagintaoctingentillionoctoquinq" +
+		"uagintaoctingentillionnovenquinquagintaoctingentillionsexagintaoctingentillionunsexagintaoctinge" +
+		"ntillionduosexagintaoctingentilliontresexagintaoctingentillionquattuorsexagintaoctingentillionqu" +
+		"insexagintaoctingentillionsesexagintaoctingentillionseptensexagintaoctingentillionoctosexagintao" +
+		"ctingentillionnovensexagintaoctingentillionseptuagintaoctingentillionunseptuagintaoctingentillio" +
+		"nduoseptuagintaoctingentilliontreseptuagintaoctingentillionquattuorseptuagintaoctingentillionqui" +
+		"nseptuagintaoctingentillionseseptuagintaoctingentillionseptenseptuagintaoctingentillionoctoseptu" +
+		"agintaoctingentillionnovenseptuagintaoctingentillionoctogintaoctingentillionunoctogintaoctingent" +
+		"illionduooctogintaoctingentilliontresoctogintaoctingentillionquattuoroctogintaoctingentillionqui" +
+		"noctogintaoctingentillionsexoctogintaoctingentillionseptemoctogintaoctingentillionoctooctogintao" +
+		"ctingentillionnovemoctogintaoctingentillionnonagintaoctingentillionunnonagintaoctingentillionduo" +
+		"nonagintaoctingentilliontrenonagintaoctingentillionquattuornonagintaoctingentillionquinnonaginta" +
+		"octingentillionsenonagintaoctingentillionseptenonagintaoctingentillionoctononagintaoctingentilli" +
+		"onnovenonagintaoctingentillionnongentillionunnongentillionduonongentilliontrenongentillionquattu" +
+		"ornongentillionquinnongentillionsenongentillionseptenongentillionoctonongentillionnovenongentill" +
+		"iondecinongentillionundecinongentillionduodecinongentilliontredecinongentillionquattuordecinonge" +
+		"ntillionquindecinongentillionsedecinongentillionseptendecinongentillionoctodecinongentillionnove" +
+		"ndecinongentillionvigintinongentillionunvigintinongentillionduovigintinongentilliontresvigintino" +
+		"ngentillionquattuorvigintinongentillionquinvigintinongentillionsesvigintinongentillionseptemvigi" +
+		"ntinongentillionoctovigintinongentillionnovemvigintinongentilliontrigintanongentillionuntriginta" +
+		"nongentillionduotrigintanongentilliontrestrigintanongentillionquattuortrigintanongentillionquint" +
+		"rigintanongentillionsestrigintanongentillionseptentrigintanongentillionoctotrigintanongentillion" +
+		"noventrigintanongentillionquadragintanongentillionunquadragintanongentillionduoquadragintanongen" +
+		"tilliontresquadragintanongentillionquattuorquadragintanongentillionquinquadragintanongentillions" +
+		"esquadragintanongentillionseptenquadragintanongentillionoctoquadragintanongentillionnovenquadrag" +
+		"intanongentillionquinquagintanongentillionunquinquagintanongentillionduoquinquagintanongentillio" +
+		"ntresquinquagintanongentillionquattuorquinquagintanongentillionquinquinquagintanongentillionsesq" +
+		"uinquagintanongentillionseptenquinquagintanongentillionoctoquinquagintanongentillionnovenquinqua" +
+		"gintanongentillionsexagintanongentillionunsexagintanongentillionduosexagintanongentilliontresexa" +
+		"gintanongentillionquattuorsexagintanongentillionquinsexagintanongentillionsesexagintanongentilli" +
+		"onseptensexagintanongentillionoctosexagintanongentillionnovensexagintanongentillionseptuagintano" +
+		"ngentillionunseptuagintanongentillionduoseptuagintanongentilliontreseptuagintanongentillionquatt" +
+		"uorseptuagintanongentillionquinseptuagintanongentillionseseptuagintanongentillionseptenseptuagin" +
+		"tanongentillionoctoseptuagintanongentillionnovenseptuagintanongentillionoctogintanongentillionun" +
+		"octogintanongentillionduooctogintanongentilliontresoctogintanongentillionquattuoroctogintanongen" +
+		"tillionquinoctogintanongentillionsexoctogintanongentillionseptemoctogintanongentillionoctooctogi" +
+		"ntanongentillionnovemoctogintanongentillionnonagintanongentillionunnonagintanongentillionduonona" +
+		"gintanongentilliontrenonagintanongentillionquattuornonagintanongentillionquinnonagintanongentill" +
+		"ionsenonagintanongentillionseptenonagintanongentillionoctononagintanongentillionnovenonagintanon" +
+		"gentillion";
+
+	public final static String SCALES_ENDS =
+		"\010\017\026\036)4>HQZcnz\206\227\244\260\277\313\331\345\363\u0102\u0111\u0125\u0135\u0144\u0156\u0166\u0177\u0184\u0193\u01a3\u01b3\u01c8\u01d9\u01e9\u01fc\u020d\u021f\u022f\u0241\u0254\u0268\u0280\u0291\u02a4\u02ba\u02ce\u02e3\u02f4\u0307\u031b\u0330\u0349\u035e\u0372\u0389\u039e\u03b4\u03c2\u03d2\u03e3\u03f4\u040a\u041c\u042c\u0440\u0452\u0465\u0475\u0487\u049a\u04ad\u04c5\u04d9\u04eb\u0501\u0515\u052a\u0538\u0548\u0559\u056b\u0581\u0593\u05a4\u05b8\u05ca\u05dd\u05eb\u05fb\u060c\u061d\u0633\u0645" +
+		"\u0655\u0668\u067a\u068c\u0696\u06a2\u06af\u06bd\u06cf\u06dd\u06ea\u06fa\u0708\u0717\u0725\u0735\u0746\u0757\u076d\u077f\u078f\u07a3\u07b5\u07c8\u07d9\u07ec\u0800\u0815\u082e\u0843\u0857\u086e\u0883\u0899\u08ab\u08bf\u08d4\u08ea\u0904\u091a\u092f\u0947\u095d\u0974\u0989\u09a0\u09b8\u09d1\u09ee\u0a07\u0a1f\u0a3a\u0a53\u0a6d\u0a83\u0a9b\u0ab4\u0ace\u0aec\u0b06\u0b1f\u0b3b\u0b55\u0b70\u0b83\u0b98\u0bae\u0bc4\u0bdf\u0bf6\u0c0b\u0c24\u0c3b\u0c53\u0c68\u0c7f\u0c97\u0caf\u0ccc\u0ce5\u0cfc\u0d17\u0d30\u0d4a\u0d5d\u0d72\u0d88\u0d9f\u0dba\u0dd1\u0de7\u0e00\u0e17\u0e2f\u0e42\u0e57" +
+		"\u0e6d\u0e83\u0e9e\u0eb5\u0eca\u0ee2\u0ef9\u0f10\u0f1c\u0f2a\u0f39\u0f48\u0f5c\u0f6c\u0f7a\u0f8c\u0f9c\u0fad\u0fbd\u0fcf\u0fe2\u0ff5\u100d\u1021\u1033\u1049\u105d\u1072\u1085\u109a\u10b0\u10c7\u10e2\u10f9\u110f\u1128\u113f\u1157\u116b\u1181\u1198\u11b0\u11cc\u11e4\u11fb\u1215\u122d\u1246\u125d\u1276\u1290\u12ab\u12ca\u12e5\u12ff\u131c\u1337\u1353\u136b\u1385\u13a0\u13bc\u13dc\u13f8\u1413\u1431\u144d\u146a\u147f\u1496\u14ae\u14c6\u14e3\u14fc\u1513\u152e\u1547\u1561\u1578\u1591\u15ab\u15c5\u15e4\u15ff\u1618\u1635\u1650\u166c\u1681\u1698\u16b0\u16c9\u16e6\u16ff\u1717\u1732" +
+		"\u174b\u1765\u177a\u1791\u17a9\u17c1\u17de\u17f7\u180e\u1828\u1841\u185a\u1867\u1876\u1886\u1897\u18ac\u18bd\u18cd\u18e0\u18f1\u1903\u1914\u1927\u193b\u194f\u1968\u197d\u1990\u19a7\u19bc\u19d2\u19e6\u19fc\u1a13\u1a2b\u1a47\u1a5f\u1a76\u1a90\u1aa8\u1ac1\u1ad6\u1aed\u1b05\u1b1e\u1b3b\u1b54\u1b6c\u1b87\u1ba0\u1bba\u1bd2\u1bec\u1c07\u1c23\u1c43\u1c5f\u1c7a\u1c98\u1cb4\u1cd1\u1cea\u1d05\u1d21\u1d3e\u1d5f\u1d7c\u1d98\u1db7\u1dd4\u1df2\u1e08\u1e20\u1e39\u1e52\u1e70\u1e8a\u1ea2\u1ebe\u1ed8\u1ef3\u1f0b\u1f25\u1f40\u1f5b\u1f7b\u1f97\u1fb1\u1fcf\u1feb\u2008\u201e\u2036\u204f\u2069" +
+		"\u2087\u20a1\u20ba\u20d6\u20f0\u210b\u2121\u2139\u2152\u216b\u2189\u21a3\u21bb\u21d6\u21f0\u220a\u221b\u222e\u2242\u2257\u2270\u2285\u2299\u22b0\u22c5\u22db\u22f0\u2307\u231f\u2337\u2354\u236d\u2384\u239f\u23b8\u23d2\u23ea\u2404\u241f\u243b\u245b\u2477\u2492\u24b0\u24cc\u24e9\u2502\u251d\u2539\u2556\u2577\u2594\u25b0\u25cf\u25ec\u260a\u2626\u2644\u2663\u2683\u26a7\u26c7\u26e6\u2708\u2728\u2749\u2766\u2785\u27a5\u27c6\u27eb\u280c\u282c\u284f\u2870\u2892\u28ac\u28c8\u28e5\u2902\u2924\u2942\u295e\u297e\u299c\u29bb\u29d7\u29f5\u2a14\u2a33\u2a57\u2a77\u2a95\u2ab7\u2ad7\u2af8" +
+		"\u2b12\u2b2e\u2b4b\u2b69\u2b8b\u2ba9\u2bc6\u2be6\u2c04\u2c23\u2c3d\u2c59\u2c76\u2c93\u2cb5\u2cd3\u2cef\u2d0e\u2d2c\u2d4a\u2d58\u2d68\u2d79\u2d8b\u2da1\u2db3\u2dc4\u2dd8\u2dea\u2dfd\u2e0f\u2e23\u2e38\u2e4d\u2e67\u2e7d\u2e91\u2ea9\u2ebf\u2ed6\u2eeb\u2f02\u2f1a\u2f33\u2f50\u2f69\u2f81\u2f9c\u2fb5\u2fcf\u2fe5\u2ffd\u3016\u3030\u304e\u3068\u3081\u309d\u30b7\u30d2\u30eb\u3106\u3122\u313f\u3160\u317d\u3199\u31b8\u31d5\u31f3\u320d\u3229\u3246\u3264\u3286\u32a4\u32c1\u32e1\u32ff\u331e\u3335\u334e\u3368\u3382\u33a1\u33bc\u33d5\u33f2\u340d\u3429\u3442\u345d\u3479\u3495\u34b6\u34d3" +
+		"\u34ee\u350d\u352a\u3548\u355f\u3578\u3592\u35ad\u35cc\u35e7\u3601\u361e\u3639\u3655\u366c\u3685\u369f\u36b9\u36d8\u36f3\u370c\u3728\u3743\u375e\u376b\u377a\u378a\u379a\u37af\u37c0\u37cf\u37e2\u37f3\u3805\u3816\u3829\u383d\u3851\u386a\u387f\u3892\u38a9\u38be\u38d4\u38e8\u38fe\u3915\u392d\u3949\u3961\u3978\u3992\u39aa\u39c3\u39d8\u39ef\u3a07\u3a20\u3a3d\u3a56\u3a6e\u3a89\u3aa2\u3abc\u3ad4\u3aee\u3b09\u3b25\u3b45\u3b61\u3b7c\u3b9a\u3bb6\u3bd3\u3bec\u3c07\u3c23\u3c40\u3c61\u3c7e\u3c9a\u3cb9\u3cd6\u3cf4\u3d0a\u3d22\u3d3b\u3d54\u3d72\u3d8c\u3da4\u3dc0\u3dda\u3df5\u3e0d\u3e27" +
+		"\u3e42\u3e5d\u3e7d\u3e99\u3eb3\u3ed1\u3eed\u3f0a\u3f20\u3f38\u3f51\u3f6b\u3f89\u3fa3\u3fbc\u3fd8\u3ff2\u400d\u4023\u403b\u4054\u406d\u408b\u40a5\u40bd\u40d8\u40f2\u410c\u411c\u412e\u4141\u4154\u416c\u4180\u4192\u41a8\u41bc\u41d1\u41e5\u41fb\u4212\u4229\u4245\u425d\u4273\u428d\u42a5\u42be\u42d5\u42ee\u4308\u4323\u4342\u435d\u4377\u4394\u43af\u43cb\u43e3\u43fd\u4418\u4434\u4454\u4470\u448b\u44a9\u44c5\u44e2\u44fd\u451a\u4538\u4557\u457a\u4599\u45b7\u45d8\u45f7\u4617\u4633\u4651\u4670\u4690\u46b4\u46d4\u46f3\u4715\u4735\u4756\u476f\u478a\u47a6\u47c2\u47e3\u4800\u481b\u483a" +
+		"\u4857\u4875\u4890\u48ad\u48cb\u48e9\u490c\u492b\u4948\u4969\u4988\u49a8\u49c1\u49dc\u49f8\u4a15\u4a36\u4a53\u4a6f\u4a8e\u4aab\u4ac9\u4ae2\u4afd\u4b19\u4b35\u4b56\u4b73\u4b8e\u4bac\u4bc9\u4be6\u4bf5\u4c06\u4c18\u4c2b\u4c42\u4c55\u4c67\u4c7c\u4c8f\u4ca3\u4cb6\u4ccb\u4ce1\u4cf7\u4d12\u4d29\u4d3e\u4d57\u4d6e\u4d86\u4d9c\u4db4\u4dcd\u4de7\u4e05\u4e1f\u4e38\u4e54\u4e6e\u4e89\u4ea0\u4eb9\u4ed3\u4eee\u4f0d\u4f28\u4f42\u4f5f\u4f7a\u4f96\u4fb0\u4fcc\u4fe9\u5007\u5029\u5047\u5064\u5084\u50a2\u50c1\u50dc\u50f9\u5117\u5136\u5159\u5178\u5196\u51b7\u51d6\u51f6\u520e\u5228\u5243\u525e" +
+		"\u527e\u529a\u52b4\u52d2\u52ee\u530b\u5325\u5341\u535e\u537b\u539d\u53bb\u53d7\u53f7\u5415\u5434\u544c\u5466\u5481\u549d\u54bd\u54d9\u54f4\u5512\u552e\u554b\u5563\u557d\u5598\u55b3\u55d3\u55ef\u5609\u5626\u5642\u565e\u566b\u567a\u568a\u569a\u56af\u56c0\u56cf\u56e1\u56f2\u5703\u5714\u5727\u573b\u574f\u5768\u577d\u5790\u57a7\u57bc\u57d2\u57e6\u57fc\u5813\u582b\u5847\u585f\u5876\u5890\u58a8\u58c1\u58d6\u58ed\u5905\u591e\u593b\u5954\u596c\u5987\u59a0\u59ba\u59d2\u59ec\u5a07\u5a23\u5a43\u5a5f\u5a7a\u5a98\u5ab4\u5ad1\u5aea\u5b05\u5b21\u5b3e\u5b5f\u5b7c\u5b98\u5bb7\u5bd4\u5bf2" +
+		"\u5c08\u5c20\u5c39\u5c52\u5c70\u5c8a\u5ca2\u5cbe\u5cd8\u5cf3\u5d0b\u5d25\u5d40\u5d5b\u5d7b\u5d97\u5db1\u5dcf\u5deb\u5e08\u5e1e\u5e36\u5e4f\u5e69\u5e87\u5ea1\u5eba\u5ed6\u5ef0\u5f0b\u5f21\u5f39\u5f52\u5f6b\u5f89\u5fa3\u5fbb\u5fd6\u5ff0\u600a";
+
+	public final static String WITH_AND_BYTES =
+		"and oneand twoand threeand fourand fiveand sixand sevenand eightand nineand tenand elevenand twe" +
+		"lveand thirteenand fourteenand fifteenand sixteenand seventeenand eighteenand nineteenand twenty" +
+		"and twenty oneand twenty twoand twenty threeand twenty fourand twenty fiveand twenty sixand twen" +
+		"ty sevenand twenty eightand twenty nineand thirtyand thirty oneand thirty twoand thirty threeand" +
+		" thirty fourand thirty fiveand thirty sixand thirty sevenand thirty eightand thirty nineand fort" +
+		"yand forty oneand forty twoand forty threeand forty fourand forty fiveand forty sixand forty sev" +
+		"enand forty eightand forty nineand fiftyand fifty oneand fifty twoand fifty threeand fifty foura" +
+		"nd fifty fiveand fifty sixand fifty sevenand fifty eightand fifty nineand sixtyand sixty oneand " +
+		"sixty twoand sixty threeand sixty fourand sixty fiveand sixty sixand sixty sevenand sixty eighta" +
+		"nd sixty nineand seventyand seventy oneand seventy twoand seventy threeand seventy fourand seven" +
+		"ty fiveand seventy sixand seventy sevenand seventy eightand seventy nineand eightyand eighty one" +
+		"and eighty twoand eighty threeand eighty fourand eighty fiveand eighty sixand eighty sevenand ei" +
+		"ghty eightand eighty nineand ninetyand ninety oneand ninety twoand ninety threeand ninety fouran" +
+		"d ninety fiveand ninety sixand ninety sevenand ninety eightand ninety nineone hundredone hundred" +
+		" and oneone hundred and twoone hundred and threeone hundred and fourone hundred and fiveone hund" +
+		"red and sixone hundred and sevenone hundred and eightone hundred and nineone hundred and tenone " +
+		"hundred and elevenone hundred and twelveone hundred and thirteenone hundred and fourteenone hund" +
+		"red and fifteenone hundred and sixteenone hundred and seventeenone hundred and eighteenone hundr" +
+		"ed and nineteenone hundred and twentyone hundred and twenty oneone hundred and twenty twoone hun" +
+		"dred and twenty threeone hundred and twenty fourone hundred and twenty fiveone hundred and twent" +
+		"y sixone hundred and twenty sevenone hundred and twenty eightone hundred and twenty nineone hund" +
+		"red and thirtyone hundred and thirty oneone hundred and thirty twoone hundred and thirty threeon" +
+		"e hundred and thirty fourone hundred and thirty fiveone hundred and thirty sixone hundred and th" +
+		"irty sevenone hundred and thirty eightone hundred and thirty nineone hundred and fortyone hundre" +
+		"d and forty oneone hundred and forty twoone hundred and forty threeone hundred and forty fourone" +
+		" hundred and forty fiveone hundred and forty sixone hundred and forty sevenone hundred and forty" +
+		" eightone hundred and forty nineone hundred and fiftyone hundred and fifty oneone hundred and fi" +
+		"fty twoone hundred and fifty threeone hundred and fifty fourone hundred and fifty fiveone hundre" +
+		"d and fifty sixone hundred and fifty sevenone hundred and fifty eightone hundred and fifty nineo" +
+		"ne hundred and sixtyone hundred and sixty oneone hundred and sixty twoone hundred and sixty thre" +
+		"eone hundred and sixty fourone hundred and sixty fiveone hundred and sixty sixone hundred and si" +
+		"xty sevenone hundred and sixty eightone hundred and sixty nineone hundred and seventyone hundred" +
+		" and seventy oneone hundred and seventy twoone hundred and seventy threeone hundred and seventy " +
+		"fourone hundred and seventy fiveone hundred and seventy sixone hundred and seventy sevenone hund" +
+		"red and seventy eightone hundred and seventy nineone hundred and eightyone hundred and eighty on" +
+		"eone hundred and eighty twoone hundred and eighty threeone hundred and eighty fourone hundred an" +
+		"d eighty fiveone hundred and eighty sixone hundred and eighty sevenone hundred and eighty eighto" +
+		"ne hundred and eighty nineone hundred and ninetyone hundred and ninety oneone hundred and ninety" +
+		" twoone hundred and ninety threeone hundred and ninety fourone hundred and ninety fiveone hundre" +
+		"d and ninety sixone hundred and ninety sevenone hundred and ninety eightone hundred and ninety n" +
+		"inetwo hundredtwo hundred and onetwo hundred and twotwo hundred and threetwo hundred and fourtwo" +
+		" hundred and fivetwo hundred and sixtwo hundred and seventwo hundred and eighttwo hundred and ni" +
+		"netwo hundred and tentwo hundred and eleventwo hundred and twelvetwo hundred and thirteentwo hun" +
+		"dred and fourteentwo hundred and fifteentwo hundred and sixteentwo hundred and seventeentwo hund" +
+		"red and eighteentwo hundred and nineteentwo hundred and twentytwo hundred and twenty onetwo hund" +
+		"red and twenty twotwo hundred and twenty threetwo hundred and twenty fourtwo hundred and twenty " +
+		"fivetwo hundred and twenty sixtwo hundred and twenty seventwo hundred and twenty eighttwo hundre" +
+		"d and twenty ninetwo hundred and thirtytwo hundred and thirty onetwo hundred and thirty twotwo h" +
+		"undred and thirty threetwo hundred and thirty fourtwo hundred and thirty fivetwo hundred and thi" +
+		"rty sixtwo hundred and thirty seventwo hundred and thirty eighttwo hundred and thirty ninetwo hu" +
+		"ndred and fortytwo hundred and forty onetwo hundred and forty twotwo hundred and forty threetwo " +
+		"hundred and forty fourtwo hundred and forty fivetwo hundred and forty sixtwo hundred and forty s" +
+		"eventwo hundred and forty eighttwo hundred and forty ninetwo hundred and fiftytwo hundred and fi" +
+		"fty onetwo hundred and fifty twotwo hundred and fifty threetwo hundred and fifty fourtwo hundred" +
+		" and fifty fivetwo hundred and fifty sixtwo hundred and fifty seventwo hundred and fifty eighttw" +
+		"o hundred and fifty ninetwo hundred and sixtytwo hundred and sixty onetwo hundred and sixty twot" +
+		"wo hundred and sixty threetwo hundred and sixty fourtwo hundred and sixty fivetwo hundred and si" +
+		"xty sixtwo hundred and sixty seventwo hundred and sixty eighttwo hundred and sixty ninetwo hundr" +
+		"ed and seventytwo hundred and seventy onetwo hundred and seventy twotwo hundred and seventy thre" +
+		"etwo hundred and seventy fourtwo hundred and seventy fivetwo hundred and seventy sixtwo hundred " +
+		"and seventy seventwo hundred and seventy eighttwo hundred and seventy ninetwo hundred and eighty" +
+		"two hundred and eighty onetwo hundred and eighty twotwo hundred and eighty threetwo hundred and " +
+		"eighty fourtwo hundred and eighty fivetwo hundred and eighty sixtwo hundred and eighty seventwo " +
+		"hundred and eighty eighttwo hundred and eighty ninetwo hundred and ninetytwo hundred and ninety " +
+		"onetwo hundred and ninety twotwo hundred and ninety threetwo hundred and ninety fourtwo hundred " +
+		"and ninety fivetwo hundred and ninety sixtwo hundred and ninety seventwo hundred and ninety eigh" +
+		"ttwo hundred and ninety ninethree hundredthree hundred and onethree hundred and twothree hundred" +
+		" and threethree hundred and fourthree hundred and fivethree hundred and sixthree hundred and sev" +
+		"enthree hundred and eightthree hundred and ninethree hundred and tenthree hundred and eleventhre" +
+		"e hundred and twelvethree hundred and thirteenthree hundred and fourteenthree hundred and fiftee" +
+		"nthree hundred and sixteenthree hundred and seventeenthree hundred and eighteenthree hundred and" +
+		" nineteenthree hundred and twentythree hundred and twenty onethree hundred and twenty twothree h" +
+		"undred and twenty threethree hundred and twenty fourthree hundred and twenty fivethree hundred a" +
+		"nd twenty sixthree hundred and twenty seventhree hundred and twenty eightthree hundred and twent" +
+		"y ninethree hundred and thirtythree hundred and thirty onethree hundred and thirty twothree hund" +
+		"red and thirty threethree hundred and thirty fourthree hundred and thirty fivethree hundred and " +
+		"thirty sixthree hundred and thirty seventhree hundred and thirty eightthree hundred and thirty n" +
+		"inethree hundred and fortythree hundred and forty onethree hundred and forty twothree hundred an" +
+		"d forty threethree hundred and forty fourthree hundred and forty fivethree hundred and forty six" +
+		"three hundred and forty seventhree hundred and forty eightthree hundred and forty ninethree hund" +
+		"red and fiftythree hundred and fifty onethree hundred and fifty twothree hundred and fifty three" +
+		"three hundred and fifty fourthree hundred and fifty fivethree hundred and fifty sixthree hundred" +
+		" and fifty seventhree hundred and fifty eightthree hundred and fifty ninethree hundred and sixty" +
+		"three hundred and sixty onethree hundred and sixty twothree hundred and sixty threethree hundred" +
+		" and sixty fourthree hundred and sixty fivethree hundred and sixty sixthree hundred and sixty se" +
+		"venthree hundred and sixty eightthree hundred and sixty ninethree hundred and seventythree hundr" +
+		"ed and seventy onethree hundred and seventy twothree hundred and seventy threethree hundred and " +
+		"seventy fourthree hundred and seventy fivethree hundred and seventy sixthree hundred and seventy" +
+		" seventhree hundred and seventy eightthree hundred and seventy ninethree hundred and eightythree" +
+		" hundred and eighty onethree hundred and eighty twothree hundred and eighty threethree hundred a" +
+		"nd eighty fourthree hundred and eighty fivethree hundred and eighty sixthree hundred and eighty " +
+		"seventhree hundred and eighty eightthree hundred and eighty ninethree hundred and ninetythree hu" +
+		"ndred and ninety onethree hundred and ninety twothree hundred and ninety threethree hundred and " +
+		"ninety fourthree hundred and ninety fivethree hundred and ninety sixthree hundred and ninety sev" +
+		"enthree hundred and ninety eightthree hundred and ninety ninefour hundredfour hundred and onefou" +
+		"r hundred and twofour hundred and threefour hundred and fourfour hundred and fivefour hundred an" +
+		"d sixfour hundred and sevenfour hundred and eightfour hundred and ninefour hundred and tenfour h" +
+		"undred and elevenfour hundred and twelvefour hundred and thirteenfour hundred and fourteenfour h" +
+		"undred and fifteenfour hundred and sixteenfour hundred and seventeenfour hundred and eighteenfou" +
+		"r hundred and nineteenfour hundred and twentyfour hundred and twenty onefour hundred and twenty " +
+		"twofour hundred and twenty threefour hundred and twenty fourfour hundred and twenty fivefour hun" +
+		"dred and twenty sixfour hundred and twenty sevenfour hundred and twenty eightfour hundred and tw" +
+		"enty ninefour hundred and thirtyfour hundred and thirty onefour hundred and thirty twofour hundr" +
+		"ed and thirty threefour hundred and thirty fourfour hundred and thirty fivefour hundred and thir" +
+		"ty sixfour hundred and thirty sevenfour hundred and thirty eightfour hundred and thirty ninefour" +
+		" hundred and fortyfour hundred and forty onefour hundred and forty twofour hundred and forty thr" +
+		"eefour hundred and forty fourfour hundred and forty fivefour hundred and forty sixfour hundred a" +
+		"nd forty sevenfour hundred and forty eightfour hundred and forty ninefour hundred and fiftyfour " +
+		"hundred and fifty onefour hundred and fifty twofour hundred and fifty threefour hundred and fift" +
+		"y fourfour hundred and fifty fivefour hundred and fifty sixfour hundred and fifty sevenfour hund" +
+		"red and fifty eightfour hundred and fifty ninefour hundred and sixtyfour hundred and sixty onefo" +
+		"ur hundred and sixty twofour hundred and sixty threefour hundred and sixty fourfour hundred and " +
+		"sixty fivefour hundred and sixty sixfour hundred and sixty sevenfour hundred and sixty eightfour" +
+		" hundred and sixty ninefour hundred and seventyfour hundred and seventy onefour hundred and seve" +
+		"nty twofour hundred and seventy threefour hundred and seventy fourfour hundred and seventy fivef" +
+		"our hundred and seventy sixfour hundred and seventy sevenfour hundred and seventy eightfour hund" +
+		"red and seventy ninefour hundred and eightyfour hundred and eighty onefour hundred and eighty tw" +
+		"ofour hundred and eighty threefour hundred and eighty fourfour hundred and eighty fivefour hundr" +
+		"ed and eighty sixfour hundred and eighty sevenfour hundred and eighty eightfour hundred and eigh" +
+		"ty ninefour hundred and ninetyfour hundred and ninety onefour hundred and ninety twofour hundred" +
+		" and ninety threefour hundred and ninety fourfour hundred and ninety fivefour hundred and ninety" +
+		" sixfour hundred and ninety sevenfour hundred and ninety eightfour hundred and ninety ninefive h" +
+		"undredfive hundred and onefive hundred and twofive hundred and threefive hundred and fourfive hu" +
+		"ndred and fivefive hundred and sixfive hundred and sevenfive hundred and eightfive hundred and n" +
+		"inefive hundred and tenfive hundred and elevenfive hundred and twelvefive hundred and thirteenfi" +
+		"ve hundred and fourteenfive hundred and fifteenfive hundred and sixteenfive hundred and seventee" +
+		"nfive hundred and eighteenfive hundred and nineteenfive hundred and twentyfive hundred and twent" +
+		"y onefive hundred and twenty twofive hundred and twenty threefive hundred and twenty fourfive hu" +
+		"ndred and twenty fivefive hundred and twenty sixfive hundred and twenty sevenfive hundred and tw" +
+		"enty eightfive hundred and twenty ninefive hundred and thirtyfive hundred and thirty onefive hun" +
+		"dred and thirty twofive hundred and thirty threefive hundred and thirty fourfive hundred and thi" +
+		"rty fivefive hundred and thirty sixfive hundred and thirty sevenfive hundred and thirty eightfiv" +
+		"e hundred and thirty ninefive hundred and fortyfive hundred and forty onefive hundred and forty " +
+		"twofive hundred and forty threefive hundred and forty fourfive hundred and forty fivefive hundre" +
+		"d and forty sixfive hundred and forty sevenfive hundred and forty eightfive hundred and forty ni" +
+		"nefive hundred and fiftyfive hundred and fifty onefive hundred and fifty twofive hundred and fif" +
+		"ty threefive hundred and fifty fourfive hundred and fifty fivefive hundred and fifty sixfive hun" +
+		"dred and fifty sevenfive hundred and fifty eightfive hundred and fifty ninefive hundred and sixt" +
+		"yfive hundred and sixty onefive hundred and sixty twofive hundred and sixty threefive hundred an" +
+		"d sixty fourfive hundred and sixty fivefive hundred and sixty sixfive hundred and sixty sevenfiv" +
+		"e hundred and sixty eightfive hundred and sixty ninefive hundred and seventyfive hundred and sev" +
+		"enty onefive hundred and seventy twofive hundred and seventy threefive hundred and seventy fourf" +
+		"ive hundred and seventy fivefive hundred and seventy sixfive hundred and seventy sevenfive hundr" +
+		"ed and seventy eightfive hundred and seventy ninefive hundred and eightyfive hundred and eighty " +
+		"onefive hundred and eighty twofive hundred and eighty threefive hundred and eighty fourfive hund" +
+		"red and eighty fivefive hundred and eighty sixfive hundred and eighty sevenfive hundred and eigh" +
+		"ty eightfive hundred and eighty ninefive hundred and ninetyfive hundred and ninety onefive hundr" +
+		"ed and ninety twofive hundred and ninety threefive hundred and ninety fourfive hundred and ninet" +
+		"y fivefive hundred and ninety sixfive hundred and ninety sevenfive hundred and ninety eightfive " +
+		"hundred and ninety ninesix hundredsix hundred and onesix hundred and twosix hundred and threesix" +
+		" hundred and foursix hundred and fivesix hundred and sixsix hundred and sevensix hundred and eig" +
+		"htsix hundred and ninesix hundred and tensix hundred and elevensix hundred and twelvesix hundred" +
+		" and thirteensix hundred and fourteensix hundred and fifteensix hundred and sixteensix hundred a" +
+		"nd seventeensix hundred and eighteensix hundred and nineteensix hundred and twentysix hundred an" +
+		"d twenty onesix hundred and twenty twosix hundred and twenty threesix hundred and twenty foursix" +
+		" hundred and twenty fivesix hundred and twenty sixsix hundred and twenty sevensix hundred and tw" +
+		"enty eightsix hundred and twenty ninesix hundred and thirtysix hundred and thirty onesix hundred" +
+		" and thirty twosix hundred and thirty threesix hundred and thirty foursix hundred and thirty fiv" +
+		"esix hundred and thirty sixsix hundred and thirty sevensix hundred and thirty eightsix hundred a" +
+		"nd thirty ninesix hundred and fortysix hundred and forty onesix hundred and forty twosix hundred" +
+		" and forty threesix hundred and forty foursix hundred and forty fivesix hundred and forty sixsix" +
+		" hundred and forty sevensix hundred and forty eightsix hundred and forty ninesix hundred and fif" +
+		"tysix hundred and fifty onesix hundred and fifty twosix hundred and fifty threesix hundred and f" +
+		"ifty foursix hundred and fifty fivesix hundred and fifty sixsix hundred and fifty sevensix hundr" +
+		"ed and fifty eightsix hundred and fifty ninesix hundred and sixtysix hundred and sixty onesix hu" +
+		"ndred and sixty twosix hundred and sixty threesix hundred and sixty foursix hundred and sixty fi" +
+		"vesix hundred and sixty sixsix hundred and sixty sevensix hundred and sixty eightsix hundred and" +
+		" sixty ninesix hundred and seventysix hundred and seventy onesix hundred and seventy twosix hund" +
+		"red and seventy threesix hundred and seventy foursix hundred and seventy fivesix hundred and sev" +
+		"enty sixsix hundred and seventy sevensix hundred and seventy eightsix hundred and seventy ninesi" +
+		"x hundred and eightysix hundred and eighty onesix hundred and eighty twosix hundred and eighty t" +
+		"hreesix hundred and eighty foursix hundred and eighty fivesix hundred and eighty sixsix hundred " +
+		"and eighty sevensix hundred and eighty eightsix hundred and eighty ninesix hundred and ninetysix" +
+		" hundred and ninety onesix hundred and ninety twosix hundred and ninety threesix hundred and nin" +
+		"ety foursix hundred and ninety fivesix hundred and ninety sixsix hundred and ninety sevensix hun" +
+		"dred and ninety eightsix hundred and ninety nineseven hundredseven hundred and oneseven hundred " +
+		"and twoseven hundred and threeseven hundred and fourseven hundred and fiveseven hundred and sixs" +
+		"even hundred and sevenseven hundred and eightseven hundred and nineseven hundred and tenseven hu" +
+		"ndred and elevenseven hundred and twelveseven hundred and thirteenseven hundred and fourteenseve" +
+		"n hundred and fifteenseven hundred and sixteenseven hundred and seventeenseven hundred and eight" +
+		"eenseven hundred and nineteenseven hundred and twentyseven hundred and twenty oneseven hundred a" +
+		"nd twenty twoseven hundred and twenty threeseven hundred and twenty fourseven hundred and twenty" +
+		" fiveseven hundred and twenty sixseven hundred and twenty sevenseven hundred and twenty eightsev" +
+		"en hundred and twenty nineseven hundred and thirtyseven hundred and thirty oneseven hundred and " +
+		"thirty twoseven hundred and thirty threeseven hundred and thirty fourseven hundred and thirty fi" +
+		"veseven hundred and thirty sixseven hundred and thirty sevenseven hundred and thirty eightseven " +
+		"hundred and thirty nineseven hundred and fortyseven hundred and forty oneseven hundred and forty" +
+		" twoseven hundred and forty threeseven hundred and forty fourseven hundred and forty fiveseven h" +
+		"undred and forty sixseven hundred and forty sevenseven hundred and forty eightseven hundred and " +
+		"forty nineseven hundred and fiftyseven hundred and fifty oneseven hundred and fifty twoseven hun" +
+		"dred and fifty threeseven hundred and fifty fourseven hundred and fifty fiveseven hundred and fi" +
+		"fty sixseven hundred and fifty sevenseven hundred and fifty eightseven hundred and fifty ninesev" +
+		"en hundred and sixtyseven hundred and sixty oneseven hundred and sixty twoseven hundred and sixt" +
+		"y threeseven hundred and sixty fourseven hundred and sixty fiveseven hundred and sixty sixseven " +
+		"hundred and sixty sevenseven hundred and sixty eightseven hundred and sixty nineseven hundred an" +
+		"d seventyseven hundred and seventy oneseven hundred and seventy twoseven hundred and seventy thr" +
+		"eeseven hundred and seventy fourseven hundred and seventy fiveseven hundred and seventy sixseven" +
+		" hundred and seventy sevenseven hundred and seventy eightseven hundred and seventy nineseven hun" +
+		"dred and eightyseven hundred and eighty oneseven hundred and eighty twoseven hundred and eighty " +
+		"threeseven hundred and eighty fourseven hundred and eighty fiveseven hundred and eighty sixseven" +
+		" hundred and eighty sevenseven hundred and eighty eightseven hundred and eighty nineseven hundre" +
+		"d and ninetyseven hundred and ninety oneseven hundred and ninety twoseven hundred and ninety thr" +
+		"eeseven hundred and ninety fourseven hundred and ninety fiveseven hundred and ninety sixseven hu" +
+		"ndred and ninety sevenseven hundred and ninety eightseven hundred and ninety nineeight hundredei" +
+		"ght hundred and oneeight hundred and twoeight hundred and threeeight hundred and foureight hundr" +
+		"ed and fiveeight hundred and sixeight hundred and seveneight hundred and eighteight hundred and " +
+		"nineeight hundred and teneight hundred and eleveneight hundred and twelveeight hundred and thirt" +
+		"eeneight hundred and fourteeneight hundred and fifteeneight hundred and sixteeneight hundred and" +
+		" seventeeneight hundred and eighteeneight hundred and nineteeneight hundred and twentyeight hund" +
+		"red and twenty oneeight hundred and twenty twoeight hundred and twenty threeeight hundred and tw" +
+		"enty foureight hundred and twenty fiveeight hundred and twenty sixeight hundred and twenty seven" +
+		"eight hundred and twenty eighteight hundred and twenty nineeight hundred and thirtyeight hundred" +
+		" and thirty oneeight hundred and thirty twoeight hundred and thirty threeeight hundred and thirt" +
+		"y foureight hundred and thirty fiveeight hundred and thirty sixeight hundred and thirty seveneig" +
+		"ht hundred and thirty eighteight hundred and thirty nineeight hundred and fortyeight hundred and" +
+		" forty oneeight hundred and forty twoeight hundred and forty threeeight hundred and forty fourei" +
+		"ght hundred and forty fiveeight hundred and forty sixeight hundred and forty seveneight hundred " +
+		"and forty eighteight hundred and forty nineeight hundred and fiftyeight hundred and fifty oneeig" +
+		"ht hundred and fifty twoeight hundred and fifty threeeight hundred and fifty foureight hundred a" +
+		"nd fifty fiveeight hundred and fifty sixeight hundred and fifty seveneight hundred and fifty eig" +
+		"hteight hundred and fifty nineeight hundred and sixtyeight hundred and sixty oneeight hundred an" +
+		"d sixty twoeight hundred and sixty threeeight hundred and sixty foureight hundred and sixty five" +
+		"eight hundred and sixty sixeight hundred and sixty seveneight hundred and sixty eighteight hundr" +
+		"ed and sixty nineeight hundred and seventyeight hundred and seventy oneeight hundred and seventy" +
+		" twoeight hundred and seventy threeeight hundred and seventy foureight hundred and seventy fivee" +
+		"ight hundred and seventy sixeight hundred and seventy seveneight hundred and seventy eighteight " +
+		"hundred and seventy nineeight hundred and eightyeight hundred and eighty oneeight hundred and ei" +
+		"ghty twoeight hundred and eighty threeeight hundred and eighty foureight hundred and eighty five" +
+		"eight hundred and eighty sixeight hundred and eighty seveneight hundred and eighty eighteight hu" +
+		"ndred and eighty nineeight hundred and ninetyeight hundred and ninety oneeight hundred and ninet" +
+		"y twoeight hundred and ninety threeeight hundred and ninety foureight hundred and ninety fiveeig" +
+		"ht hundred and ninety sixeight hundred and ninety seveneight hundred and ninety eighteight hundr" +
+		"ed and ninety ninenine hundrednine hundred and onenine hundred and twonine hundred and threenine" +
+		" hundred and fournine hundred and fivenine hundred and sixnine hundred and sevennine hundred and" +
+		" eightnine hundred and ninenine hundred and tennine hundred and elevennine hundred and twelvenin" +
+		"e hundred and thirteennine hundred and fourteennine hundred and fifteennine hundred and sixteenn" +
+		"ine hundred and seventeennine hundred and eighteennine hundred and nineteennine hundred and twen" +
+		"tynine hundred and twenty onenine hundred and twenty twonine hundred and twenty threenine hundre" +
+		"d and twenty fournine hundred and twenty fivenine hundred and twenty sixnine hundred and twenty " +
+		"sevennine hundred and twenty eightnine hundred and twenty ninenine hundred and thirtynine hundre" +
+		"d and thirty onenine hundred and thirty twonine hundred and thirty threenine hundred and thirty " +
+		"fournine hundred and thirty fivenine hundred and thirty sixnine hundred and thirty sevennine hun" +
+		"dred and thirty eightnine hundred and thirty ninenine hundred and fortynine hundred and forty on" +
+		"enine hundred and forty twonine hundred and forty threenine hundred and forty fournine hundred a" +
+		"nd forty fivenine hundred and forty sixnine hundred and forty sevennine hundred and forty eightn" +
+		"ine hundred and forty ninenine hundred and fiftynine hundred and fifty onenine hundred and fifty" +
+		" twonine hundred and fifty threenine hundred and fifty fournine hundred and fifty fivenine hundr" +
+		"ed and fifty sixnine hundred and fifty sevennine hundred and fifty eightnine hundred and fifty n" +
+		"inenine hundred and sixtynine hundred and sixty onenine hundred and sixty twonine hundred and si" +
+		"xty threenine hundred and sixty fournine hundred and sixty fivenine hundred and sixty sixnine hu" +
+		"ndred and sixty sevennine hundred and sixty eightnine hundred and sixty ninenine hundred and sev" +
+		"entynine hundred and seventy onenine hundred and seventy twonine hundred and seventy threenine h" +
+		"undred and seventy fournine hundred and seventy fivenine hundred and seventy sixnine hundred and" +
+		" seventy sevennine hundred and seventy eightnine hundred and seventy ninenine hundred and eighty" +
+		"nine hundred and eighty onenine hundred and eighty twonine hundred and eighty threenine hundred " +
+		"and eighty fournine hundred and eighty fivenine hundred and eighty sixnine hundred and eighty se" +
+		"vennine hundred and eighty eightnine hundred and eighty ninenine hundred and ninetynine hundred " +
+		"and ninety onenine hundred and ninety twonine hundred and ninety threenine hundred and ninety fo" +
+		"urnine hundred and ninety fivenine hundred and ninety sixnine hundred and ninety sevennine hundr" +
+		"ed and ninety eightnine hundred and ninety nine";
+
+	public final static String WITH_AND_ENDS =
+		"\000\007\016\027\037'.7@HOYco{\206\221\236\252\266\300\316\334\354\373\u010a\u0118\u0128\u0138\u0147\u0151\u015f\u016d\u017d\u018c\u019b\u01a9\u01b9\u01c9\u01d8\u01e1\u01ee\u01fb\u020a\u0218\u0226\u0233\u0242\u0251\u025f\u0268\u0275\u0282\u0291\u029f\u02ad\u02ba\u02c9\u02d8\u02e6\u02ef\u02fc\u0309\u0318\u0326\u0334\u0341\u0350\u035f\u036d\u0378\u0387\u0396\u03a7\u03b7\u03c7\u03d6\u03e7\u03f8\u0408\u0412\u0420\u042e\u043e\u044d\u045c\u046a\u047a\u048a\u0499\u04a3\u04b1\u04bf\u04cf\u04de\u04ed" +
+		"\u04fb\u050b\u051b\u052a\u0535\u0548\u055b\u0570\u0584\u0598\u05ab\u05c0\u05d5\u05e9\u05fc\u0612\u0628\u0640\u0658\u066f\u0686\u069f\u06b7\u06cf\u06e5\u06ff\u0719\u0735\u0750\u076b\u0785\u07a1\u07bd\u07d8\u07ee\u0808\u0822\u083e\u0859\u0874\u088e\u08aa\u08c6\u08e1\u08f6\u090f\u0928\u0943\u095d\u0977\u0990\u09ab\u09c6\u09e0\u09f5\u0a0e\u0a27\u0a42\u0a5c\u0a76\u0a8f\u0aaa\u0ac5\u0adf\u0af4\u0b0d\u0b26\u0b41\u0b5b\u0b75\u0b8e\u0ba9\u0bc4\u0bde\u0bf5\u0c10\u0c2b\u0c48\u0c64\u0c80\u0c9b\u0cb8\u0cd5\u0cf1\u0d07\u0d21\u0d3b\u0d57\u0d72\u0d8d\u0da7\u0dc3\u0ddf\u0dfa\u0e10\u0e2a" +
+		"\u0e44\u0e60\u0e7b\u0e96\u0eb0\u0ecc\u0ee8\u0f03\u0f0e\u0f21\u0f34\u0f49\u0f5d\u0f71\u0f84\u0f99\u0fae\u0fc2\u0fd5\u0feb\u1001\u1019\u1031\u1048\u105f\u1078\u1090\u10a8\u10be\u10d8\u10f2\u110e\u1129\u1144\u115e\u117a\u1196\u11b1\u11c7\u11e1\u11fb\u1217\u1232\u124d\u1267\u1283\u129f\u12ba\u12cf\u12e8\u1301\u131c\u1336\u1350\u1369\u1384\u139f\u13b9\u13ce\u13e7\u1400\u141b\u1435\u144f\u1468\u1483\u149e\u14b8\u14cd\u14e6\u14ff\u151a\u1534\u154e\u1567\u1582\u159d\u15b7\u15ce\u15e9\u1604\u1621\u163d\u1659\u1674\u1691\u16ae\u16ca\u16e0\u16fa\u1714\u1730\u174b\u1766\u1780\u179c" +
+		"\u17b8\u17d3\u17e9\u1803\u181d\u1839\u1854\u186f\u1889\u18a5\u18c1\u18dc\u18e9\u18fe\u1913\u192a\u1940\u1956\u196b\u1982\u1999\u19af\u19c4\u19dc\u19f4\u1a0e\u1a28\u1a41\u1a5a\u1a75\u1a8f\u1aa9\u1ac1\u1add\u1af9\u1b17\u1b34\u1b51\u1b6d\u1b8b\u1ba9\u1bc6\u1bde\u1bfa\u1c16\u1c34\u1c51\u1c6e\u1c8a\u1ca8\u1cc6\u1ce3\u1cfa\u1d15\u1d30\u1d4d\u1d69\u1d85\u1da0\u1dbd\u1dda\u1df6\u1e0d\u1e28\u1e43\u1e60\u1e7c\u1e98\u1eb3\u1ed0\u1eed\u1f09\u1f20\u1f3b\u1f56\u1f73\u1f8f\u1fab\u1fc6\u1fe3\u2000\u201c\u2035\u2052\u206f\u208e\u20ac\u20ca\u20e7\u2106\u2125\u2143\u215b\u2177\u2193\u21b1" +
+		"\u21ce\u21eb\u2207\u2225\u2243\u2260\u2278\u2294\u22b0\u22ce\u22eb\u2308\u2324\u2342\u2360\u237d\u2389\u239d\u23b1\u23c7\u23dc\u23f1\u2405\u241b\u2431\u2446\u245a\u2471\u2488\u24a1\u24ba\u24d2\u24ea\u2504\u251d\u2536\u254d\u2568\u2583\u25a0\u25bc\u25d8\u25f3\u2610\u262d\u2649\u2660\u267b\u2696\u26b3\u26cf\u26eb\u2706\u2723\u2740\u275c\u2772\u278c\u27a6\u27c2\u27dd\u27f8\u2812\u282e\u284a\u2865\u287b\u2895\u28af\u28cb\u28e6\u2901\u291b\u2937\u2953\u296e\u2984\u299e\u29b8\u29d4\u29ef\u2a0a\u2a24\u2a40\u2a5c\u2a77\u2a8f\u2aab\u2ac7\u2ae5\u2b02\u2b1f\u2b3b\u2b59\u2b77\u2b94" +
+		"\u2bab\u2bc6\u2be1\u2bfe\u2c1a\u2c36\u2c51\u2c6e\u2c8b\u2ca7\u2cbe\u2cd9\u2cf4\u2d11\u2d2d\u2d49\u2d64\u2d81\u2d9e\u2dba\u2dc6\u2dda\u2dee\u2e04\u2e19\u2e2e\u2e42\u2e58\u2e6e\u2e83\u2e97\u2eae\u2ec5\u2ede\u2ef7\u2f0f\u2f27\u2f41\u2f5a\u2f73\u2f8a\u2fa5\u2fc0\u2fdd\u2ff9\u3015\u3030\u304d\u306a\u3086\u309d\u30b8\u30d3\u30f0\u310c\u3128\u3143\u3160\u317d\u3199\u31af\u31c9\u31e3\u31ff\u321a\u3235\u324f\u326b\u3287\u32a2\u32b8\u32d2\u32ec\u3308\u3323\u333e\u3358\u3374\u3390\u33ab\u33c1\u33db\u33f5\u3411\u342c\u3447\u3461\u347d\u3499\u34b4\u34cc\u34e8\u3504\u3522\u353f\u355c" +
+		"\u3578\u3596\u35b4\u35d1\u35e8\u3603\u361e\u363b\u3657\u3673\u368e\u36ab\u36c8\u36e4\u36fb\u3716\u3731\u374e\u376a\u3786\u37a1\u37be\u37db\u37f7\u3802\u3815\u3828\u383d\u3851\u3865\u3878\u388d\u38a2\u38b6\u38c9\u38df\u38f5\u390d\u3925\u393c\u3953\u396c\u3984\u399c\u39b2\u39cc\u39e6\u3a02\u3a1d\u3a38\u3a52\u3a6e\u3a8a\u3aa5\u3abb\u3ad5\u3aef\u3b0b\u3b26\u3b41\u3b5b\u3b77\u3b93\u3bae\u3bc3\u3bdc\u3bf5\u3c10\u3c2a\u3c44\u3c5d\u3c78\u3c93\u3cad\u3cc2\u3cdb\u3cf4\u3d0f\u3d29\u3d43\u3d5c\u3d77\u3d92\u3dac\u3dc1\u3dda\u3df3\u3e0e\u3e28\u3e42\u3e5b\u3e76\u3e91\u3eab\u3ec2\u3edd" +
+		"\u3ef8\u3f15\u3f31\u3f4d\u3f68\u3f85\u3fa2\u3fbe\u3fd4\u3fee\u4008\u4024\u403f\u405a\u4074\u4090\u40ac\u40c7\u40dd\u40f7\u4111\u412d\u4148\u4163\u417d\u4199\u41b5\u41d0\u41dd\u41f2\u4207\u421e\u4234\u424a\u425f\u4276\u428d\u42a3\u42b8\u42d0\u42e8\u4302\u431c\u4335\u434e\u4369\u4383\u439d\u43b5\u43d1\u43ed\u440b\u4428\u4445\u4461\u447f\u449d\u44ba\u44d2\u44ee\u450a\u4528\u4545\u4562\u457e\u459c\u45ba\u45d7\u45ee\u4609\u4624\u4641\u465d\u4679\u4694\u46b1\u46ce\u46ea\u4701\u471c\u4737\u4754\u4770\u478c\u47a7\u47c4\u47e1\u47fd\u4814\u482f\u484a\u4867\u4883\u489f\u48ba\u48d7" +
+		"\u48f4\u4910\u4929\u4946\u4963\u4982\u49a0\u49be\u49db\u49fa\u4a19\u4a37\u4a4f\u4a6b\u4a87\u4aa5\u4ac2\u4adf\u4afb\u4b19\u4b37\u4b54\u4b6c\u4b88\u4ba4\u4bc2\u4bdf\u4bfc\u4c18\u4c36\u4c54\u4c71\u4c7e\u4c93\u4ca8\u4cbf\u4cd5\u4ceb\u4d00\u4d17\u4d2e\u4d44\u4d59\u4d71\u4d89\u4da3\u4dbd\u4dd6\u4def\u4e0a\u4e24\u4e3e\u4e56\u4e72\u4e8e\u4eac\u4ec9\u4ee6\u4f02\u4f20\u4f3e\u4f5b\u4f73\u4f8f\u4fab\u4fc9\u4fe6\u5003\u501f\u503d\u505b\u5078\u508f\u50aa\u50c5\u50e2\u50fe\u511a\u5135\u5152\u516f\u518b\u51a2\u51bd\u51d8\u51f5\u5211\u522d\u5248\u5265\u5282\u529e\u52b5\u52d0\u52eb\u5308" +
+		"\u5324\u5340\u535b\u5378\u5395\u53b1\u53ca\u53e7\u5404\u5423\u5441\u545f\u547c\u549b\u54ba\u54d8\u54f0\u550c\u5528\u5546\u5563\u5580\u559c\u55ba\u55d8\u55f5\u560d\u5629\u5645\u5663\u5680\u569d\u56b9\u56d7\u56f5\u5712\u571e\u5732\u5746\u575c\u5771\u5786\u579a\u57b0\u57c6\u57db\u57ef\u5806\u581d\u5836\u584f\u5867\u587f\u5899\u58b2\u58cb\u58e2\u58fd\u5918\u5935\u5951\u596d\u5988\u59a5\u59c2\u59de\u59f5\u5a10\u5a2b\u5a48\u5a64\u5a80\u5a9b\u5ab8\u5ad5\u5af1\u5b07\u5b21\u5b3b\u5b57\u5b72\u5b8d\u5ba7\u5bc3\u5bdf\u5bfa\u5c10\u5c2a\u5c44\u5c60\u5c7b\u5c96\u5cb0\u5ccc\u5ce8\u5d03" +
+		"\u5d19\u5d33\u5d4d\u5d69\u5d84\u5d9f\u5db9\u5dd5\u5df1\u5e0c\u5e24\u5e40\u5e5c\u5e7a\u5e97\u5eb4\u5ed0\u5eee\u5f0c\u5f29\u5f40\u5f5b\u5f76\u5f93\u5faf\u5fcb\u5fe6\u6003\u6020\u603c\u6053\u606e\u6089\u60a6\u60c2\u60de\u60f9\u6116\u6133\u614f";
+
+	public final static String WITH_AND_LENGTHS =
+		"\000\007\007\011\010\010\007\011\011\010\007\012\012\014\014\013\013\015\014\014\012\016\016\020\017\017\016\020\020\017\012\016\016\020\017\017\016\020\020\017\011\015\015\017\016\016\015\017\017\016\011\015\015\017\016\016\015\017\017\016\011\015\015\017\016\016\015\017\017\016\013\017\017\021\020\020\017\021\021\020\012\016\016\020\017\017\016\020\020\017\012\016\016\020\017\017" +
+		"\016\020\020\017\013\023\023\025\024\024\023\025\025\024\023\026\026\030\030\027\027\031\030\030\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\027\033\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034\034\033\026\032" +
+		"\032\034\033\033\032\034\034\033\013\023\023\025\024\024\023\025\025\024\023\026\026\030\030\027\027\031\030\030\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\027\033\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034" +
+		"\034\033\026\032\032\034\033\033\032\034\034\033\015\025\025\027\026\026\025\027\027\026\025\030\030\032\032\031\031\033\032\032\030\034\034\036\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\031\035\035\037\036\036\035\037\037\036\030\034\034\036" +
+		"\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\014\024\024\026\025\025\024\026\026\025\024\027\027\031\031\030\030\032\031\031\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\030\034\034\036\035\035\034\036\036\035" +
+		"\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\014\024\024\026\025\025\024\026\026\025\024\027\027\031\031\030\030\032\031\031\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\030\034\034\036\035\035" +
+		"\034\036\036\035\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\013\023\023\025\024\024\023\025\025\024\023\026\026\030\030\027\027\031\030\030\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\025\031\031\033\032\032\031\033\033\032\027\033" +
+		"\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033\015\025\025\027\026\026\025\027\027\026\025\030\030\032\032\031\031\033\032\032\030\034\034\036\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035" +
+		"\035\034\031\035\035\037\036\036\035\037\037\036\030\034\034\036\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\015\025\025\027\026\026\025\027\027\026\025\030\030\032\032\031\031\033\032\032\030\034\034\036\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\027\033\033\035" +
+		"\034\034\033\035\035\034\031\035\035\037\036\036\035\037\037\036\030\034\034\036\035\035\034\036\036\035\030\034\034\036\035\035\034\036\036\035\014\024\024\026\025\025\024\026\026\025\024\027\027\031\031\030\030\032\031\031\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034\026\032\032\034\033\033\032\034\034\033\026\032\032\034\033\033\032\034\034\033" +
+		"\026\032\032\034\033\033\032\034\034\033\030\034\034\036\035\035\034\036\036\035\027\033\033\035\034\034\033\035\035\034\027\033\033\035\034\034\033\035\035\034";
+
+	public final static String WITHOUT_AND_BYTES =
+		"onetwothreefourfivesixseveneightnineteneleventwelvethirteenfourteenfifteensixteenseventeeneighte" +
+		"ennineteentwentytwenty onetwenty twotwenty threetwenty fourtwenty fivetwenty sixtwenty seventwen" +
+		"ty eighttwenty ninethirtythirty onethirty twothirty threethirty fourthirty fivethirty sixthirty " +
+		"seventhirty eightthirty ninefortyforty oneforty twoforty threeforty fourforty fiveforty sixforty" +
+		" sevenforty eightforty ninefiftyfifty onefifty twofifty threefifty fourfifty fivefifty sixfifty " +
+		"sevenfifty eightfifty ninesixtysixty onesixty twosixty threesixty foursixty fivesixty sixsixty s" +
+		"evensixty eightsixty nineseventyseventy oneseventy twoseventy threeseventy fourseventy fiveseven" +
+		"ty sixseventy sevenseventy eightseventy nineeightyeighty oneeighty twoeighty threeeighty foureig" +
+		"hty fiveeighty sixeighty seveneighty eighteighty nineninetyninety oneninety twoninety threeninet" +
+		"y fourninety fiveninety sixninety sevenninety eightninety nineone hundredone hundred oneone hund" +
+		"red twoone hundred threeone hundred fourone hundred fiveone hundred sixone hundred sevenone hund" +
+		"red eightone hundred nineone hundred tenone hundred elevenone hundred twelveone hundred thirteen" +
+		"one hundred fourteenone hundred fifteenone hundred sixteenone hundred seventeenone hundred eight" +
+		"eenone hundred nineteenone hundred twentyone hundred twenty oneone hundred twenty twoone hundred" +
+		" twenty threeone hundred twenty fourone hundred twenty fiveone hundred twenty sixone hundred twe" +
+		"nty sevenone hundred twenty eightone hundred twenty nineone hundred thirtyone hundred thirty one" +
+		"one hundred thirty twoone hundred thirty threeone hundred thirty fourone hundred thirty fiveone " +
+		"hundred thirty sixone hundred thirty sevenone hundred thirty eightone hundred thirty nineone hun" +
+		"dred fortyone hundred forty oneone hundred forty twoone hundred forty threeone hundred forty fou" +
+		"rone hundred forty fiveone hundred forty sixone hundred forty sevenone hundred forty eightone hu" +
+		"ndred forty nineone hundred fiftyone hundred fifty oneone hundred fifty twoone hundred fifty thr" +
+		"eeone hundred fifty fourone hundred fifty fiveone hundred fifty sixone hundred fifty sevenone hu" +
+		"ndred fifty eightone hundred fifty nineone hundred sixtyone hundred sixty oneone hundred sixty t" +
+		"woone hundred sixty threeone hundred sixty fourone hundred sixty fiveone hundred sixty sixone hu" +
+		"ndred sixty sevenone hundred sixty eightone hundred sixty nineone hundred seventyone hundred sev" +
+		"enty oneone hundred seventy twoone hundred seventy threeone hundred seventy fourone hundred seve" +
+		"nty fiveone hundred seventy sixone hundred seventy sevenone hundred seventy eightone hundred sev" +
+		"enty nineone hundred eightyone hundred eighty oneone hundred eighty twoone hundred eighty threeo" +
+		"ne hundred eighty fourone hundred eighty fiveone hundred eighty sixone hundred eighty sevenone h" +
+		"undred eighty eightone hundred eighty nineone hundred ninetyone hundred ninety oneone hundred ni" +
+		"nety twoone hundred ninety threeone hundred ninety fourone hundred ninety fiveone hundred ninety" +
+		" sixone hundred ninety sevenone hundred ninety eightone hundred ninety ninetwo hundredtwo hundre" +
+		"d onetwo hundred twotwo hundred threetwo hundred fourtwo hundred fivetwo hundred sixtwo hundred " +
+		"seventwo hundred eighttwo hundred ninetwo hundred tentwo hundred eleventwo hundred twelvetwo hun" +
+		"dred thirteentwo hundred fourteentwo hundred fifteentwo hundred sixteentwo hundred seventeentwo " +
+		"hundred eighteentwo hundred nineteentwo hundred twentytwo hundred twenty onetwo hundred twenty t" +
+		"wotwo hundred twenty threetwo hundred twenty fourtwo hundred twenty fivetwo hundred twenty sixtw" +
+		"o hundred twenty seventwo hundred twenty eighttwo hundred twenty ninetwo hundred thirtytwo hundr" +
+		"ed thirty onetwo hundred thirty twotwo hundred thirty threetwo hundred thirty fourtwo hundred th" +
+		"irty fivetwo hundred thirty sixtwo hundred thirty seventwo hundred thirty eighttwo hundred thirt" +
+		"y ninetwo hundred fortytwo hundred forty onetwo hundred forty twotwo hundred forty threetwo hund" +
+		"red forty fourtwo hundred forty fivetwo hundred forty sixtwo hundred forty seventwo hundred fort" +
+		"y eighttwo hundred forty ninetwo hundred fiftytwo hundred fifty onetwo hundred fifty twotwo hund" +
+		"red fifty threetwo hundred fifty fourtwo hundred fifty fivetwo hundred fifty sixtwo hundred fift" +
+		"y seventwo hundred fifty eighttwo hundred fifty ninetwo hundred sixtytwo hundred sixty onetwo hu" +
+		"ndred sixty twotwo hundred sixty threetwo hundred sixty fourtwo hundred sixty fivetwo hundred si" +
+		"xty sixtwo hundred sixty seventwo hundred sixty eighttwo hundred sixty ninetwo hundred seventytw" +
+		"o hundred seventy onetwo hundred seventy twotwo hundred seventy threetwo hundred seventy fourtwo" +
+		" hundred seventy fivetwo hundred seventy sixtwo hundred seventy seventwo hundred seventy eighttw" +
+		"o hundred seventy ninetwo hundred eightytwo hundred eighty onetwo hundred eighty twotwo hundred " +
+		"eighty threetwo hundred eighty fourtwo hundred eighty fivetwo hundred eighty sixtwo hundred eigh" +
+		"ty seventwo hundred eighty eighttwo hundred eighty ninetwo hundred ninetytwo hundred ninety onet" +
+		"wo hundred ninety twotwo hundred ninety threetwo hundred ninety fourtwo hundred ninety fivetwo h" +
+		"undred ninety sixtwo hundred ninety seventwo hundred ninety eighttwo hundred ninety ninethree hu" +
+		"ndredthree hundred onethree hundred twothree hundred threethree hundred fourthree hundred fiveth" +
+		"ree hundred sixthree hundred seventhree hundred eightthree hundred ninethree hundred tenthree hu" +
+		"ndred eleventhree hundred twelvethree hundred thirteenthree hundred fourteenthree hundred fiftee" +
+		"nthree hundred sixteenthree hundred seventeenthree hundred eighteenthree hundred nineteenthree h" +
+		"undred twentythree hundred twenty onethree hundred twenty twothree hundred twenty threethree hun" +
+		"dred twenty fourthree hundred twenty fivethree hundred twenty sixthree hundred twenty seventhree" +
+		" hundred twenty eightthree hundred twenty ninethree hundred thirtythree hundred thirty onethree " +
+		"hundred thirty twothree hundred thirty threethree hundred thirty fourthree hundred thirty fiveth" +
+		"ree hundred thirty sixthree hundred thirty seventhree hundred thirty eightthree hundred thirty n" +
+		"inethree hundred fortythree hundred forty onethree hundred forty twothree hundred forty threethr" +
+		"ee hundred forty fourthree hundred forty fivethree hundred forty sixthree hundred forty seventhr" +
+		"ee hundred forty eightthree hundred forty ninethree hundred fiftythree hundred fifty onethree hu" +
+		"ndred fifty twothree hundred fifty threethree hundred fifty fourthree hundred fifty fivethree hu" +
+		"ndred fifty sixthree hundred fifty seventhree hundred fifty eightthree hundred fifty ninethree h" +
+		"undred sixtythree hundred sixty onethree hundred sixty twothree hundred sixty threethree hundred" +
+		" sixty fourthree hundred sixty fivethree hundred sixty sixthree hundred sixty seventhree hundred" +
+		" sixty eightthree hundred sixty ninethree hundred seventythree hundred seventy onethree hundred " +
+		"seventy twothree hundred seventy threethree hundred seventy fourthree hundred seventy fivethree " +
+		"hundred seventy sixthree hundred seventy seventhree hundred seventy eightthree hundred seventy n" +
+		"inethree hundred eightythree hundred eighty onethree hundred eighty twothree hundred eighty thre" +
+		"ethree hundred eighty fourthree hundred eighty fivethree hundred eighty sixthree hundred eighty " +
+		"seventhree hundred eighty eightthree hundred eighty ninethree hundred ninetythree hundred ninety" +
+		" onethree hundred ninety twothree hundred ninety threethree hundred ninety fourthree hundred nin" +
+		"ety fivethree hundred ninety sixthree hundred ninety seventhree hundred ninety eightthree hundre" +
+		"d ninety ninefour hundredfour hundred onefour hundred twofour hundred threefour hundred fourfour" +
+		" hundred fivefour hundred sixfour hundred sevenfour hundred eightfour hundred ninefour hundred t" +
+		"enfour hundred elevenfour hundred twelvefour hundred thirteenfour hundred fourteenfour hundred f" +
+		"ifteenfour hundred sixteenfour hundred seventeenfour hundred eighteenfour hundred nineteenfour h" +
+		"undred twentyfour hundred twenty onefour hundred twenty twofour hundred twenty threefour hundred" +
+		" twenty fourfour hundred twenty fivefour hundred twenty sixfour hundred twenty sevenfour hundred" +
+		" twenty eightfour hundred twenty ninefour hundred thirtyfour hundred thirty onefour hundred thir" +
+		"ty twofour hundred thirty threefour hundred thirty fourfour hundred thirty fivefour hundred thir" +
+		"ty sixfour hundred thirty sevenfour hundred thirty eightfour hundred thirty ninefour hundred for" +
+		"tyfour hundred forty onefour hundred forty twofour hundred forty threefour hundred forty fourfou" +
+		"r hundred forty fivefour hundred forty sixfour hundred forty sevenfour hundred forty eightfour h" +
+		"undred forty ninefour hundred fiftyfour hundred fifty onefour hundred fifty twofour hundred fift" +
+		"y threefour hundred fifty fourfour hundred fifty fivefour hundred fifty sixfour hundred fifty se" +
+		"venfour hundred fifty eightfour hundred fifty ninefour hundred sixtyfour hundred sixty onefour h" +
+		"undred sixty twofour hundred sixty threefour hundred sixty fourfour hundred sixty fivefour hundr" +
+		"ed sixty sixfour hundred sixty sevenfour hundred sixty eightfour hundred sixty ninefour hundred " +
+		"seventyfour hundred seventy onefour hundred seventy twofour hundred seventy threefour hundred se" +
+		"venty fourfour hundred seventy fivefour hundred seventy sixfour hundred seventy sevenfour hundre" +
+		"d seventy eightfour hundred seventy ninefour hundred eightyfour hundred eighty onefour hundred e" +
+		"ighty twofour hundred eighty threefour hundred eighty fourfour hundred eighty fivefour hundred e" +
+		"ighty sixfour hundred eighty sevenfour hundred eighty eightfour hundred eighty ninefour hundred " +
+		"ninetyfour hundred ninety onefour hundred ninety twofour hundred ninety threefour hundred ninety" +
+		" fourfour hundred ninety fivefour hundred ninety sixfour hundred ninety sevenfour hundred ninety" +
+		" eightfour hundred ninety ninefive hundredfive hundred onefive hundred twofive hundred threefive" +
+		" hundred fourfive hundred fivefive hundred sixfive hundred sevenfive hundred eightfive hundred n" +
+		"inefive hundred tenfive hundred elevenfive hundred twelvefive hundred thirteenfive hundred fourt" +
+		"eenfive hundred fifteenfive hundred sixteenfive hundred seventeenfive hundred eighteenfive hundr" +
+		"ed nineteenfive hundred twentyfive hundred twenty onefive hundred twenty twofive hundred twenty " +
+		"threefive hundred twenty fourfive hundred twenty fivefive hundred twenty sixfive hundred twenty " +
+		"sevenfive hundred twenty eightfive hundred twenty ninefive hundred thirtyfive hundred thirty one" +
+		"five hundred thirty twofive hundred thirty threefive hundred thirty fourfive hundred thirty five" +
+		"five hundred thirty sixfive hundred thirty sevenfive hundred thirty eightfive hundred thirty nin" +
+		"efive hundred fortyfive hundred forty onefive hundred forty twofive hundred forty threefive hund" +
+		"red forty fourfive hundred forty fivefive hundred forty sixfive hundred forty sevenfive hundred " +
+		"forty eightfive hundred forty ninefive hundred fiftyfive hundred fifty onefive hundred fifty two" +
+		"five hundred fifty threefive hundred fifty fourfive hundred fifty fivefive hundred fifty sixfive" +
+		" hundred fifty sevenfive hundred fifty eightfive hundred fifty ninefive hundred sixtyfive hundre" +
+		"d sixty onefive hundred sixty twofive hundred sixty threefive hundred sixty fourfive hundred six" +
+		"ty fivefive hundred sixty sixfive hundred sixty sevenfive hundred sixty eightfive hundred sixty " +
+		"ninefive hundred seventyfive hundred seventy onefive hundred seventy twofive hundred seventy thr" +
+		"eefive hundred seventy fourfive hundred seventy fivefive hundred seventy sixfive hundred seventy" +
+		" sevenfive hundred seventy eightfive hundred seventy ninefive hundred eightyfive hundred eighty " +
+		"onefive hundred eighty twofive hundred eighty threefive hundred eighty fourfive hundred eighty f" +
+		"ivefive hundred eighty sixfive hundred eighty sevenfive hundred eighty eightfive hundred eighty " +
+		"ninefive hundred ninetyfive hundred ninety onefive hundred ninety twofive hundred ninety threefi" +
+		"ve hundred ninety fourfive hundred ninety fivefive hundred ninety sixfive hundred ninety sevenfi" +
+		"ve hundred ninety eightfive hundred ninety ninesix hundredsix hundred onesix hundred twosix hund" +
+		"red threesix hundred foursix hundred fivesix hundred sixsix hundred sevensix hundred eightsix hu" +
+		"ndred ninesix hundred tensix hundred elevensix hundred twelvesix hundred thirteensix hundred fou" +
+		"rteensix hundred fifteensix hundred sixteensix hundred seventeensix hundred eighteensix hundred " +
+		"nineteensix hundred twentysix hundred twenty onesix hundred twenty twosix hundred twenty threesi" +
+		"x hundred twenty foursix hundred twenty fivesix hundred twenty sixsix hundred twenty sevensix hu" +
+		"ndred twenty eightsix hundred twenty ninesix hundred thirtysix hundred thirty onesix hundred thi" +
+		"rty twosix hundred thirty threesix hundred thirty foursix hundred thirty fivesix hundred thirty " +
+		"sixsix hundred thirty sevensix hundred thirty eightsix hundred thirty ninesix hundred fortysix h" +
+		"undred forty onesix hundred forty twosix hundred forty threesix hundred forty foursix hundred fo" +
+		"rty fivesix hundred forty sixsix hundred forty sevensix hundred forty eightsix hundred forty nin" +
+		"esix hundred fiftysix hundred fifty onesix hundred fifty twosix hundred fifty threesix hundred f" +
+		"ifty foursix hundred fifty fivesix hundred fifty sixsix hundred fifty sevensix hundred fifty eig" +
+		"htsix hundred fifty ninesix hundred sixtysix hundred sixty onesix hundred sixty twosix hundred s" +
+		"ixty threesix hundred sixty foursix hundred sixty fivesix hundred sixty sixsix hundred sixty sev" +
+		"ensix hundred sixty eightsix hundred sixty ninesix hundred seventysix hundred seventy onesix hun" +
+		"dred seventy twosix hundred seventy threesix hundred seventy foursix hundred seventy fivesix hun" +
+		"dred seventy sixsix hundred seventy sevensix hundred seventy eightsix hundred seventy ninesix hu" +
+		"ndred eightysix hundred eighty onesix hundred eighty twosix hundred eighty threesix hundred eigh" +
+		"ty foursix hundred eighty fivesix hundred eighty sixsix hundred eighty sevensix hundred eighty e" +
+		"ightsix hundred eighty ninesix hundred ninetysix hundred ninety onesix hundred ninety twosix hun" +
+		"dred ninety threesix hundred ninety foursix hundred ninety fivesix hundred ninety sixsix hundred" +
+		" ninety sevensix hundred ninety eightsix hundred ninety nineseven hundredseven hundred oneseven " +
+		"hundred twoseven hundred threeseven hundred fourseven hundred fiveseven hundred sixseven hundred" +
+		" sevenseven hundred eightseven hundred nineseven hundred tenseven hundred elevenseven hundred tw" +
+		"elveseven hundred thirteenseven hundred fourteenseven hundred fifteenseven hundred sixteenseven " +
+		"hundred seventeenseven hundred eighteenseven hundred nineteenseven hundred twentyseven hundred t" +
+		"wenty oneseven hundred twenty twoseven hundred twenty threeseven hundred twenty fourseven hundre" +
+		"d twenty fiveseven hundred twenty sixseven hundred twenty sevenseven hundred twenty eightseven h" +
+		"undred twenty nineseven hundred thirtyseven hundred thirty oneseven hundred thirty twoseven hund" +
+		"red thirty threeseven hundred thirty fourseven hundred thirty fiveseven hundred thirty sixseven " +
+		"hundred thirty sevenseven hundred thirty eightseven hundred thirty nineseven hundred fortyseven " +
+		"hundred forty oneseven hundred forty twoseven hundred forty threeseven hundred forty fourseven h" +
+		"undred forty fiveseven hundred forty sixseven hundred forty sevenseven hundred forty eightseven " +
+		"hundred forty nineseven hundred fiftyseven hundred fifty oneseven hundred fifty twoseven hundred" +
+		" fifty threeseven hundred fifty fourseven hundred fifty fiveseven hundred fifty sixseven hundred" +
+		" fifty sevenseven hundred fifty eightseven hundred fifty nineseven hundred sixtyseven hundred si" +
+		"xty oneseven hundred sixty twoseven hundred sixty threeseven hundred sixty fourseven hundred six" +
+		"ty fiveseven hundred sixty sixseven hundred sixty sevenseven hundred sixty eightseven hundred si" +
+		"xty nineseven hundred seventyseven hundred seventy oneseven hundred seventy twoseven hundred sev" +
+		"enty threeseven hundred seventy fourseven hundred seventy fiveseven hundred seventy sixseven hun" +
+		"dred seventy sevenseven hundred seventy eightseven hundred seventy nineseven hundred eightyseven" +
+		" hundred eighty oneseven hundred eighty twoseven hundred eighty threeseven hundred eighty fourse" +
+		"ven hundred eighty fiveseven hundred eighty sixseven hundred eighty sevenseven hundred eighty ei" +
+		"ghtseven hundred eighty nineseven hundred ninetyseven hundred ninety oneseven hundred ninety two" +
+		"seven hundred ninety threeseven hundred ninety fourseven hundred ninety fiveseven hundred ninety" +
+		" sixseven hundred ninety sevenseven hundred ninety eightseven hundred ninety nineeight hundredei" +
+		"ght hundred oneeight hundred twoeight hundred threeeight hundred foureight hundred fiveeight hun" +
+		"dred sixeight hundred seveneight hundred eighteight hundred nineeight hundred teneight hundred e" +
+		"leveneight hundred twelveeight hundred thirteeneight hundred fourteeneight hundred fifteeneight " +
+		"hundred sixteeneight hundred seventeeneight hundred eighteeneight hundred nineteeneight hundred " +
+		"twentyeight hundred twenty oneeight hundred twenty twoeight hundred twenty threeeight hundred tw" +
+		"enty foureight hundred twenty fiveeight hundred twenty sixeight hundred twenty seveneight hundre" +
+		"d twenty eighteight hundred twenty nineeight hundred thirtyeight hundred thirty oneeight hundred" +
+		" thirty twoeight hundred thirty threeeight hundred thirty foureight hundred thirty fiveeight hun" +
+		"dred thirty sixeight hundred thirty seveneight hundred thirty eighteight hundred thirty nineeigh" +
+		"t hundred fortyeight hundred forty oneeight hundred forty twoeight hundred forty threeeight hund" +
+		"red forty foureight hundred forty fiveeight hundred forty sixeight hundred forty seveneight hund" +
+		"red forty eighteight hundred forty nineeight hundred fiftyeight hundred fifty oneeight hundred f" +
+		"ifty twoeight hundred fifty threeeight hundred fifty foureight hundred fifty fiveeight hundred f" +
+		"ifty sixeight hundred fifty seveneight hundred fifty eighteight hundred fifty nineeight hundred " +
+		"sixtyeight hundred sixty oneeight hundred sixty twoeight hundred sixty threeeight hundred sixty " +
+		"foureight hundred sixty fiveeight hundred sixty sixeight hundred sixty seveneight hundred sixty " +
+		"eighteight hundred sixty nineeight hundred seventyeight hundred seventy oneeight hundred seventy" +
+		" twoeight hundred seventy threeeight hundred seventy foureight hundred seventy fiveeight hundred" +
+		" seventy sixeight hundred seventy seveneight hundred seventy eighteight hundred seventy nineeigh" +
+		"t hundred eightyeight hundred eighty oneeight hundred eighty twoeight hundred eighty threeeight " +
+		"hundred eighty foureight hundred eighty fiveeight hundred eighty sixeight hundred eighty sevenei" +
+		"ght hundred eighty eighteight hundred eighty nineeight hundred ninetyeight hundred ninety oneeig" +
+		"ht hundred ninety twoeight hundred ninety threeeight hundred ninety foureight hundred ninety fiv" +
+		"eeight hundred ninety sixeight hundred ninety seveneight hundred ninety eighteight hundred ninet" +
+		"y ninenine hundrednine hundred onenine hundred twonine hundred threenine hundred fournine hundre" +
+		"d fivenine hundred sixnine hundred sevennine hundred eightnine hundred ninenine hundred tennine " +
+		"hundred elevennine hundred twelvenine hundred thirteennine hundred fourteennine hundred fifteenn" +
+		"ine hundred sixteennine hundred seventeennine hundred eighteennine hundred nineteennine hundred " +
+		"twentynine hundred twenty onenine hundred twenty twonine hundred twenty threenine hundred twenty" +
+		" fournine hundred twenty fivenine hundred twenty sixnine hundred twenty sevennine hundred twenty" +
+		" eightnine hundred twenty ninenine hundred thirtynine hundred thirty onenine hundred thirty twon" +
+		"ine hundred thirty threenine hundred thirty fournine hundred thirty fivenine hundred thirty sixn" +
+		"ine hundred thirty sevennine hundred thirty eightnine hundred thirty ninenine hundred fortynine " +
+		"hundred forty onenine hundred forty twonine hundred forty threenine hundred forty fournine hundr" +
+		"ed forty fivenine hundred forty sixnine hundred forty sevennine hundred forty eightnine hundred " +
+		"forty ninenine hundred fiftynine hundred fifty onenine hundred fifty twonine hundred fifty three" +
+		"nine hundred fifty fournine hundred fifty fivenine hundred fifty sixnine hundred fifty sevennine" +
+		" hundred fifty eightnine hundred fifty ninenine hundred sixtynine hundred sixty onenine hundred " +
+		"sixty twonine hundred sixty threenine hundred sixty fournine hundred sixty fivenine hundred sixt" +
+		"y sixnine hundred sixty sevennine hundred sixty eightnine hundred sixty ninenine hundred seventy" +
+		"nine hundred seventy onenine hundred seventy twonine hundred seventy threenine hundred seventy f" +
+		"ournine hundred seventy fivenine hundred seventy sixnine hundred seventy sevennine hundred seven" +
+		"ty eightnine hundred seventy ninenine hundred eightynine hundred eighty onenine hundred eighty t" +
+		"wonine hundred eighty threenine hundred eighty fournine hundred eighty fivenine hundred eighty s" +
+		"ixnine hundred eighty sevennine hundred eighty eightnine hundred eighty ninenine hundred ninetyn" +
+		"ine hundred ninety onenine hundred ninety twonine hundred ninety threenine hundred ninety fourni" +
+		"ne hundred ninety fivenine hundred ninety sixnine hundred ninety sevennine hundred ninety eightn" +
+		"ine hundred ninety nine";
+
+	public final static String WITHOUT_AND_ENDS =
+		"\000\003\006\013\017\023\026\033 $'-3;CJQZbjpz\204\220\233\246\260\274\310\323\331\343\355\371\u0104\u010f\u0119\u0125\u0131\u013c\u0141\u014a\u0153\u015e\u0168\u0172\u017b\u0186\u0191\u019b\u01a0\u01a9\u01b2\u01bd\u01c7\u01d1\u01da\u01e5\u01f0\u01fa\u01ff\u0208\u0211\u021c\u0226\u0230\u0239\u0244\u024f\u0259\u0260\u026b\u0276\u0283\u028f\u029b\u02a6\u02b3\u02c0\u02cc\u02d2\u02dc\u02e6\u02f2\u02fd\u0308\u0312\u031e\u032a\u0335\u033b\u0345\u034f\u035b\u0366\u0371" +
+		"\u037b\u0387\u0393\u039e\u03a9\u03b8\u03c7\u03d8\u03e8\u03f8\u0407\u0418\u0429\u0439\u0448\u045a\u046c\u0480\u0494\u04a7\u04ba\u04cf\u04e3\u04f7\u0509\u051f\u0535\u054d\u0564\u057b\u0591\u05a9\u05c1\u05d8\u05ea\u0600\u0616\u062e\u0645\u065c\u0672\u068a\u06a2\u06b9\u06ca\u06df\u06f4\u070b\u0721\u0737\u074c\u0763\u077a\u0790\u07a1\u07b6\u07cb\u07e2\u07f8\u080e\u0823\u083a\u0851\u0867\u0878\u088d\u08a2\u08b9\u08cf\u08e5\u08fa\u0911\u0928\u093e\u0951\u0968\u097f\u0998\u09b0\u09c8\u09df\u09f8\u0a11\u0a29\u0a3b\u0a51\u0a67\u0a7f\u0a96\u0aad\u0ac3\u0adb\u0af3\u0b0a\u0b1c\u0b32" +
+		"\u0b48\u0b60\u0b77\u0b8e\u0ba4\u0bbc\u0bd4\u0beb\u0bf6\u0c05\u0c14\u0c25\u0c35\u0c45\u0c54\u0c65\u0c76\u0c86\u0c95\u0ca7\u0cb9\u0ccd\u0ce1\u0cf4\u0d07\u0d1c\u0d30\u0d44\u0d56\u0d6c\u0d82\u0d9a\u0db1\u0dc8\u0dde\u0df6\u0e0e\u0e25\u0e37\u0e4d\u0e63\u0e7b\u0e92\u0ea9\u0ebf\u0ed7\u0eef\u0f06\u0f17\u0f2c\u0f41\u0f58\u0f6e\u0f84\u0f99\u0fb0\u0fc7\u0fdd\u0fee\u1003\u1018\u102f\u1045\u105b\u1070\u1087\u109e\u10b4\u10c5\u10da\u10ef\u1106\u111c\u1132\u1147\u115e\u1175\u118b\u119e\u11b5\u11cc\u11e5\u11fd\u1215\u122c\u1245\u125e\u1276\u1288\u129e\u12b4\u12cc\u12e3\u12fa\u1310\u1328" +
+		"\u1340\u1357\u1369\u137f\u1395\u13ad\u13c4\u13db\u13f1\u1409\u1421\u1438\u1445\u1456\u1467\u147a\u148c\u149e\u14af\u14c2\u14d5\u14e7\u14f8\u150c\u1520\u1536\u154c\u1561\u1576\u158d\u15a3\u15b9\u15cd\u15e5\u15fd\u1617\u1630\u1649\u1661\u167b\u1695\u16ae\u16c2\u16da\u16f2\u170c\u1725\u173e\u1756\u1770\u178a\u17a3\u17b6\u17cd\u17e4\u17fd\u1815\u182d\u1844\u185d\u1876\u188e\u18a1\u18b8\u18cf\u18e8\u1900\u1918\u192f\u1948\u1961\u1979\u198c\u19a3\u19ba\u19d3\u19eb\u1a03\u1a1a\u1a33\u1a4c\u1a64\u1a79\u1a92\u1aab\u1ac6\u1ae0\u1afa\u1b13\u1b2e\u1b49\u1b63\u1b77\u1b8f\u1ba7\u1bc1" +
+		"\u1bda\u1bf3\u1c0b\u1c25\u1c3f\u1c58\u1c6c\u1c84\u1c9c\u1cb6\u1ccf\u1ce8\u1d00\u1d1a\u1d34\u1d4d\u1d59\u1d69\u1d79\u1d8b\u1d9c\u1dad\u1dbd\u1dcf\u1de1\u1df2\u1e02\u1e15\u1e28\u1e3d\u1e52\u1e66\u1e7a\u1e90\u1ea5\u1eba\u1ecd\u1ee4\u1efb\u1f14\u1f2c\u1f44\u1f5b\u1f74\u1f8d\u1fa5\u1fb8\u1fcf\u1fe6\u1fff\u2017\u202f\u2046\u205f\u2078\u2090\u20a2\u20b8\u20ce\u20e6\u20fd\u2114\u212a\u2142\u215a\u2171\u2183\u2199\u21af\u21c7\u21de\u21f5\u220b\u2223\u223b\u2252\u2264\u227a\u2290\u22a8\u22bf\u22d6\u22ec\u2304\u231c\u2333\u2347\u235f\u2377\u2391\u23aa\u23c3\u23db\u23f5\u240f\u2428" +
+		"\u243b\u2452\u2469\u2482\u249a\u24b2\u24c9\u24e2\u24fb\u2513\u2526\u253d\u2554\u256d\u2585\u259d\u25b4\u25cd\u25e6\u25fe\u260a\u261a\u262a\u263c\u264d\u265e\u266e\u2680\u2692\u26a3\u26b3\u26c6\u26d9\u26ee\u2703\u2717\u272b\u2741\u2756\u276b\u277e\u2795\u27ac\u27c5\u27dd\u27f5\u280c\u2825\u283e\u2856\u2869\u2880\u2897\u28b0\u28c8\u28e0\u28f7\u2910\u2929\u2941\u2953\u2969\u297f\u2997\u29ae\u29c5\u29db\u29f3\u2a0b\u2a22\u2a34\u2a4a\u2a60\u2a78\u2a8f\u2aa6\u2abc\u2ad4\u2aec\u2b03\u2b15\u2b2b\u2b41\u2b59\u2b70\u2b87\u2b9d\u2bb5\u2bcd\u2be4\u2bf8\u2c10\u2c28\u2c42\u2c5b\u2c74" +
+		"\u2c8c\u2ca6\u2cc0\u2cd9\u2cec\u2d03\u2d1a\u2d33\u2d4b\u2d63\u2d7a\u2d93\u2dac\u2dc4\u2dd7\u2dee\u2e05\u2e1e\u2e36\u2e4e\u2e65\u2e7e\u2e97\u2eaf\u2eba\u2ec9\u2ed8\u2ee9\u2ef9\u2f09\u2f18\u2f29\u2f3a\u2f4a\u2f59\u2f6b\u2f7d\u2f91\u2fa5\u2fb8\u2fcb\u2fe0\u2ff4\u3008\u301a\u3030\u3046\u305e\u3075\u308c\u30a2\u30ba\u30d2\u30e9\u30fb\u3111\u3127\u313f\u3156\u316d\u3183\u319b\u31b3\u31ca\u31db\u31f0\u3205\u321c\u3232\u3248\u325d\u3274\u328b\u32a1\u32b2\u32c7\u32dc\u32f3\u3309\u331f\u3334\u334b\u3362\u3378\u3389\u339e\u33b3\u33ca\u33e0\u33f6\u340b\u3422\u3439\u344f\u3462\u3479" +
+		"\u3490\u34a9\u34c1\u34d9\u34f0\u3509\u3522\u353a\u354c\u3562\u3578\u3590\u35a7\u35be\u35d4\u35ec\u3604\u361b\u362d\u3643\u3659\u3671\u3688\u369f\u36b5\u36cd\u36e5\u36fc\u3709\u371a\u372b\u373e\u3750\u3762\u3773\u3786\u3799\u37ab\u37bc\u37d0\u37e4\u37fa\u3810\u3825\u383a\u3851\u3867\u387d\u3891\u38a9\u38c1\u38db\u38f4\u390d\u3925\u393f\u3959\u3972\u3986\u399e\u39b6\u39d0\u39e9\u3a02\u3a1a\u3a34\u3a4e\u3a67\u3a7a\u3a91\u3aa8\u3ac1\u3ad9\u3af1\u3b08\u3b21\u3b3a\u3b52\u3b65\u3b7c\u3b93\u3bac\u3bc4\u3bdc\u3bf3\u3c0c\u3c25\u3c3d\u3c50\u3c67\u3c7e\u3c97\u3caf\u3cc7\u3cde\u3cf7" +
+		"\u3d10\u3d28\u3d3d\u3d56\u3d6f\u3d8a\u3da4\u3dbe\u3dd7\u3df2\u3e0d\u3e27\u3e3b\u3e53\u3e6b\u3e85\u3e9e\u3eb7\u3ecf\u3ee9\u3f03\u3f1c\u3f30\u3f48\u3f60\u3f7a\u3f93\u3fac\u3fc4\u3fde\u3ff8\u4011\u401e\u402f\u4040\u4053\u4065\u4077\u4088\u409b\u40ae\u40c0\u40d1\u40e5\u40f9\u410f\u4125\u413a\u414f\u4166\u417c\u4192\u41a6\u41be\u41d6\u41f0\u4209\u4222\u423a\u4254\u426e\u4287\u429b\u42b3\u42cb\u42e5\u42fe\u4317\u432f\u4349\u4363\u437c\u438f\u43a6\u43bd\u43d6\u43ee\u4406\u441d\u4436\u444f\u4467\u447a\u4491\u44a8\u44c1\u44d9\u44f1\u4508\u4521\u453a\u4552\u4565\u457c\u4593\u45ac" +
+		"\u45c4\u45dc\u45f3\u460c\u4625\u463d\u4652\u466b\u4684\u469f\u46b9\u46d3\u46ec\u4707\u4722\u473c\u4750\u4768\u4780\u479a\u47b3\u47cc\u47e4\u47fe\u4818\u4831\u4845\u485d\u4875\u488f\u48a8\u48c1\u48d9\u48f3\u490d\u4926\u4932\u4942\u4952\u4964\u4975\u4986\u4996\u49a8\u49ba\u49cb\u49db\u49ee\u4a01\u4a16\u4a2b\u4a3f\u4a53\u4a69\u4a7e\u4a93\u4aa6\u4abd\u4ad4\u4aed\u4b05\u4b1d\u4b34\u4b4d\u4b66\u4b7e\u4b91\u4ba8\u4bbf\u4bd8\u4bf0\u4c08\u4c1f\u4c38\u4c51\u4c69\u4c7b\u4c91\u4ca7\u4cbf\u4cd6\u4ced\u4d03\u4d1b\u4d33\u4d4a\u4d5c\u4d72\u4d88\u4da0\u4db7\u4dce\u4de4\u4dfc\u4e14\u4e2b" +
+		"\u4e3d\u4e53\u4e69\u4e81\u4e98\u4eaf\u4ec5\u4edd\u4ef5\u4f0c\u4f20\u4f38\u4f50\u4f6a\u4f83\u4f9c\u4fb4\u4fce\u4fe8\u5001\u5014\u502b\u5042\u505b\u5073\u508b\u50a2\u50bb\u50d4\u50ec\u50ff\u5116\u512d\u5146\u515e\u5176\u518d\u51a6\u51bf\u51d7";
+
+	public final static String WITHOUT_AND_LENGTHS =
+		"\000\003\003\005\004\004\003\005\005\004\003\006\006\010\010\007\007\011\010\010\006\012\012\014\013\013\012\014\014\013\006\012\012\014\013\013\012\014\014\013\005\011\011\013\012\012\011\013\013\012\005\011\011\013\012\012\011\013\013\012\005\011\011\013\012\012\011\013\013\012\007\013\013\015\014\014\013\015\015\014\006\012\012\014\013\013\012\014\014\013\006\012\012\014\013\013" +
+		"\012\014\014\013\013\017\017\021\020\020\017\021\021\020\017\022\022\024\024\023\023\025\024\024\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\023\027\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030\030\027\022\026" +
+		"\026\030\027\027\026\030\030\027\013\017\017\021\020\020\017\021\021\020\017\022\022\024\024\023\023\025\024\024\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\023\027\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030" +
+		"\030\027\022\026\026\030\027\027\026\030\030\027\015\021\021\023\022\022\021\023\023\022\021\024\024\026\026\025\025\027\026\026\024\030\030\032\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\025\031\031\033\032\032\031\033\033\032\024\030\030\032" +
+		"\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\014\020\020\022\021\021\020\022\022\021\020\023\023\025\025\024\024\026\025\025\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\024\030\030\032\031\031\030\032\032\031" +
+		"\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\014\020\020\022\021\021\020\022\022\021\020\023\023\025\025\024\024\026\025\025\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\024\030\030\032\031\031" +
+		"\030\032\032\031\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\013\017\017\021\020\020\017\021\021\020\017\022\022\024\024\023\023\025\024\024\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\021\025\025\027\026\026\025\027\027\026\023\027" +
+		"\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027\015\021\021\023\022\022\021\023\023\022\021\024\024\026\026\025\025\027\026\026\024\030\030\032\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031" +
+		"\031\030\025\031\031\033\032\032\031\033\033\032\024\030\030\032\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\015\021\021\023\022\022\021\023\023\022\021\024\024\026\026\025\025\027\026\026\024\030\030\032\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\023\027\027\031" +
+		"\030\030\027\031\031\030\025\031\031\033\032\032\031\033\033\032\024\030\030\032\031\031\030\032\032\031\024\030\030\032\031\031\030\032\032\031\014\020\020\022\021\021\020\022\022\021\020\023\023\025\025\024\024\026\025\025\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030\022\026\026\030\027\027\026\030\030\027\022\026\026\030\027\027\026\030\030\027" +
+		"\022\026\026\030\027\027\026\030\030\027\024\030\030\032\031\031\030\032\032\031\023\027\027\031\030\030\027\031\031\030\023\027\027\031\030\030\027\031\031\030";
+
+	private GeneratedTables()
+	{
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * How a WordifyEngine capitalizes its words. An engine applies the mode
+ * once, to its vocabulary and phrase tables, when it is built, so
+ * converting a number never looks at the mode again.
+ */
+public enum Capitalization
+{
+	/**
+	 * Words as the language gives them, e.g. one thousand and one
+	 */
+	NONE,
+
+	/**
+	 * Only the first letter of the first word, e.g. One thousand and one
+	 */
+	FIRST_WORD,
+
+	/**
+	 * The first letter of every word, e.g. One Thousand And One
+	 */
+	ALL_WORDS,
+
+	/**
+	 * Every letter, e.g. ONE THOUSAND AND ONE
+	 */
+	UPPER_CASE;
+
+	/**
+	 * Apply the mode to any word or phrase of the vocabulary
+	 *
+	 * @param words A word, or words between separators
+	 * @return The words to keep in the tables
+	 */
+	String words( @NotNull String words )
+	{
+		switch ( this )
+		{
+			case ALL_WORDS:
+				char[] chars = words.toCharArray();
+				for ( int i = 0; i < chars.length; i++ )
+				{
+					// A letter starts a word unless it follows another letter
+					if ( i == 0 || !Character.isLetter( chars[i - 1] ) )
+					{
+						chars[i] = Character.toUpperCase( chars[i] );
+					}
+				}
+				return new String( chars );
+			case UPPER_CASE:
+				return words.toUpperCase( Locale.ROOT );
+			default:
+				return words;
+		}
+	}
+
+	/**
+	 * Apply the mode to a word or phrase that starts the output
+	 *
+	 * @param words Words already passed through words()
+	 * @return The same String if the mode leaves it as is, else the capitalized copy
+	 */
+	String first( @NotNull String words )
+	{
+		if ( this != FIRST_WORD || words.isEmpty() )
+		{
+			return words;
+		}
+		char head = Character.toUpperCase( words.charAt( 0 ) );
+		return head == words.charAt( 0 ) ? words : head + words.substring( 1 );
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The outcome of converting an integer representation to English words.
+ * It holds either the words, or a hint as to why the input is invalid.
+ */
+public final class Conversion
+{
+	private final String words;
+
+	private final String hint;
+
+	private Conversion( String words, String hint )
+	{
+		this.words = words;
+		this.hint = hint;
+	}
+
+	/**
+	 * Create a successful conversion
+	 *
+	 * @param words The English words
+	 * @return The conversion
+	 */
+	static Conversion valid( @NotNull String words )
+	{
+		return new Conversion( words, null );
+	}
+
+	/**
+	 * Create a failed conversion
+	 *
+	 * @param hint A hint from ValidateNumeric as to why the input is invalid
+	 * @return The conversion
+	 */
+	static Conversion invalid( @NotNull String hint )
+	{
+		return new Conversion( null, hint );
+	}
+
+	/**
+	 * @return True if the input was a valid integer representation
+	 */
+	public boolean isValid()
+	{
+		return words != null;
+	}
+
+	/**
+	 * @return The English words, or null if the input was invalid
+	 */
+	public String words()
+	{
+		return words;
+	}
+
+	/**
+	 * @return A hint as to why the input was invalid, or null if it was valid
+	 */
+	public String hint()
+	{
+		return hint;
+	}
+
+	/**
+	 * @return The English words, or the hint if the input was invalid
+	 */
+	@Override
+	public String toString()
+	{
+		return isValid() ? words : hint;
+	}
+}
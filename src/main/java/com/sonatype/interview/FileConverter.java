@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.metrics.ConversionMetrics;
+import com.sonatype.interview.metrics.PhaseEvents;
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Convert a file of numbers, one per line, into a file of English words.
+ * The input is split into chunks at line boundaries, the chunks are
+ * memory-mapped and converted in parallel on a fork/join pool, and the
+ * results are written back in input order. Invalid lines are replaced
+ * by their hint. The digits are read straight from the mapped bytes,
+ * and the words are written as pre-encoded ASCII bytes. A line longer
+ * than MAX_LINE_LENGTH is replaced by the TOO_LONG hint, and the rest of
+ * it is skipped, not mapped, which bounds the size of every chunk.
+ */
+final class FileConverter
+{
+	/**
+	 * Default chunk size in bytes
+	 */
+	final static int CHUNK_SIZE = 1 << 22;
+
+	/**
+	 * Largest chunk size allowed, so the words for a chunk fit in one array
+	 */
+	final static int MAX_CHUNK_SIZE = 1 << 24;
+
+	/**
+	 * Longest line accepted in bytes, far past the longest valid number
+	 */
+	final static int MAX_LINE_LENGTH = 1 << 20;
+
+	// Output bytes first allocated for a chunk, grown as the words are written
+	private final static int OUTPUT_ESTIMATE = 1 << 16;
+
+	// Largest array the VM reliably allocates
+	private final static int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	// Block size used when searching for the end of a line
+	private final static int SCAN_SIZE = 1 << 13;
+
+	private final static byte[] LINE_SEPARATOR = System.lineSeparator().getBytes( StandardCharsets.US_ASCII );
+
+	private final WordifyEngine engine;
+
+	private final ForkJoinPool pool;
+
+	private final int chunkSize;
+
+	// Converted chunks waiting to be written, bounding memory use
+	private final int maxPending;
+
+	/**
+	 * @param engine The engine to convert each line with
+	 * @param pool The pool to convert the chunks on
+	 * @param chunkSize Approximate number of input bytes per chunk
+	 * @throws IllegalArgumentException If the chunk size is not from 1 to MAX_CHUNK_SIZE
+	 */
+	FileConverter( @NotNull WordifyEngine engine, @NotNull ForkJoinPool pool, int chunkSize )
+	{
+		if ( chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE )
+		{
+			throw new IllegalArgumentException( "Chunk size must be from 1 to " + MAX_CHUNK_SIZE + ": " + chunkSize );
+		}
+		this.engine = engine;
+		this.pool = pool;
+		this.chunkSize = chunkSize;
+		this.maxPending = pool.getParallelism() * 4;
+	}
+
+	/**
+	 * Convert every line of the input file, writing one line of words
+	 * or a hint to the output file for each line read
+	 *
+	 * @param input File of numbers, one per line
+	 * @param output File to write the words to
+	 * @return The number of lines converted
+	 * @throws IOException If the input cannot be read or the output cannot be written
+	 */
+	long convert( @NotNull Path input, @NotNull Path output ) throws IOException
+	{
+		try (
+			FileChannel channel = FileChannel.open( input, StandardOpenOption.READ );
+			OutputStream out = Files.newOutputStream( output )
+		)
+		{
+			long size = channel.size();
+			long lines = 0;
+			long start = 0;
+			Deque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>( maxPending );
+
+			while ( start < size || !pending.isEmpty() )
+			{
+				// Keep the pool busy while the oldest chunk is written
+				while ( start < size && pending.size() < maxPending )
+				{
+					long cut = Math.min( start + chunkSize, size );
+					long end = lineBoundary( channel, cut, MAX_LINE_LENGTH, size );
+					if ( end < 0 )
+					{
+						// The line at the cut is too long, so end the chunk there and skip the rest of the line
+						pending.add( pool.submit( new ChunkTask( channel, start, cut, true ) ) );
+						start = lineBoundary( channel, cut, Long.MAX_VALUE, size );
+					}
+					else
+					{
+						pending.add( pool.submit( new ChunkTask( channel, start, end, false ) ) );
+						start = end;
+					}
+				}
+
+				Chunk chunk = join( pending.remove() );
+				Object io = PhaseEvents.begin( PhaseEvents.IO );
+				out.write( chunk.bytes, 0, chunk.length );
+				PhaseEvents.end( io, 0, 0, chunk.length );
+				lines += chunk.lines;
+			}
+			return lines;
+		}
+	}
+
+	/**
+	 * Find the offset just after the first newline at or after the given offset
+	 *
+	 * @param channel The input file
+	 * @param from Offset to start searching at
+	 * @param reach Bytes to search before giving up
+	 * @param size Size of the file
+	 * @return Offset of the next line, the size of the file, or -1 if there is no newline in reach
+	 * @throws IOException If the file cannot be read
+	 */
+	private static long lineBoundary( FileChannel channel, long from, long reach, long size ) throws IOException
+	{
+		ByteBuffer buffer = ByteBuffer.allocate( SCAN_SIZE );
+		long pos = from;
+		while ( pos < size )
+		{
+			if ( pos - from > reach )
+			{
+				return -1;
+			}
+			( (Buffer) buffer ).clear();	// Java 8 has no covariant ByteBuffer.clear()
+			int read = channel.read( buffer, pos );
+			for ( int i = 0; i < read; i++ )
+			{
+				if ( buffer.get( i ) == '\n' )
+				{
+					return pos + i + 1;
+				}
+			}
+			pos += read;
+		}
+		return size;
+	}
+
+	/**
+	 * Wait for a chunk, unwrapping any I/O failure
+	 *
+	 * @param task The chunk task
+	 * @return The converted chunk
+	 * @throws IOException If the chunk could not be read
+	 */
+	private static Chunk join( ForkJoinTask<Chunk> task ) throws IOException
+	{
+		try
+		{
+			return task.join();
+		}
+		catch ( UncheckedIOException e )
+		{
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Converted output of one chunk
+	 */
+	private static final class Chunk
+	{
+		final byte[] bytes;
+
+		final int length;
+
+		final long lines;
+
+		Chunk( byte[] bytes, int length, long lines )
+		{
+			this.bytes = bytes;
+			this.length = length;
+			this.lines = lines;
+		}
+	}
+
+	/**
+	 * Map and convert the lines in one byte range of the input
+	 */
+	private final class ChunkTask extends RecursiveTask<Chunk>
+	{
+		private final static long serialVersionUID = 1L;
+
+		private final FileChannel channel;
+
+		private final long start;
+
+		private final long end;
+
+		// True if the chunk ends inside a line too long to convert
+		private final boolean overlongTail;
+
+		ChunkTask( FileChannel channel, long start, long end, boolean overlongTail )
+		{
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+			this.overlongTail = overlongTail;
+		}
+
+		@Override
+		protected Chunk compute()
+		{
+			// Map the chunk so the digits are scanned in place, never decoded to UTF-16
+			MappedByteBuffer buffer;
+			try
+			{
+				buffer = channel.map( FileChannel.MapMode.READ_ONLY, start, end - start );
+			}
+			catch ( IOException e )
+			{
+				throw new UncheckedIOException( e );
+			}
+
+			int size = buffer.limit();
+			int[] groups = new int[WordifyEngine.numGroups( ValidateNumeric.maxDigits() )];
+			ByteBuffer out = ByteBuffer.allocate( Math.min( size, OUTPUT_ESTIMATE ) + LINE_SEPARATOR.length );
+			long lines = 0;
+			int from = 0;
+			while ( from < size )
+			{
+				int to = from;
+				while ( to < size && buffer.get( to ) != '\n' )
+				{
+					to++;
+				}
+				if ( to - from > MAX_LINE_LENGTH || ( to == size && overlongTail ) )
+				{
+					out = putHint( out, ValidateNumeric.TOO_LONG );
+				}
+				else
+				{
+					out = convertLine( buffer, from, to, groups, out );
+				}
+
+				lines++;
+				from = to + 1;
+			}
+			if ( overlongTail && buffer.get( size - 1 ) == '\n' )
+			{
+				// The too-long line starts right at the end of the chunk
+				out = putHint( out, ValidateNumeric.TOO_LONG );
+				lines++;
+			}
+			return new Chunk( out.array(), out.position(), lines );
+		}
+
+		/**
+		 * Convert one line of the mapped input, trimmed as String.trim() would,
+		 * writing the pre-encoded words or the hint to the output
+		 *
+		 * @param buffer The mapped chunk
+		 * @param from Offset of the start of the line
+		 * @param to Offset of the end of the line, excluding the newline
+		 * @param groups Reusable array for the thousands groups
+		 * @param out Buffer to write the words or the hint to
+		 * @return The output buffer, or a larger copy if it ran out of room
+		 */
+		private ByteBuffer convertLine( ByteBuffer buffer, int from, int to, int[] groups, ByteBuffer out )
+		{
+			while ( from < to && ( buffer.get( from ) & 0xFF ) <= ' ' )
+			{
+				from++;
+			}
+			while ( to > from && ( buffer.get( to - 1 ) & 0xFF ) <= ' ' )
+			{
+				to--;
+			}
+
+			long started = ConversionMetrics.start();
+			Object validation = PhaseEvents.begin( PhaseEvents.VALIDATION );
+			String hint = ValidateNumeric.validateWithHints( buffer, from, to - from );
+			PhaseEvents.end( validation, to - from, 0, 0 );
+			if ( hint != null )
+			{
+				out = putHint( out, hint );
+			}
+			else
+			{
+				boolean isNegative = buffer.get( from ) == '-';
+				int offset = isNegative ? from + 1 : from;
+				Object grouping = PhaseEvents.begin( PhaseEvents.GROUPING );
+				int numGroups = Wordify.groupNonNegativeIntegers( buffer, offset, to - offset, groups );
+				PhaseEvents.end( grouping, to - from, numGroups, 0 );
+
+				out = ensureRemaining( out, engine.encodedLength( groups, numGroups, isNegative ) + LINE_SEPARATOR.length );
+				Object rendering = PhaseEvents.begin( PhaseEvents.RENDERING );
+				int mark = out.position();
+				engine.writeGroups( groups, numGroups, isNegative, out );
+				PhaseEvents.end( rendering, to - from, numGroups, out.position() - mark );
+				out.put( LINE_SEPARATOR );
+			}
+			ConversionMetrics.record( to - from, hint, started );
+			return out;
+		}
+	}
+
+	/**
+	 * Write a hint in place of a line
+	 *
+	 * @param out Buffer to write the hint to
+	 * @param hint The hint
+	 * @return The output buffer, or a larger copy if it ran out of room
+	 */
+	private static ByteBuffer putHint( ByteBuffer out, String hint )
+	{
+		byte[] bytes = hint.getBytes( StandardCharsets.US_ASCII );
+		out = ensureRemaining( out, bytes.length + LINE_SEPARATOR.length );
+		return out.put( bytes ).put( LINE_SEPARATOR );
+	}
+
+	/**
+	 * Grow the output buffer if it cannot hold the given number of bytes
+	 *
+	 * @param buffer The output buffer
+	 * @param needed The number of bytes about to be written
+	 * @return The buffer, or a larger copy of it
+	 * @throws IllegalStateException If the bytes would not fit in an array
+	 */
+	private static ByteBuffer ensureRemaining( ByteBuffer buffer, int needed )
+	{
+		if ( buffer.remaining() >= needed )
+		{
+			return buffer;
+		}
+		long required = (long) buffer.position() + needed;
+		if ( required > MAX_ARRAY_SIZE )
+		{
+			throw new IllegalStateException( "The words for a chunk take more than " + MAX_ARRAY_SIZE + " bytes" );
+		}
+		ByteBuffer larger = ByteBuffer.allocate( (int) Math.min( Math.max( buffer.capacity() * 2L, required ), MAX_ARRAY_SIZE ) );
+		return larger.put( buffer.array(), 0, buffer.position() );
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Dictionary;
+import com.sonatype.interview.utils.GeneratedTables;
+import com.sonatype.interview.utils.Language;
+import com.sonatype.interview.utils.PackedWords;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Phrases for every group from 0 to 999, with and without an 'and',
+ * as Strings, UTF-8 bytes and lengths in chars, plus the same phrases
+ * capitalized to start the output. The tables of the built-in language
+ * are packed into the constants of GeneratedTables, and each phrase is
+ * only unpacked when first used. Any other tables are composed in full up front.
+ */
+final class PhraseTables
+{
+	// Tables without and with an 'and', then the same two to start the output
+	private final static int TABLES = 4;
+
+	private final static int FIRST = 2;
+
+	// A String is immutable, so another thread sees a whole phrase or none
+	private final String[][] phrases;
+
+	// Every table end to end, as an array may be seen before its contents unless published atomically
+	private final AtomicReferenceArray<byte[]> encoded;
+
+	// Lengths in chars without and with an 'and', which capitalizing a first letter leaves as is
+	private final int[][] lengths;
+
+	// Generated phrases without and with an 'and', unpacked on first use, or null if composed up front
+	private final PackedWords[] packed;
+
+	private final Capitalization capitalization;
+
+	private PhraseTables( String[][] phrases, AtomicReferenceArray<byte[]> encoded, int[][] lengths, PackedWords[] packed,
+		Capitalization capitalization )
+	{
+		this.phrases = phrases;
+		this.encoded = encoded;
+		this.lengths = lengths;
+		this.packed = packed;
+		this.capitalization = capitalization;
+	}
+
+	/**
+	 * Return the tables for a language, unpacked from the generated
+	 * constants for the built-in language and composed for any other
+	 *
+	 * @param language The language to compose the phrases in
+	 * @param capitalization How the phrases that start the output are capitalized
+	 * @return The tables
+	 */
+	static PhraseTables forLanguage( @NotNull Language language, @NotNull Capitalization capitalization )
+	{
+		if ( language != Dictionary.ENGLISH )
+		{
+			return compose( language, capitalization );
+		}
+		return new PhraseTables(
+			new String[TABLES][WordifyEngine.GROUP_SIZE], new AtomicReferenceArray<>( TABLES * WordifyEngine.GROUP_SIZE ),
+			new int[][]{ ints( GeneratedTables.WITHOUT_AND_LENGTHS ), ints( GeneratedTables.WITH_AND_LENGTHS ) },
+			new PackedWords[]{
+				PackedWords.fromConstants( GeneratedTables.WITHOUT_AND_BYTES, GeneratedTables.WITHOUT_AND_ENDS ),
+				PackedWords.fromConstants( GeneratedTables.WITH_AND_BYTES, GeneratedTables.WITH_AND_ENDS )
+			},
+			capitalization
+		);
+	}
+
+	/**
+	 * Compose every phrase from the words of a language
+	 *
+	 * @param language The language to compose the phrases in
+	 * @param capitalization How the phrases that start the output are capitalized
+	 * @return The tables
+	 */
+	static PhraseTables compose( @NotNull Language language, @NotNull Capitalization capitalization )
+	{
+		String[][] phrases = new String[TABLES][];
+		AtomicReferenceArray<byte[]> encoded = new AtomicReferenceArray<>( TABLES * WordifyEngine.GROUP_SIZE );
+		int[][] lengths = new int[FIRST][];
+		for ( int table = 0; table < FIRST; table++ )
+		{
+			phrases[table] = buildPhrases( language, table == table( true, false ) );
+			encode( phrases[table], encoded, table * WordifyEngine.GROUP_SIZE );
+			lengths[table] = lengths( phrases[table] );
+			phrases[table + FIRST] = new String[WordifyEngine.GROUP_SIZE];
+		}
+
+		// Capitalize the first phrases now, so no lookup ever has to
+		PhraseTables tables = new PhraseTables( phrases, encoded, lengths, null, capitalization );
+		for ( int group = 0; group < WordifyEngine.GROUP_SIZE; group++ )
+		{
+			tables.firstEncoded( group, false );
+			tables.firstEncoded( group, true );
+		}
+		return tables;
+	}
+
+	/**
+	 * Look up the words for a group, unpacking them on first use.
+	 * Two threads may both unpack the same phrase, which is harmless.
+	 *
+	 * @param group An int from 0 to 999
+	 * @param withAnd True for the phrase with an 'and' before the remainder under 100
+	 * @return The words for the group, or an empty string for zero
+	 */
+	String phrase( int group, boolean withAnd )
+	{
+		return lookup( group, table( withAnd, false ) );
+	}
+
+	/**
+	 * @param group An int from 1 to 999
+	 * @param withAnd True for the phrase with an 'and' before the remainder under 100
+	 * @return The words for the group, capitalized to start the output
+	 */
+	String firstPhrase( int group, boolean withAnd )
+	{
+		return lookup( group, table( withAnd, true ) );
+	}
+
+	/**
+	 * Look up the UTF-8 bytes of the words for a group, unpacking them on first use
+	 *
+	 * @param group An int from 0 to 999
+	 * @param withAnd True for the phrase with an 'and' before the remainder under 100
+	 * @return The encoded words for the group
+	 */
+	byte[] encoded( int group, boolean withAnd )
+	{
+		return lookupEncoded( group, table( withAnd, false ) );
+	}
+
+	/**
+	 * @param group An int from 1 to 999
+	 * @param withAnd True for the phrase with an 'and' before the remainder under 100
+	 * @return The encoded words for the group, capitalized to start the output
+	 */
+	byte[] firstEncoded( int group, boolean withAnd )
+	{
+		return lookupEncoded( group, table( withAnd, true ) );
+	}
+
+	/**
+	 * @param group An int from 0 to 999
+	 * @param withAnd True for the phrase with an 'and' before the remainder under 100
+	 * @return The length in chars of the words for the group, capitalized or not
+	 */
+	int length( int group, boolean withAnd )
+	{
+		return lengths[table( withAnd, false )][group];
+	}
+
+	/**
+	 * @param withAnd True for the phrases with an 'and'
+	 * @param first True for the phrases that start the output
+	 * @return Index of the table
+	 */
+	private static int table( boolean withAnd, boolean first )
+	{
+		return ( withAnd ? 1 : 0 ) + ( first ? FIRST : 0 );
+	}
+
+	/**
+	 * @param group An int from 0 to 999
+	 * @param table Index of the table
+	 * @return The phrase, unpacked or capitalized on first use
+	 */
+	private String lookup( int group, int table )
+	{
+		String phrase = phrases[table][group];
+		if ( phrase == null )
+		{
+			phrase = phrases[table][group] = table < FIRST
+				? packed[table].get( group )
+				: capitalization.first( lookup( group, table - FIRST ) );
+		}
+		return phrase;
+	}
+
+	/**
+	 * @param group An int from 0 to 999
+	 * @param table Index of the table
+	 * @return The encoded phrase, unpacked or encoded on first use
+	 */
+	private byte[] lookupEncoded( int group, int table )
+	{
+		int index = table * WordifyEngine.GROUP_SIZE + group;
+		byte[] bytes = encoded.get( index );
+		if ( bytes == null )
+		{
+			if ( table < FIRST )
+			{
+				bytes = packed[table].bytes( group );
+			}
+			else
+			{
+				// A phrase the capitalization leaves as is shares its bytes
+				String phrase = lookup( group, table );
+				bytes = phrase == lookup( group, table - FIRST )
+					? lookupEncoded( group, table - FIRST )
+					: phrase.getBytes( StandardCharsets.UTF_8 );
+			}
+			encoded.set( index, bytes );
+		}
+		return bytes;
+	}
+
+	/**
+	 * Build an immutable table of phrases for every group from 0 to 999.
+	 * The zero group has no words and maps to an empty string.
+	 *
+	 * @param language The language to compose the phrases in
+	 * @param withAnd True to add an 'and' between the hundred and the remainder
+	 * @return Table of phrases indexed by group value
+	 */
+	private static String[] buildPhrases( Language language, boolean withAnd )
+	{
+		String[] phrases = new String[WordifyEngine.GROUP_SIZE];
+		phrases[0] = "";
+		for ( int n = 1; n < WordifyEngine.GROUP_SIZE; n++ )
+		{
+			phrases[n] = language.phrase( n, withAnd );
+		}
+		return phrases;
+	}
+
+	/**
+	 * Encode every word as UTF-8 bytes
+	 *
+	 * @param words The words to encode
+	 * @param encoded Where to put the encoded words, in the same order
+	 * @param offset Index of the first encoded word
+	 */
+	private static void encode( String[] words, AtomicReferenceArray<byte[]> encoded, int offset )
+	{
+		for ( int i = 0; i < words.length; i++ )
+		{
+			encoded.set( offset + i, words[i].getBytes( StandardCharsets.UTF_8 ) );
+		}
+	}
+
+	/**
+	 * @param chars A generated constant holding one char per int
+	 * @return The ints
+	 */
+	private static int[] ints( String chars )
+	{
+		int[] ints = new int[chars.length()];
+		for ( int i = 0; i < ints.length; i++ )
+		{
+			ints[i] = chars.charAt( i );
+		}
+		return ints;
+	}
+
+	/**
+	 * @param words Words or phrases
+	 * @return The length in chars of each one, in the same order
+	 */
+	private static int[] lengths( String[] words )
+	{
+		int[] lengths = new int[words.length];
+		for ( int i = 0; i < words.length; i++ )
+		{
+			lengths[i] = words[i].length();
+		}
+		return lengths;
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the English words for a range of non-negative longs.
+ * The groups are counted up like an odometer, and the words for the upper
+ * groups are kept in a buffer with a mark after each group, so a carry only
+ * re-renders the groups it changed and most numbers re-render just the units.
+ */
+final class RangeSpliterator implements Spliterator<String>
+{
+	// Ranges smaller than this are not worth splitting
+	private final static long MIN_SPLIT = 1 << 10;
+
+	private final WordifyEngine engine;
+
+	private long next;
+
+	private final long to;
+
+	private boolean done;
+
+	// Odometer state, created on the first advance so splitting stays cheap
+	private int[] groups;	// Least significant first
+
+	private int numGroups;
+
+	private int[] marks;	// Buffer length after rendering each group down to that level
+
+	private StringBuilder sb;
+
+	/**
+	 * @param engine The engine to render the groups with
+	 * @param from The first integer, zero or more
+	 * @param to The last integer, inclusive, no less than from
+	 */
+	RangeSpliterator( WordifyEngine engine, long from, long to )
+	{
+		this.engine = engine;
+		this.next = from;
+		this.to = to;
+	}
+
+	@Override
+	public boolean tryAdvance( Consumer<? super String> action )
+	{
+		if ( done )
+		{
+			return false;
+		}
+		if ( sb == null )
+		{
+			start();
+		}
+
+		// Keep the upper groups and render only the units
+		sb.setLength( numGroups > 1 ? marks[1] : 0 );
+		engine.appendGroup( sb, groups[0], numGroups - 1, numGroups, sb.length() == 0 );
+		String words = sb.toString();
+
+		if ( next == to )
+		{
+			done = true;
+		}
+		else
+		{
+			next++;
+			increment();
+		}
+		action.accept( words );
+		return true;
+	}
+
+	@Override
+	public Spliterator<String> trySplit()
+	{
+		if ( done || sb != null || to - next < MIN_SPLIT )
+		{
+			return null;
+		}
+
+		// Hand off the lower half and keep the upper half
+		long mid = next + ( to - next ) / 2;
+		Spliterator<String> lower = new RangeSpliterator( engine, next, mid );
+		next = mid + 1;
+		return lower;
+	}
+
+	@Override
+	public long estimateSize()
+	{
+		if ( done )
+		{
+			return 0;
+		}
+		long size = to - next;
+		return size == Long.MAX_VALUE ? Long.MAX_VALUE : size + 1;
+	}
+
+	@Override
+	public int characteristics()
+	{
+		return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+	}
+
+	/**
+	 * Split the first number into groups and render all but the units
+	 */
+	private void start()
+	{
+		groups = new int[WordifyEngine.LONG_GROUPS];
+		marks = new int[WordifyEngine.LONG_GROUPS];
+		sb = new StringBuilder( 64 );
+
+		long value = next;
+		numGroups = 0;
+		do
+		{
+			groups[numGroups++] = (int) ( value % 1000 );
+			value /= 1000;
+		}
+		while ( value != 0 );
+
+		render( numGroups - 1 );
+	}
+
+	/**
+	 * Count up by one, rendering the upper groups that the carry changed
+	 */
+	private void increment()
+	{
+		int level = 0;
+		while ( ++groups[level] == WordifyEngine.GROUP_SIZE )
+		{
+			groups[level++] = 0;
+		}
+
+		if ( level >= numGroups )
+		{
+			// A new leading group changes every scale
+			numGroups = level + 1;
+			render( numGroups - 1 );
+		}
+		else if ( level > 0 )
+		{
+			render( level );
+		}
+	}
+
+	/**
+	 * Render the groups from the given level down to, but excluding, the units
+	 *
+	 * @param level The highest level that changed
+	 */
+	private void render( int level )
+	{
+		sb.setLength( level == numGroups - 1 ? 0 : marks[level + 1] );
+		for ( int i = level; i > 0; i-- )
+		{
+			engine.appendGroup( sb, groups[i], numGroups - 1 - i, numGroups, sb.length() == 0 );
+			marks[i] = sb.length();
+		}
+	}
+}
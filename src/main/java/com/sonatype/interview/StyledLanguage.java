@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Language;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A language with some of its words replaced and every word capitalized
+ * by a WordifyEngine.Builder. The language's own phrase rules are kept,
+ * unless the conjunction or separator is replaced, as only the default
+ * rules in Language.phrase() know where those go.
+ */
+final class StyledLanguage implements Language
+{
+	private final Language language;
+
+	private final Capitalization capitalization;
+
+	private final String[] onesAndTeens;
+
+	private final String[] tens;
+
+	private final String hundred;
+
+	private final String and;
+
+	private final String negative;
+
+	private final String space;
+
+	// True to compose the phrases with the default rules
+	private final boolean recompose;
+
+	/**
+	 * @param language The language to style
+	 * @param conjunction Word between the hundreds and the remainder, or null to keep the language's
+	 * @param separator Separator between words, or null to keep the language's
+	 * @param negative Word for negative numbers, or null to keep the language's
+	 * @param capitalization How every word is capitalized
+	 */
+	StyledLanguage( @NotNull Language language, String conjunction, String separator, String negative,
+		@NotNull Capitalization capitalization )
+	{
+		this.language = language;
+		this.capitalization = capitalization;
+		this.onesAndTeens = words( language.onesAndTeens() );
+		this.tens = words( language.tens() );
+		this.hundred = capitalization.words( language.hundred() );
+		this.and = capitalization.words( conjunction != null ? conjunction : language.and() );
+		this.negative = capitalization.words( negative != null ? negative : language.negative() );
+		this.space = separator != null ? separator : language.space();
+		this.recompose = conjunction != null || separator != null;
+	}
+
+	@Override
+	public String tag()
+	{
+		return language.tag();
+	}
+
+	@Override
+	public String[] onesAndTeens()
+	{
+		return onesAndTeens;
+	}
+
+	@Override
+	public String[] tens()
+	{
+		return tens;
+	}
+
+	@Override
+	public String hundred()
+	{
+		return hundred;
+	}
+
+	@Override
+	public String and()
+	{
+		return and;
+	}
+
+	@Override
+	public String negative()
+	{
+		return negative;
+	}
+
+	@Override
+	public String space()
+	{
+		return space;
+	}
+
+	@Override
+	public int scaleCount()
+	{
+		return language.scaleCount();
+	}
+
+	@Override
+	public String scale( int index )
+	{
+		return capitalization.words( language.scale( index ) );
+	}
+
+	@Override
+	public int scaleLength( int index )
+	{
+		// Only upper-casing a whole word may change its length, e.g. for a sharp s
+		return capitalization == Capitalization.UPPER_CASE ? scale( index ).length() : language.scaleLength( index );
+	}
+
+	@Override
+	public String phrase( int group, boolean withAnd )
+	{
+		return recompose
+			? Language.super.phrase( group, withAnd )
+			: capitalization.words( language.phrase( group, withAnd ) );
+	}
+
+	/**
+	 * @param words Words of the language, which may have gaps, e.g. tens[0]
+	 * @return A capitalized copy
+	 */
+	private String[] words( String[] words )
+	{
+		String[] styled = new String[words.length];
+		for ( int i = 0; i < words.length; i++ )
+		{
+			styled[i] = words[i] == null ? null : capitalization.words( words[i] );
+		}
+		return styled;
+	}
+}
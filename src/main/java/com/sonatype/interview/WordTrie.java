@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import java.util.Arrays;
+
+/**
+ * Compact trie from lower-case words to int values. Nodes are stored as
+ * first-child and next-sibling arrays, so there are no per-node objects
+ * and a lookup costs O(length) with at most 26 siblings per step.
+ */
+final class WordTrie
+{
+	/**
+	 * Returned when a word is not in the trie
+	 */
+	final static int NOT_FOUND = -1;
+
+	private char[] labels;
+
+	private int[] firstChild;
+
+	private int[] nextSibling;
+
+	private int[] values;
+
+	private int size;
+
+	/**
+	 * @param expectedChars Roughly the total length of the words to add
+	 */
+	WordTrie( int expectedChars )
+	{
+		int capacity = Math.max( 16, expectedChars + 1 );
+		labels = new char[capacity];
+		firstChild = new int[capacity];
+		nextSibling = new int[capacity];
+		values = new int[capacity];
+
+		// Node zero is the root
+		size = 1;
+		firstChild[0] = NOT_FOUND;
+		nextSibling[0] = NOT_FOUND;
+		values[0] = NOT_FOUND;
+	}
+
+	/**
+	 * Add a word, keeping the first value if the word was already added
+	 *
+	 * @param word A non-empty lower-case word
+	 * @param value A non-negative value
+	 */
+	void put( String word, int value )
+	{
+		int node = 0;
+		for ( int i = 0; i < word.length(); i++ )
+		{
+			int child = child( node, word.charAt( i ) );
+			if ( child == NOT_FOUND )
+			{
+				child = addChild( node, word.charAt( i ) );
+			}
+			node = child;
+		}
+		if ( values[node] == NOT_FOUND )
+		{
+			values[node] = value;
+		}
+	}
+
+	/**
+	 * Look up a word, ignoring case
+	 *
+	 * @param text Text holding the word
+	 * @param start Offset of the first char
+	 * @param end Offset after the last char
+	 * @return The value, or NOT_FOUND
+	 */
+	int get( CharSequence text, int start, int end )
+	{
+		int node = 0;
+		for ( int i = start; i < end && node != NOT_FOUND; i++ )
+		{
+			node = child( node, Character.toLowerCase( text.charAt( i ) ) );
+		}
+		return node == NOT_FOUND ? NOT_FOUND : values[node];
+	}
+
+	private int child( int node, char label )
+	{
+		int child = firstChild[node];
+		while ( child != NOT_FOUND && labels[child] != label )
+		{
+			child = nextSibling[child];
+		}
+		return child;
+	}
+
+	private int addChild( int node, char label )
+	{
+		if ( size == labels.length )
+		{
+			int capacity = size * 2;
+			labels = Arrays.copyOf( labels, capacity );
+			firstChild = Arrays.copyOf( firstChild, capacity );
+			nextSibling = Arrays.copyOf( nextSibling, capacity );
+			values = Arrays.copyOf( values, capacity );
+		}
+
+		int child = size++;
+		labels[child] = label;
+		firstChild[child] = NOT_FOUND;
+		values[child] = NOT_FOUND;
+		nextSibling[child] = firstChild[node];
+		firstChild[node] = child;
+		return child;
+	}
+}
@@ -4,9 +4,12 @@
 
 package com.sonatype.interview;
 
+import com.sonatype.interview.metrics.PhaseEvents;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 
 import static com.sonatype.interview.utils.Dictionary.*;
 
@@ -26,75 +29,87 @@ class Wordify
 	 */
     static String numberToWords( @NotNull String number )
     {
-    	boolean isNegative = false;
-		ArrayList<String> parts = new ArrayList<>( 1 );
+		boolean isNegative = number.charAt( 0 ) == '-';
+		int start = isNegative ? 1 : 0;
+		Object grouping = PhaseEvents.begin( PhaseEvents.GROUPING );
+		int[] groups = new int[WordifyEngine.numGroups( number.length() - start )];
+		int numGroups = groupNonNegativeIntegers( number, start, number.length(), groups );
+		PhaseEvents.end( grouping, number.length(), numGroups, 0 );
 
-		// Remove leading dash
-		if ( number.charAt( 0 ) == '-' )
-		{
-			isNegative = true;
-			number = number.startsWith( "-" ) ? number.substring( 1 ) : number;
-		}
+		// Size the buffer exactly so the words are never copied while growing
+		Object rendering = PhaseEvents.begin( PhaseEvents.RENDERING );
+		StringBuilder sb = new StringBuilder( WordifyEngine.DEFAULT.wordsLength( groups, numGroups, isNegative ) );
+		WordifyEngine.DEFAULT.appendGroups( groups, numGroups, isNegative, sb );
+		PhaseEvents.end( rendering, number.length(), numGroups, sb.length() );
+		return sb.toString();
+    }
 
-    	int[] groups = groupNonNegativeIntegers( number );
+	/**
+	 * Convert the integer representation of a number to English words
+	 * and append them to the given buffer without intermediate objects
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 *
+	 * @param number Representation of an integer
+	 * @param out Buffer to append the English words to
+	 */
+	static void numberToWords( @NotNull CharSequence number, @NotNull StringBuilder out )
+	{
+		WordifyEngine.DEFAULT.appendTo( number, out );
+	}
 
-    	// Prepend the word 'negative' to indicate this is a negative number
-		if ( isNegative )
-		{
-			addWords( parts, NEGATIVE );
-		}
+	/**
+	 * Convert the integer representation of a number to English words
+	 * and write them to the given output without intermediate objects
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 *
+	 * @param number Representation of an integer
+	 * @param out Output to append the English words to
+	 * @throws IOException If the output cannot be written to
+	 */
+	static void numberToWords( @NotNull CharSequence number, @NotNull Appendable out ) throws IOException
+	{
+		WordifyEngine.DEFAULT.appendTo( number, out );
+	}
 
-		// Loop over the groups
-    	for ( int i = 0; i < groups.length; i++ )
-		{
-			if ( i == groups.length - 1 )
-			{
-				// The one case to return 'zero'
-				if ( groups.length == 1 && groups[0] == 0 )
-				{
-					addWords( parts, ONE_TO_NINETEEN[0] );
-				}
-
-				// Possibly and an 'and' if:
-				// There are multiple groups
-				// There is only one group and it is over 100
-				boolean withAnd = groups.length > 1 || groups[0] > 100;
-				addWords( parts, smallIntToWords( groups[i], withAnd ) );
-			}
-			else
-			{
-				// Skip zero groups except the very last group
-				if ( groups[i] != 0 )
-				{
-					// Most groups
-					addWords( parts, smallIntToWords( groups[i] ) );
-					addWords( parts, THOUSAND_SCALES[groups.length - 2 - i] );
-				}
-			}
-		}
+	/**
+	 * Convert an int to English words without any string parsing
+	 * e.g. -1234 -> Negative one thousand two hundred and thirty four
+	 *
+	 * @param number Any int
+	 * @return English words representing the given number
+	 */
+	static String numberToWords( int number )
+	{
+		return numberToWords( (long) number );
+	}
 
-		// Join the parts
-		return String.join( SPACE, parts );
-    }
+	/**
+	 * Convert a long to English words without any string parsing
+	 * e.g. -1234 -> Negative one thousand two hundred and thirty four
+	 *
+	 * @param number Any long, including Long.MIN_VALUE
+	 * @return English words representing the given number
+	 */
+	static String numberToWords( long number )
+	{
+		StringBuilder sb = new StringBuilder( 64 );
+		WordifyEngine.DEFAULT.appendTo( number, sb );
+		return sb.toString();
+	}
 
 	/**
-	 * Helper method to avoid adding empty strings, and also
-	 * to capitalize the first word of the resulting phrase
+	 * Convert a BigInteger to English words without any string parsing
+	 * e.g. -1234 -> Negative one thousand two hundred and thirty four
 	 *
-	 * @param arr Array of strings
-	 * @param str String to add to the given array
+	 * @param number An integer with no more than ValidateNumeric.maxDigits() digits
+	 * @return English words representing the given number
+	 * @throws IllegalArgumentException If the number has more digits than there are scales for
 	 */
-	private static void addWords( ArrayList<String> arr, String str )
+	static String numberToWords( @NotNull BigInteger number )
 	{
-		if ( !str.isEmpty() )
-		{
-			if ( arr.size() == 0 )
-			{
-				// Capitalize the first word only
-				str = str.substring( 0, 1 ).toUpperCase() + str.substring( 1 );
-			}
-			arr.add( str );
-		}
+		StringBuilder sb = new StringBuilder( 64 );
+		WordifyEngine.DEFAULT.appendTo( number, sb );
+		return sb.toString();
 	}
 
 	/**
@@ -116,11 +131,12 @@ class Wordify
 	 * e.g. 450 -> four hundred fifty
 	 * If the withAnd parameter is true, then an 'and' is added between the 100 and and remainder
 	 * e.g. 450 -> four hundred and fifty
+	 * This is the reference implementation for the WordifyEngine phrase tables.
 	 *
 	 * @param nnNumber An int from 1 to 999
 	 * @return The English words for this number. If the number is not in range, then return an empty string.
 	 */
-	private static String smallIntToWords( int nnNumber, boolean withAnd )
+	static String smallIntToWords( int nnNumber, boolean withAnd )
 	{
 		String andStr = ( withAnd ? AND + SPACE : "" );		// add an 'and' between 100 and the remainder
 
@@ -159,27 +175,93 @@ class Wordify
 
 	/**
 	 * Group a non-negative string representation of an integer into
-	 * actual integers grouped by thousands
+	 * actual integers grouped by thousands. Leading spaces are ignored.
 	 *
 	 * @param number Non-negative string representation of an integer
 	 * @return Array of integers grouped by thousands
 	 */
 	static int[] groupNonNegativeIntegers( @NotNull String number )
 	{
-		int size = 3;
-		int evenLength = (int) Math.ceil( number.length() / (double) size ) * size;
-		int[] groups = new int[evenLength / size];
+		int start = skipSpaces( number );
+		int[] groups = new int[WordifyEngine.numGroups( number.length() - start )];
+		groupNonNegativeIntegers( number, start, number.length(), groups );
+		return groups;
+	}
+
+	/**
+	 * Group the digits of a non-negative integer representation into
+	 * the given array, most significant group first. The array may be
+	 * reused between calls as long as it is large enough.
+	 *
+	 * @param number Non-negative representation of an integer
+	 * @param start Offset of the first digit
+	 * @param end Offset after the last digit
+	 * @param groups Array to fill with the groups, large enough for every group
+	 * @return The number of groups written
+	 */
+	static int groupNonNegativeIntegers( @NotNull CharSequence number, int start, int end, @NotNull int[] groups )
+	{
+		int digits = end - start;
+		int numGroups = WordifyEngine.numGroups( digits );
+		if ( numGroups == 0 )
+		{
+			return 0;
+		}
 
-		String paddedNumber = String.format( "%" + evenLength + "s", number );
+		// The leading group holds the remaining one to three digits
+		int width = digits - ( numGroups - 1 ) * 3;
+		groups[0] = WordifyEngine.leadingGroupValue( number, start, width );
 
-		for ( int group = 0; group < groups.length; group++ )
+		for ( int group = 1, pos = start + width; group < numGroups; group++, pos += 3 )
 		{
-			groups[group] = Integer.parseInt(
-				paddedNumber.substring( group * size, (group * size) + size ).trim(),
-				10
-			);
+			groups[group] = WordifyEngine.groupValue( number, pos );
 		}
+		return numGroups;
+	}
 
-		return groups;
+	/**
+	 * Group the ASCII digits of a non-negative integer representation held in a
+	 * buffer into the given array, most significant group first. No String or
+	 * char[] is created, and the array may be reused between calls.
+	 *
+	 * @param buffer Buffer holding ASCII digits
+	 * @param offset Absolute offset of the first digit
+	 * @param length Number of digits
+	 * @param groups Array to fill with the groups, large enough for every group
+	 * @return The number of groups written
+	 */
+	static int groupNonNegativeIntegers( @NotNull ByteBuffer buffer, int offset, int length, @NotNull int[] groups )
+	{
+		int numGroups = WordifyEngine.numGroups( length );
+		int pos = offset;
+
+		// The leading group holds the remaining one to three digits
+		int width = length - ( numGroups - 1 ) * 3;
+		for ( int group = 0; group < numGroups; group++, width = 3 )
+		{
+			int value = 0;
+			for ( int end = pos + width; pos < end; pos++ )
+			{
+				value = value * 10 + ( buffer.get( pos ) - '0' );
+			}
+			groups[group] = value;
+		}
+		return numGroups;
+	}
+
+	/**
+	 * Find the first character that isn't a space
+	 *
+	 * @param number String representation of an integer
+	 * @return Offset of the first non-space character
+	 */
+	private static int skipSpaces( String number )
+	{
+		int start = 0;
+		while ( start < number.length() && number.charAt( start ) == ' ' )
+		{
+			start++;
+		}
+		return start;
 	}
 }
@@ -0,0 +1,1569 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.metrics.ConversionMetrics;
+import com.sonatype.interview.utils.Dictionary;
+import com.sonatype.interview.utils.Language;
+import com.sonatype.interview.utils.Languages;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.sonatype.interview.utils.ValidateNumeric.*;
+
+/**
+ * Conversion engine backed by precomputed phrase tables.
+ * Every group of three digits (0 to 999) is rendered once, up front,
+ * so converting a group is a single array lookup instead of
+ * recursive string concatenation. The tables are compiled from a
+ * Language once, the first time an engine for that language is asked for,
+ * or unpacked from GeneratedTables for the built-in language.
+ * An engine with another style, e.g. another conjunction, is made with
+ * builder() and composes its own tables, with the style already applied,
+ * when it is built. Engines are immutable and safe to share between threads.
+ */
+public final class WordifyEngine
+{
+	/**
+	 * Number of distinct three-digit groups
+	 */
+	final static int GROUP_SIZE = 1000;
+
+	// Engines compiled so far, by language tag
+	private final static Map<String, WordifyEngine> ENGINES = new ConcurrentHashMap<>();
+
+	/**
+	 * The default English engine
+	 */
+	public final static WordifyEngine DEFAULT = forLanguage( Dictionary.ENGLISH );
+
+	/**
+	 * A long has at most 19 digits
+	 */
+	final static int LONG_GROUPS = 7;
+
+	// Bytes read from a channel at a time when streaming
+	private final static int STREAM_BUFFER_SIZE = 1 << 12;
+
+	// Powers of 1000^(2^k), grown on demand for the BigInteger conversion
+	private static volatile BigInteger[] POWERS_OF_THOUSAND = { BigInteger.valueOf( 1000 ) };
+
+	// Most powers kept in the shared cache, enough to split any number the built-in language converts
+	private final static int CACHED_POWERS = Integer.SIZE - Integer.numberOfLeadingZeros( Dictionary.ENGLISH.scaleCount() );
+
+	// Digits per bit of a BigInteger
+	private final static double LOG10_2 = Math.log10( 2 );
+
+	private final Language language;
+
+	// Phrases for 0..999, with and without an 'and' before the remainder under 100
+	private final PhraseTables phrases;
+
+	// Scale names, filled in on first use so unused scales are never decoded.
+	// A String is immutable, so another thread sees a whole name or none.
+	private final String[] scales;
+
+	// Length of each scale name, known without decoding the names
+	private final int[] scaleLengths;
+
+	private final String negative;
+
+	private final String space;
+
+	private final String zero;
+
+	// The same words capitalized to start the output
+	private final String firstNegative;
+
+	private final String firstZero;
+
+	// Most digits there are scales for
+	private final int maxDigits;
+
+	// The same words pre-encoded as UTF-8 for byte output, filled in on first use.
+	// Unlike a String, an array may be seen before its contents, so each is published atomically.
+	private final AtomicReferenceArray<byte[]> scaleBytes;
+
+	private final byte[] negativeBytes;
+
+	private final byte[] spaceBytes;
+
+	private final byte[] zeroBytes;
+
+	private final byte[] firstNegativeBytes;
+
+	private final byte[] firstZeroBytes;
+
+	/**
+	 * @param language The language to convert to, with any style already applied to its words
+	 * @param capitalization How the words that start the output are capitalized
+	 */
+	private WordifyEngine( Language language, Capitalization capitalization )
+	{
+		this.language = language;
+		this.phrases = PhraseTables.forLanguage( language, capitalization );
+		this.scales = new String[language.scaleCount()];
+		this.scaleLengths = new int[scales.length];
+		for ( int i = 0; i < scaleLengths.length; i++ )
+		{
+			scaleLengths[i] = language.scaleLength( i );
+		}
+		this.negative = language.negative();
+		this.space = language.space();
+		this.zero = language.onesAndTeens()[0];
+		this.firstNegative = capitalization.first( negative );
+		this.firstZero = capitalization.first( zero );
+		this.maxDigits = ( scales.length * 3 ) + 3;
+
+		this.scaleBytes = new AtomicReferenceArray<>( scales.length );
+		this.negativeBytes = negative.getBytes( StandardCharsets.UTF_8 );
+		this.spaceBytes = space.getBytes( StandardCharsets.UTF_8 );
+		this.zeroBytes = zero.getBytes( StandardCharsets.UTF_8 );
+		this.firstNegativeBytes = firstNegative.getBytes( StandardCharsets.UTF_8 );
+		this.firstZeroBytes = firstZero.getBytes( StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Return the engine for a language, compiling its tables on first use
+	 *
+	 * @param language The language to convert to
+	 * @return The shared engine for the language
+	 */
+	public static WordifyEngine forLanguage( @NotNull Language language )
+	{
+		WordifyEngine engine = ENGINES.get( language.tag() );
+		if ( engine == null )
+		{
+			// A lock rather than computeIfAbsent, so the first engine does not bootstrap a lambda at startup
+			synchronized ( ENGINES )
+			{
+				engine = ENGINES.get( language.tag() );
+				if ( engine == null )
+				{
+					engine = new WordifyEngine( language, Capitalization.FIRST_WORD );
+					ENGINES.put( language.tag(), engine );
+				}
+			}
+		}
+		return engine;
+	}
+
+	/**
+	 * Start building an engine with its own style. The style is applied
+	 * to the engine's tables once, when it is built.
+	 *
+	 * @return A builder for the default English style
+	 */
+	public static Builder builder()
+	{
+		return new Builder();
+	}
+
+	/**
+	 * Return the engine for a language tag, compiling its tables on first use
+	 *
+	 * @param tag The IETF language tag, e.g. en
+	 * @return The shared engine for the language
+	 * @throws IllegalArgumentException If no language has the tag
+	 */
+	public static WordifyEngine forTag( @NotNull String tag )
+	{
+		WordifyEngine engine = ENGINES.get( tag );
+		return engine != null ? engine : forLanguage( Languages.forTag( tag ) );
+	}
+
+	/**
+	 * @return The language this engine converts to
+	 */
+	public Language language()
+	{
+		return language;
+	}
+
+	/**
+	 * Validate and convert the integer representation of a number to English words
+	 * in a single left-to-right pass. Each character is read exactly once.
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 * e.g. 0.5 -> Fractional numbers are not supported.
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The English words, or the same hint ValidateNumeric.validateWithHints() would give
+	 */
+	public Conversion convert( @NotNull CharSequence number )
+	{
+		long started = ConversionMetrics.start();
+		StringBuilder sb = new StringBuilder( 64 );
+		String hint = convert( number, sb );
+		ConversionMetrics.record( number.length(), hint, started );
+		return hint == null ? Conversion.valid( sb.toString() ) : Conversion.invalid( hint );
+	}
+
+	/**
+	 * Validate and convert the integer representation of a number to English words
+	 * in a single left-to-right pass, appending the words to the given buffer.
+	 * If the number is invalid, the buffer is restored to its original length.
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @param out Buffer to append the words to
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateWithHints() would give
+	 */
+	String convert( @NotNull CharSequence number, @NotNull StringBuilder out )
+	{
+		return convert( number, out, maxDigits );
+	}
+
+	/**
+	 * Validate and convert the integer representation of a number of any length,
+	 * naming the scales past the language's own with the Conway-Wechsler system
+	 * e.g. 1 followed by 3003 zeros -> One millinillion
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The English words, or the same hint ValidateNumeric.validateUnboundedWithHints() would give
+	 */
+	public Conversion convertUnbounded( @NotNull CharSequence number )
+	{
+		long started = ConversionMetrics.start();
+		StringBuilder sb = new StringBuilder( 64 );
+		String hint = convert( number, sb, MAX_UNBOUNDED_DIGITS );
+		ConversionMetrics.record( number.length(), hint, started );
+		return hint == null ? Conversion.valid( sb.toString() ) : Conversion.invalid( hint );
+	}
+
+	/**
+	 * Validate and convert in a single pass with the given digit limit
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @param out Buffer to append the words to
+	 * @param maxDigits Most digits allowed
+	 * @return Null if valid, otherwise the hint
+	 */
+	private String convert( CharSequence number, StringBuilder out, int maxDigits )
+	{
+		int mark = out.length();
+		try
+		{
+			String hint = validateAndGroup( new SequenceSource( number ), number.length(), maxDigits, new Renderer( out ) );
+			if ( hint != null )
+			{
+				out.setLength( mark );
+			}
+			return hint;
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws, and a CharSequence never ends early
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Validate and convert an integer representation read from a stream, writing
+	 * the words for each group as soon as its last digit is read. Memory use is
+	 * constant however long the number is. If an invalid char is found part way,
+	 * the words for the groups before it have already been written.
+	 * Wrap slow readers in a BufferedReader, as chars are read one at a time.
+	 *
+	 * @param in Reader positioned at the number
+	 * @param length Number of chars in the representation, including any dash
+	 * @param out Writer to write the words to
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateWithHints() would give
+	 * @throws IOException If the reader ends early, or either stream fails
+	 */
+	public String convert( @NotNull Reader in, long length, @NotNull Writer out ) throws IOException
+	{
+		return convert( in::read, length, out, maxDigits );
+	}
+
+	/**
+	 * Validate and convert an integer representation of any length read from a stream,
+	 * as convert( Reader, long, Writer ) does, naming the scales past the language's
+	 * own with the Conway-Wechsler system
+	 *
+	 * @param in Reader positioned at the number
+	 * @param length Number of chars in the representation, including any dash
+	 * @param out Writer to write the words to
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateUnboundedWithHints() would give
+	 * @throws IOException If the reader ends early, or either stream fails
+	 */
+	public String convertUnbounded( @NotNull Reader in, long length, @NotNull Writer out ) throws IOException
+	{
+		return convert( in::read, length, out, MAX_UNBOUNDED_DIGITS );
+	}
+
+	/**
+	 * Validate and convert an integer representation read from a channel as ASCII,
+	 * writing the words for each group as soon as its last digit is read. Memory use
+	 * is constant however long the number is, and nothing past the number is read.
+	 * If an invalid byte is found part way, the words for the groups before it have
+	 * already been written.
+	 *
+	 * @param in Channel positioned at the number
+	 * @param length Number of bytes in the representation, including any dash
+	 * @param out Writer to write the words to
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateWithHints() would give
+	 * @throws IOException If the channel ends early, or either stream fails
+	 */
+	public String convert( @NotNull ReadableByteChannel in, long length, @NotNull Writer out ) throws IOException
+	{
+		return convert( new ChannelSource( in, length ), length, out, maxDigits );
+	}
+
+	/**
+	 * Source of chars for the streaming conversion
+	 */
+	private interface CharSource
+	{
+		/**
+		 * @return The next char, or -1 at the end of the stream
+		 * @throws IOException If the stream cannot be read
+		 */
+		int read() throws IOException;
+	}
+
+	/**
+	 * Reads ASCII bytes from a channel through a small buffer,
+	 * never reading past the given number of bytes
+	 */
+	private static final class ChannelSource implements CharSource
+	{
+		private final ReadableByteChannel in;
+
+		private final ByteBuffer buffer;
+
+		private long unread;
+
+		ChannelSource( ReadableByteChannel in, long length )
+		{
+			this.in = in;
+			this.buffer = ByteBuffer.allocate( (int) Math.max( 1, Math.min( STREAM_BUFFER_SIZE, length ) ) );
+			this.unread = length;
+			( (Buffer) buffer ).flip();	// Start empty
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			while ( !buffer.hasRemaining() )
+			{
+				if ( unread <= 0 )
+				{
+					return -1;
+				}
+				( (Buffer) buffer ).clear();	// Java 8 has no covariant ByteBuffer.clear()
+				( (Buffer) buffer ).limit( (int) Math.min( buffer.capacity(), unread ) );
+				int read = in.read( buffer );
+				( (Buffer) buffer ).flip();
+				if ( read < 0 )
+				{
+					return -1;
+				}
+				unread -= read;
+			}
+			return buffer.get() & 0xFF;
+		}
+	}
+
+	/**
+	 * Validate and convert an integer representation one char at a time,
+	 * following the same rules as convert( CharSequence, StringBuilder )
+	 *
+	 * @param in Source of the chars
+	 * @param length Number of chars in the representation, including any dash
+	 * @param out Output to write the words to
+	 * @param maxDigits Most digits allowed
+	 * @return Null if valid, otherwise the hint
+	 * @throws IOException If the source ends early, or either stream fails
+	 */
+	private String convert( CharSource in, long length, Appendable out, int maxDigits ) throws IOException
+	{
+		return validateAndGroup( in, length, maxDigits, new Renderer( out ) );
+	}
+
+	/**
+	 * The one validation pass every conversion shares. Check an integer
+	 * representation one char at a time, and hand each thousands group
+	 * to the sink as soon as its last digit is read.
+	 *
+	 * @param in Source of the chars
+	 * @param length Number of chars in the representation, including any dash
+	 * @param maxDigits Most digits allowed
+	 * @param sink Receives the sign, then the groups, most significant first
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateWithHints() would give
+	 * @throws IOException If the source ends early, or the sink cannot write
+	 */
+	private static String validateAndGroup( CharSource in, long length, int maxDigits, GroupSink sink ) throws IOException
+	{
+		if ( length <= 0 )
+		{
+			return EMPTY;
+		}
+
+		int chr = next( in );
+		boolean isNegative = chr == '-';
+		long digits = isNegative ? length - 1 : length;
+
+		// Hints decided by the length and the leading digit alone
+		if ( digits > maxDigits )
+		{
+			return tooLong( maxDigits );
+		}
+		if ( digits == 0 )
+		{
+			return NEGATIVE_WHAT;
+		}
+		if ( isNegative )
+		{
+			chr = next( in );
+		}
+		if ( chr == '0' && ( digits > 1 || isNegative ) )
+		{
+			if ( length > maxDigits )
+			{
+				return tooLong( maxDigits );
+			}
+			return digits > 1 ? ZERO : NEGATIVE_ZERO;
+		}
+
+		int numGroups = numGroups( (int) digits );
+		sink.start( isNegative, numGroups );
+
+		int count = (int) digits;
+		int width = count - ( numGroups - 1 ) * 3;
+		int index = 0;
+		int group = 0;
+		int read = 0;
+		for ( int i = 0; i < count; i++ )
+		{
+			if ( i > 0 )
+			{
+				chr = next( in );
+			}
+			if ( chr < '0' || chr > '9' )
+			{
+				return length > maxDigits ? tooLong( maxDigits ) : hintFor( (char) chr );
+			}
+
+			group = group * 10 + ( chr - '0' );
+			if ( ++read == width )
+			{
+				sink.group( group, index++ );
+				group = 0;
+				read = 0;
+				width = 3;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Receives what validateAndGroup() finds, as soon as it is found
+	 */
+	private interface GroupSink
+	{
+		/**
+		 * @param isNegative True if the number has a leading dash
+		 * @param numGroups Number of groups to come
+		 * @throws IOException If the sink cannot write
+		 */
+		void start( boolean isNegative, int numGroups ) throws IOException;
+
+		/**
+		 * @param group The group value from 0 to 999
+		 * @param index Index of the group, zero being the most significant
+		 * @throws IOException If the sink cannot write
+		 */
+		void group( int group, int index ) throws IOException;
+	}
+
+	/**
+	 * Writes the words for each group as it arrives
+	 */
+	private final class Renderer implements GroupSink
+	{
+		private final Appendable out;
+
+		private int numGroups;
+
+		private boolean first = true;
+
+		Renderer( Appendable out )
+		{
+			this.out = out;
+		}
+
+		@Override
+		public void start( boolean isNegative, int numGroups ) throws IOException
+		{
+			this.numGroups = numGroups;
+			if ( isNegative )
+			{
+				first = appendWord( out, firstNegative, true );
+			}
+		}
+
+		@Override
+		public void group( int group, int index ) throws IOException
+		{
+			first = appendGroup( out, group, index, numGroups, first );
+		}
+	}
+
+	/**
+	 * Keeps each group in an array
+	 */
+	private static final class GroupArray implements GroupSink
+	{
+		private final int[] groups;
+
+		GroupArray( int[] groups )
+		{
+			this.groups = groups;
+		}
+
+		@Override
+		public void start( boolean isNegative, int numGroups )
+		{
+		}
+
+		@Override
+		public void group( int group, int index )
+		{
+			groups[index] = group;
+		}
+	}
+
+	/**
+	 * Reads the chars of a CharSequence in order
+	 */
+	private static final class SequenceSource implements CharSource
+	{
+		private final CharSequence chars;
+
+		private final int length;
+
+		private int position;
+
+		SequenceSource( CharSequence chars )
+		{
+			this.chars = chars;
+			this.length = chars.length();
+		}
+
+		@Override
+		public int read()
+		{
+			return position < length ? chars.charAt( position++ ) : -1;
+		}
+	}
+
+	/**
+	 * @param in Source of the chars
+	 * @return The next char
+	 * @throws IOException If the source has ended or cannot be read
+	 */
+	private static int next( CharSource in ) throws IOException
+	{
+		int chr = in.read();
+		if ( chr < 0 )
+		{
+			throw new EOFException( "The number ended before its length" );
+		}
+		return chr;
+	}
+
+	/**
+	 * Convert the integer representation of a number to English words
+	 * and append them to the given buffer. No intermediate objects are created.
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 *
+	 * @param number Well-formed representation of an integer
+	 * @param out Buffer to append the words to
+	 */
+	void appendTo( @NotNull CharSequence number, @NotNull StringBuilder out )
+	{
+		try
+		{
+			appendTo( number, (Appendable) out );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Convert the integer representation of a number to English words
+	 * and append them to the given output. No intermediate objects are created.
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 *
+	 * @param number Well-formed representation of an integer
+	 * @param out Output to append the words to
+	 * @throws IOException If the output cannot be written to
+	 */
+	void appendTo( @NotNull CharSequence number, @NotNull Appendable out ) throws IOException
+	{
+		int start = 0;
+		boolean first = true;
+
+		// Skip the leading dash
+		if ( number.charAt( 0 ) == '-' )
+		{
+			first = appendWord( out, firstNegative, true );
+			start = 1;
+		}
+
+		int digits = number.length() - start;
+		int numGroups = numGroups( digits );
+		int width = digits - ( numGroups - 1 ) * 3;	// The leading group may be short
+
+		first = appendGroup( out, leadingGroupValue( number, start, width ), 0, numGroups, first );
+		for ( int i = 1, pos = start + width; i < numGroups; i++, pos += 3 )
+		{
+			first = appendGroup( out, groupValue( number, pos ), i, numGroups, first );
+		}
+	}
+
+	/**
+	 * Convert thousands groups, most significant first, to English words
+	 * and append them to the given buffer
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to prepend the negative word
+	 * @param out Buffer to append the words to
+	 */
+	void appendGroups( @NotNull int[] groups, int numGroups, boolean isNegative, @NotNull StringBuilder out )
+	{
+		try
+		{
+			appendGroups( groups, numGroups, isNegative, (Appendable) out );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Convert thousands groups, most significant first, to English words
+	 * and append them to the given output
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to prepend the negative word
+	 * @param out Output to append the words to
+	 * @throws IOException If the output cannot be written to
+	 */
+	void appendGroups( @NotNull int[] groups, int numGroups, boolean isNegative, @NotNull Appendable out ) throws IOException
+	{
+		boolean first = true;
+		if ( isNegative )
+		{
+			first = appendWord( out, firstNegative, true );
+		}
+		for ( int i = 0; i < numGroups; i++ )
+		{
+			first = appendGroup( out, groups[i], i, numGroups, first );
+		}
+	}
+
+	/**
+	 * Validate the integer representation of a number and group its digits
+	 * in a single left-to-right pass, most significant group first
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @param groups Array to fill with the groups, large enough for the digits of the number up to maxDigits
+	 * @return Null if valid, otherwise the same hint ValidateNumeric.validateWithHints() would give
+	 */
+	String validateAndGroup( @NotNull CharSequence number, @NotNull int[] groups )
+	{
+		try
+		{
+			return validateAndGroup( new SequenceSource( number ), number.length(), maxDigits, new GroupArray( groups ) );
+		}
+		catch ( IOException e )
+		{
+			// A CharSequence never ends early
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Allocate just enough groups for an integer representation,
+	 * as none are kept for a number with too many digits
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return Array large enough for validateAndGroup() to fill
+	 */
+	private int[] groupsFor( CharSequence number )
+	{
+		return new int[numGroups( Math.min( number.length(), maxDigits ) )];
+	}
+
+	/**
+	 * Write the English words for thousands groups, most significant first,
+	 * as pre-encoded UTF-8 bytes. No charset encoding takes place.
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to prepend the negative word
+	 * @param out Buffer with at least encodedLength() bytes remaining
+	 */
+	void writeGroups( @NotNull int[] groups, int numGroups, boolean isNegative, @NotNull ByteBuffer out )
+	{
+		boolean first = true;
+		if ( isNegative )
+		{
+			first = putWord( out, firstNegativeBytes, true );
+		}
+		for ( int i = 0; i < numGroups; i++ )
+		{
+			first = putGroup( out, groups[i], i, numGroups, first );
+		}
+	}
+
+	/**
+	 * Write the English words for a well-formed integer representation
+	 * to a stream as pre-encoded UTF-8 bytes
+	 * e.g. 1234 -> One thousand two hundred and thirty four
+	 *
+	 * @param number Well-formed representation of an integer
+	 * @param out Stream to write the words to
+	 * @throws IOException If the stream cannot be written to
+	 */
+	void writeTo( @NotNull CharSequence number, @NotNull OutputStream out ) throws IOException
+	{
+		boolean isNegative = number.charAt( 0 ) == '-';
+		int start = isNegative ? 1 : 0;
+
+		int[] groups = new int[numGroups( number.length() - start )];
+		int numGroups = Wordify.groupNonNegativeIntegers( number, start, number.length(), groups );
+
+		ByteBuffer buffer = ByteBuffer.allocate( encodedLength( groups, numGroups, isNegative ) );
+		writeGroups( groups, numGroups, isNegative, buffer );
+		out.write( buffer.array() );
+	}
+
+	/**
+	 * Return the exact number of chars the words for an integer representation take.
+	 * Nothing is converted, so callers can size fixed-width records with this alone.
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The length of the words, or -1 if the number is invalid
+	 */
+	public int wordsLength( @NotNull CharSequence number )
+	{
+		int[] groups = groupsFor( number );
+		if ( validateAndGroup( number, groups ) != null )
+		{
+			return -1;
+		}
+		boolean isNegative = number.charAt( 0 ) == '-';
+		return wordsLength( groups, numGroups( number.length() - ( isNegative ? 1 : 0 ) ), isNegative );
+	}
+
+	/**
+	 * Convert an integer representation to English words held in an exactly sized char[].
+	 * The length is computed from the groups first, so the words are written once
+	 * and never copied.
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The words, or null if the number is invalid
+	 */
+	public char[] toChars( @NotNull CharSequence number )
+	{
+		int[] groups = groupsFor( number );
+		if ( validateAndGroup( number, groups ) != null )
+		{
+			return null;
+		}
+		boolean isNegative = number.charAt( 0 ) == '-';
+		int numGroups = numGroups( number.length() - ( isNegative ? 1 : 0 ) );
+
+		char[] words = new char[wordsLength( groups, numGroups, isNegative )];
+		try
+		{
+			appendGroups( groups, numGroups, isNegative, CharBuffer.wrap( words ) );
+		}
+		catch ( IOException e )
+		{
+			// CharBuffer never throws
+			throw new UncheckedIOException( e );
+		}
+		return words;
+	}
+
+	/**
+	 * Convert an integer representation to English words held in an exactly sized
+	 * byte[] of pre-encoded UTF-8, written once and never copied
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The encoded words, or null if the number is invalid
+	 */
+	public byte[] toBytes( @NotNull CharSequence number )
+	{
+		int[] groups = groupsFor( number );
+		if ( validateAndGroup( number, groups ) != null )
+		{
+			return null;
+		}
+		boolean isNegative = number.charAt( 0 ) == '-';
+		int numGroups = numGroups( number.length() - ( isNegative ? 1 : 0 ) );
+
+		byte[] words = new byte[encodedLength( groups, numGroups, isNegative )];
+		writeGroups( groups, numGroups, isNegative, ByteBuffer.wrap( words ) );
+		return words;
+	}
+
+	/**
+	 * Convert an integer representation to English words held as references
+	 * to this engine's shared phrases and scale names, so nothing is joined
+	 * or copied until the words are written out
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The words, or null if the number is invalid
+	 */
+	public Words toWords( @NotNull CharSequence number )
+	{
+		int[] groups = groupsFor( number );
+		if ( validateAndGroup( number, groups ) != null )
+		{
+			return null;
+		}
+		boolean isNegative = number.charAt( 0 ) == '-';
+		return words( groups, numGroups( number.length() - ( isNegative ? 1 : 0 ) ), isNegative );
+	}
+
+	/**
+	 * Collect the shared fragments for thousands groups,
+	 * following the same rules as appendGroups()
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to start with the negative word
+	 * @return The words
+	 */
+	Words words( @NotNull int[] groups, int numGroups, boolean isNegative )
+	{
+		String[] fragments = new String[numGroups * 2 + 1];
+		byte[][] encoded = new byte[fragments.length][];
+		int count = 0;
+		if ( isNegative )
+		{
+			fragments[count] = firstNegative;
+			encoded[count++] = firstNegativeBytes;
+		}
+		for ( int i = 0; i < numGroups - 1; i++ )
+		{
+			int group = groups[i];
+			if ( group != 0 )
+			{
+				int scale = numGroups - 2 - i;
+				boolean first = count == 0;
+				fragments[count] = first ? phrases.firstPhrase( group, false ) : phrases.phrase( group, false );
+				encoded[count++] = first ? phrases.firstEncoded( group, false ) : phrases.encoded( group, false );
+				fragments[count] = scale( scale );
+				encoded[count++] = scaleBytes( scale );
+			}
+		}
+
+		int last = groups[numGroups - 1];
+		if ( numGroups == 1 && last == 0 )
+		{
+			fragments[count] = firstZero;
+			encoded[count++] = firstZeroBytes;
+		}
+		else if ( last != 0 )
+		{
+			boolean withAnd = numGroups > 1 || last > 100;
+			boolean first = count == 0;
+			fragments[count] = first ? phrases.firstPhrase( last, withAnd ) : phrase( last, withAnd );
+			encoded[count++] = first ? phrases.firstEncoded( last, withAnd ) : phrases.encoded( last, withAnd );
+		}
+		return new Words( fragments, encoded, count, space, spaceBytes );
+	}
+
+	/**
+	 * Return the exact number of chars the words for thousands groups take,
+	 * following the same rules as appendGroups()
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to count the negative word
+	 * @return The length of the words
+	 */
+	int wordsLength( @NotNull int[] groups, int numGroups, boolean isNegative )
+	{
+		// Capitalizing the first word leaves its length in chars as is
+		int length = isNegative ? negative.length() : 0;
+		int words = isNegative ? 1 : 0;
+		for ( int i = 0; i < numGroups - 1; i++ )
+		{
+			int group = groups[i];
+			if ( group != 0 )
+			{
+				int scale = numGroups - 2 - i;
+				length += phrases.length( group, false ) + scaleLength( scale );
+				words += 2;
+			}
+		}
+
+		int last = groups[numGroups - 1];
+		if ( numGroups == 1 && last == 0 )
+		{
+			length += zero.length();
+			words++;
+		}
+		else if ( last != 0 )
+		{
+			length += phrases.length( last, numGroups > 1 || last > 100 );
+			words++;
+		}
+		return length + ( words - 1 ) * space.length();
+	}
+
+	/**
+	 * Return the exact number of bytes the encoded words for thousands groups take,
+	 * following the same rules as writeGroups()
+	 *
+	 * @param groups Groups from 0 to 999, most significant first, with no leading zero groups
+	 * @param numGroups Number of groups to use from the array
+	 * @param isNegative True to count the negative word
+	 * @return The encoded length of the words
+	 */
+	int encodedLength( @NotNull int[] groups, int numGroups, boolean isNegative )
+	{
+		// Unlike in chars, a capitalized first word may take more or fewer bytes
+		int length = isNegative ? firstNegativeBytes.length : 0;
+		int words = isNegative ? 1 : 0;
+		for ( int i = 0; i < numGroups - 1; i++ )
+		{
+			int group = groups[i];
+			if ( group != 0 )
+			{
+				byte[] phrase = words == 0 ? phrases.firstEncoded( group, false ) : phrases.encoded( group, false );
+				length += phrase.length + scaleBytes( numGroups - 2 - i ).length;
+				words += 2;
+			}
+		}
+
+		int last = groups[numGroups - 1];
+		if ( numGroups == 1 && last == 0 )
+		{
+			length += firstZeroBytes.length;
+			words++;
+		}
+		else if ( last != 0 )
+		{
+			boolean withAnd = numGroups > 1 || last > 100;
+			length += ( words == 0 ? phrases.firstEncoded( last, withAnd ) : phrases.encoded( last, withAnd ) ).length;
+			words++;
+		}
+		return length + ( words - 1 ) * spaceBytes.length;
+	}
+
+	/**
+	 * Enumerate the English words for every integer in a range, in order.
+	 * Only the groups that change from one number to the next are rendered again.
+	 *
+	 * @param from The first integer, zero or more
+	 * @param to The last integer, inclusive
+	 * @return An iterator over the words for each integer
+	 * @throws IllegalArgumentException If from is negative or after to
+	 */
+	public Iterator<String> iterator( long from, long to )
+	{
+		return Spliterators.iterator( spliterator( from, to ) );
+	}
+
+	/**
+	 * Enumerate the English words for every integer in a range, in order.
+	 * Only the groups that change from one number to the next are rendered again,
+	 * and the range splits in half for parallel streams.
+	 *
+	 * @param from The first integer, zero or more
+	 * @param to The last integer, inclusive
+	 * @return A spliterator over the words for each integer
+	 * @throws IllegalArgumentException If from is negative or after to
+	 */
+	public Spliterator<String> spliterator( long from, long to )
+	{
+		if ( from < 0 || from > to )
+		{
+			throw new IllegalArgumentException( "Invalid range: " + from + " to " + to );
+		}
+		return new RangeSpliterator( this, from, to );
+	}
+
+	/**
+	 * Convert an integer to English words and append them to the given buffer.
+	 * The number is split into groups arithmetically, so no parsing is needed.
+	 * e.g. -1234 -> Negative one thousand two hundred and thirty four
+	 *
+	 * @param number Any long, including Long.MIN_VALUE
+	 * @param out Buffer to append the words to
+	 */
+	void appendTo( long number, @NotNull StringBuilder out )
+	{
+		try
+		{
+			appendTo( number, (Appendable) out );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Convert an integer to English words and append them to the given output.
+	 * The number is split into groups arithmetically, so no parsing is needed.
+	 * e.g. -1234 -> Negative one thousand two hundred and thirty four
+	 *
+	 * @param number Any long, including Long.MIN_VALUE
+	 * @param out Output to append the words to
+	 * @throws IOException If the output cannot be written to
+	 */
+	void appendTo( long number, @NotNull Appendable out ) throws IOException
+	{
+		boolean first = true;
+
+		// Work with the negative magnitude so Long.MIN_VALUE needs no special case
+		if ( number < 0 )
+		{
+			first = appendWord( out, firstNegative, true );
+		}
+		else
+		{
+			number = -number;
+		}
+
+		// Least significant group first
+		int[] groups = new int[LONG_GROUPS];
+		int numGroups = 0;
+		do
+		{
+			groups[numGroups++] = (int) -( number % 1000 );
+			number /= 1000;
+		}
+		while ( number != 0 );
+
+		for ( int i = 0; i < numGroups; i++ )
+		{
+			first = appendGroup( out, groups[numGroups - 1 - i], i, numGroups, first );
+		}
+	}
+
+	/**
+	 * Convert an integer to English words and append them to the given buffer.
+	 * The number is split into groups with a divide-and-conquer radix-1000 conversion.
+	 *
+	 * @param number An integer with no more than ValidateNumeric.maxDigits() digits
+	 * @param out Buffer to append the words to
+	 * @throws IllegalArgumentException If the number has more digits than there are scales for
+	 */
+	void appendTo( @NotNull BigInteger number, @NotNull StringBuilder out )
+	{
+		try
+		{
+			appendTo( number, (Appendable) out );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Convert an integer to English words and append them to the given output.
+	 * The number is split into groups with a divide-and-conquer radix-1000 conversion.
+	 *
+	 * @param number An integer with no more than ValidateNumeric.maxDigits() digits
+	 * @param out Output to append the words to
+	 * @throws IOException If the output cannot be written to
+	 * @throws IllegalArgumentException If the number has more digits than there are scales for
+	 */
+	void appendTo( @NotNull BigInteger number, @NotNull Appendable out ) throws IOException
+	{
+		// Small numbers take the primitive path
+		if ( number.bitLength() < Long.SIZE )
+		{
+			appendTo( number.longValue(), out );
+			return;
+		}
+
+		// A number of b bits is at least 2^(b-1), so reject one with too many digits before dividing
+		if ( ( number.bitLength() - 1 ) * LOG10_2 >= maxDigits )
+		{
+			throw new IllegalArgumentException( "Number exceeds " + maxDigits + " digits" );
+		}
+
+		BigInteger magnitude = number.abs();
+		BigInteger[] powers = powersOfThousand( magnitude );
+		int[] groups = new int[1 << powers.length];
+		splitGroups( magnitude, groups, 0, powers, powers.length - 1 );
+
+		// Least significant group first, so find the highest non-zero group
+		int numGroups = groups.length;
+		while ( groups[numGroups - 1] == 0 )
+		{
+			numGroups--;
+		}
+		if ( numGroups > scales.length + 1 )
+		{
+			throw new IllegalArgumentException( "Number exceeds " + maxDigits + " digits" );
+		}
+
+		boolean first = true;
+		if ( number.signum() < 0 )
+		{
+			first = appendWord( out, firstNegative, true );
+		}
+		for ( int i = 0; i < numGroups; i++ )
+		{
+			first = appendGroup( out, groups[numGroups - 1 - i], i, numGroups, first );
+		}
+	}
+
+	/**
+	 * Split a non-negative number below 1000^(2^(level+1)) into 2^(level+1) groups
+	 * by dividing by 1000^(2^level) and recursing on both halves
+	 *
+	 * @param number A non-negative number
+	 * @param groups Groups to fill, least significant first
+	 * @param pos Index of the least significant group to fill
+	 * @param powers Powers of 1000^(2^k) for each level k
+	 * @param level The recursion level
+	 */
+	private static void splitGroups( BigInteger number, int[] groups, int pos, BigInteger[] powers, int level )
+	{
+		// Up to four groups fit in a long, so finish arithmetically
+		if ( level <= 1 )
+		{
+			long value = number.longValue();
+			for ( int i = pos; value != 0; i++ )
+			{
+				groups[i] = (int) ( value % 1000 );
+				value /= 1000;
+			}
+			return;
+		}
+
+		BigInteger[] quotientAndRemainder = number.divideAndRemainder( powers[level] );
+		if ( quotientAndRemainder[1].signum() != 0 )
+		{
+			splitGroups( quotientAndRemainder[1], groups, pos, powers, level - 1 );
+		}
+		if ( quotientAndRemainder[0].signum() != 0 )
+		{
+			splitGroups( quotientAndRemainder[0], groups, pos + ( 1 << level ), powers, level - 1 );
+		}
+	}
+
+	/**
+	 * Return 1000^(2^k) for k = 0, 1, 2... up to the first power
+	 * whose square exceeds the given number
+	 *
+	 * @param number A non-negative number
+	 * @return Powers of thousand, reusing those already computed
+	 */
+	private static BigInteger[] powersOfThousand( BigInteger number )
+	{
+		BigInteger[] powers = POWERS_OF_THOUSAND;
+		int level = 0;
+		while ( true )
+		{
+			if ( level == powers.length )
+			{
+				powers = Arrays.copyOf( powers, level + 1 );
+				powers[level] = powers[level - 1].multiply( powers[level - 1] );
+				if ( level < CACHED_POWERS )
+				{
+					// Grow the shared cache; racing threads compute identical values
+					POWERS_OF_THOUSAND = powers;
+				}
+			}
+			if ( powers[level].multiply( powers[level] ).compareTo( number ) > 0 )
+			{
+				return Arrays.copyOf( powers, level + 1 );
+			}
+			level++;
+		}
+	}
+
+	/**
+	 * Append the words for one group and its thousands scale to a buffer
+	 *
+	 * @param out Buffer to append the words to
+	 * @param group The group value from 0 to 999
+	 * @param index Index of the group, zero being the most significant
+	 * @param numGroups Total number of groups
+	 * @param first True if nothing has been written yet
+	 * @return True if still nothing has been written
+	 */
+	boolean appendGroup( StringBuilder out, int group, int index, int numGroups, boolean first )
+	{
+		try
+		{
+			return appendGroup( (Appendable) out, group, index, numGroups, first );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	/**
+	 * Append the words for one group and its thousands scale
+	 *
+	 * @param out Output to append the words to
+	 * @param group The group value from 0 to 999
+	 * @param index Index of the group, zero being the most significant
+	 * @param numGroups Total number of groups
+	 * @param first True if nothing has been written yet
+	 * @return True if still nothing has been written
+	 * @throws IOException If the output cannot be written to
+	 */
+	private boolean appendGroup( Appendable out, int group, int index, int numGroups, boolean first ) throws IOException
+	{
+		if ( index == numGroups - 1 )
+		{
+			// The one case to return 'zero'
+			if ( numGroups == 1 && group == 0 )
+			{
+				return appendWord( out, first ? firstZero : zero, first );
+			}
+
+			// Possibly add an 'and' if:
+			// There are multiple groups
+			// There is only one group and it is over 100
+			boolean withAnd = numGroups > 1 || group > 100;
+			return group == 0 ? first : appendWord( out, first ? phrases.firstPhrase( group, withAnd ) : phrase( group, withAnd ), first );
+		}
+
+		// Skip zero groups except the very last group
+		if ( group != 0 )
+		{
+			appendWord( out, first ? phrases.firstPhrase( group, false ) : phrases.phrase( group, false ), first );
+			return appendWord( out, scale( numGroups - 2 - index ), false );
+		}
+		return first;
+	}
+
+	/**
+	 * Return the name of a thousands scale, generating those past the table.
+	 * Two threads may both look up a missing name, which is harmless.
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The scale name
+	 */
+	private String scale( int index )
+	{
+		if ( index >= scales.length )
+		{
+			return language.scale( index );
+		}
+		String name = scales[index];
+		if ( name == null )
+		{
+			name = scales[index] = language.scale( index );
+		}
+		return name;
+	}
+
+	/**
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The length of the scale name in chars
+	 */
+	private int scaleLength( int index )
+	{
+		return index < scaleLengths.length ? scaleLengths[index] : language.scaleLength( index );
+	}
+
+	/**
+	 * Return the UTF-8 bytes of a thousands scale, encoding it on first use.
+	 * Two threads may both encode a missing name, which is harmless.
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The encoded scale name
+	 */
+	private byte[] scaleBytes( int index )
+	{
+		if ( index >= scaleBytes.length() )
+		{
+			return scale( index ).getBytes( StandardCharsets.UTF_8 );
+		}
+		byte[] bytes = scaleBytes.get( index );
+		if ( bytes == null )
+		{
+			bytes = scale( index ).getBytes( StandardCharsets.UTF_8 );
+			scaleBytes.set( index, bytes );
+		}
+		return bytes;
+	}
+
+	/**
+	 * Append a word, separated by a space unless it is the first word
+	 *
+	 * @param out Output to append the word to
+	 * @param word The word or phrase to append, already capitalized if first
+	 * @param first True if this is the very first word
+	 * @return False, as something has now been written
+	 * @throws IOException If the output cannot be written to
+	 */
+	private boolean appendWord( Appendable out, String word, boolean first ) throws IOException
+	{
+		if ( first )
+		{
+			out.append( word );
+		}
+		else
+		{
+			out.append( space ).append( word );
+		}
+		return false;
+	}
+
+	/**
+	 * Write the bytes for one group and its thousands scale
+	 *
+	 * @param out Buffer to write the bytes to
+	 * @param group The group value from 0 to 999
+	 * @param index Index of the group, zero being the most significant
+	 * @param numGroups Total number of groups
+	 * @param first True if nothing has been written yet
+	 * @return True if still nothing has been written
+	 */
+	private boolean putGroup( ByteBuffer out, int group, int index, int numGroups, boolean first )
+	{
+		if ( index == numGroups - 1 )
+		{
+			// The one case to write 'zero'
+			if ( numGroups == 1 && group == 0 )
+			{
+				return putWord( out, first ? firstZeroBytes : zeroBytes, first );
+			}
+
+			// The same 'and' rule as appendGroup()
+			boolean withAnd = numGroups > 1 || group > 100;
+			return group == 0 ? first : putWord( out, first ? phrases.firstEncoded( group, withAnd ) : phrases.encoded( group, withAnd ), first );
+		}
+
+		// Skip zero groups except the very last group
+		if ( group != 0 )
+		{
+			putWord( out, first ? phrases.firstEncoded( group, false ) : phrases.encoded( group, false ), first );
+			return putWord( out, scaleBytes( numGroups - 2 - index ), false );
+		}
+		return first;
+	}
+
+	/**
+	 * Write a word, separated by a space unless it is the first word
+	 *
+	 * @param out Buffer to write the bytes to
+	 * @param word The UTF-8 bytes of the word or phrase, already capitalized if first
+	 * @param first True if this is the very first word
+	 * @return False, as something has now been written
+	 */
+	private boolean putWord( ByteBuffer out, byte[] word, boolean first )
+	{
+		if ( first )
+		{
+			out.put( word );
+		}
+		else
+		{
+			out.put( spaceBytes ).put( word );
+		}
+		return false;
+	}
+
+	/**
+	 * Return the number of thousands groups needed for a number of digits
+	 *
+	 * @param digits The number of digits
+	 * @return The number of groups
+	 */
+	static int numGroups( int digits )
+	{
+		return ( digits + 2 ) / 3;
+	}
+
+	/**
+	 * Parse the leading group of one to three ASCII digits
+	 *
+	 * @param number Well-formed representation of an integer
+	 * @param pos Offset of the first digit of the group
+	 * @param width Number of digits in the group, 1 to 3
+	 * @return The group value from 0 to 999
+	 */
+	static int leadingGroupValue( CharSequence number, int pos, int width )
+	{
+		switch ( width )
+		{
+			case 1:
+				return number.charAt( pos ) - '0';
+			case 2:
+				return ( number.charAt( pos ) - '0' ) * 10 + ( number.charAt( pos + 1 ) - '0' );
+			default:
+				return groupValue( number, pos );
+		}
+	}
+
+	/**
+	 * Parse a full group of three ASCII digits
+	 *
+	 * @param number Well-formed representation of an integer
+	 * @param pos Offset of the first digit of the group
+	 * @return The group value from 0 to 999
+	 */
+	static int groupValue( CharSequence number, int pos )
+	{
+		return ( number.charAt( pos ) - '0' ) * 100
+			+ ( number.charAt( pos + 1 ) - '0' ) * 10
+			+ ( number.charAt( pos + 2 ) - '0' );
+	}
+
+	/**
+	 * Look up the English words for a group from 0 to 999
+	 * e.g. 450 -> four hundred and fifty (with the 'and')
+	 *
+	 * @param group An int from 0 to 999
+	 * @param withAnd True to add an 'and' between the hundred and the remainder
+	 * @return The English words for this group, or an empty string for zero
+	 */
+	String phrase( int group, boolean withAnd )
+	{
+		return phrases.phrase( group, withAnd );
+	}
+
+	/**
+	 * Options for an engine with its own style. Every option left unset
+	 * keeps the language's own word, and the first word is capitalized
+	 * unless told otherwise. An engine with no option changed is the
+	 * shared one forLanguage() returns.
+	 */
+	public static final class Builder
+	{
+		private Language language = Dictionary.ENGLISH;
+
+		private String conjunction;
+
+		private String separator;
+
+		private String negative;
+
+		private Capitalization capitalization = Capitalization.FIRST_WORD;
+
+		private Builder()
+		{
+		}
+
+		/**
+		 * @param language The language to convert to
+		 * @return This builder
+		 */
+		public Builder language( @NotNull Language language )
+		{
+			this.language = language;
+			return this;
+		}
+
+		/**
+		 * @param conjunction Word between the hundreds and the remainder, e.g. and,
+		 * or an empty string for none, e.g. one hundred one. It is set off by the
+		 * separator on both sides, like any other word.
+		 * @return This builder
+		 */
+		public Builder conjunction( @NotNull String conjunction )
+		{
+			this.conjunction = conjunction;
+			return this;
+		}
+
+		/**
+		 * @param separator Separator between words, e.g. a space or a dash
+		 * @return This builder
+		 * @throws IllegalArgumentException If the separator is empty
+		 */
+		public Builder separator( @NotNull String separator )
+		{
+			if ( separator.isEmpty() )
+			{
+				throw new IllegalArgumentException( "The separator cannot be empty" );
+			}
+			this.separator = separator;
+			return this;
+		}
+
+		/**
+		 * @param negative Word for negative numbers, e.g. minus
+		 * @return This builder
+		 * @throws IllegalArgumentException If the word is empty
+		 */
+		public Builder negative( @NotNull String negative )
+		{
+			if ( negative.isEmpty() )
+			{
+				throw new IllegalArgumentException( "The negative word cannot be empty" );
+			}
+			this.negative = negative;
+			return this;
+		}
+
+		/**
+		 * @param capitalization How the words are capitalized
+		 * @return This builder
+		 */
+		public Builder capitalization( @NotNull Capitalization capitalization )
+		{
+			this.capitalization = capitalization;
+			return this;
+		}
+
+		/**
+		 * Compose the tables for the style. This takes as long as compiling
+		 * the tables for a new language, so keep the engine rather than
+		 * building one per conversion.
+		 *
+		 * @return An immutable engine with the style applied to its tables
+		 */
+		public WordifyEngine build()
+		{
+			if ( conjunction == null && separator == null && negative == null && capitalization == Capitalization.FIRST_WORD )
+			{
+				return forLanguage( language );
+			}
+			return new WordifyEngine(
+				new StyledLanguage( language, conjunction, separator, negative, capitalization ), capitalization
+			);
+		}
+	}
+}
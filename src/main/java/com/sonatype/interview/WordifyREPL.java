@@ -4,10 +4,24 @@
 
 package com.sonatype.interview;
 
+import com.sonatype.interview.metrics.ConversionMetrics;
+import com.sonatype.interview.metrics.PhaseEvents;
 import com.sonatype.interview.utils.ValidateNumeric;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.System.getProperty;
 
@@ -22,63 +36,289 @@ public class WordifyREPL extends Wordify
 {
 	private final static String VERSION = "1.0";
 
+	private final static String BATCH = "--batch";
+
+	private final static String FILE = "--file";
+
+	// Large buffers for piping files through the batch mode
+	private final static int BUFFER_SIZE = 1 << 16;
+
+	private final static byte[] LINE_SEPARATOR = System.lineSeparator().getBytes( StandardCharsets.US_ASCII );
+
 	/**
-	 * Enter the REPL loop
-	 * @param args Args are ignored
+	 * Enter the REPL loop, the batch mode if --batch is given,
+	 * or convert a whole file if --file input output is given
+	 * @param args Optionally --batch, or --file input output
 	 */
 	public static void main( String[] args )
 	{
+		if ( args.length > 0 && BATCH.equals( args[0] ) )
+		{
+			try
+			{
+				long started = System.nanoTime();
+				reportThroughput( batch( System.in, System.out ), started );
+			}
+			catch ( IOException e )
+			{
+				System.err.println( e.getMessage() );
+			}
+			return;
+		}
+
+		if ( args.length > 0 && FILE.equals( args[0] ) )
+		{
+			if ( args.length != 3 )
+			{
+				System.err.println( "Usage: --file <input> <output>" );
+				return;
+			}
+			try
+			{
+				file( Paths.get( args[1] ), Paths.get( args[2] ) );
+			}
+			catch ( IOException e )
+			{
+				System.err.println( e.toString() );
+			}
+			return;
+		}
+
 		System.out.println( welcomeMessage() );
 		System.out.println( help() );
 
 		Scanner in = new Scanner( System.in );
-		while ( in.hasNextLine() )
+		String str;
+		while ( ( str = readLine( in ) ) != null )
 		{
-			String str = in.nextLine();    // Get the whole line
-
 			// Be nice and at least trim the input
 			str = str.trim();
 
 			// Exit the REPL loop
-			if ( str.matches( "^(q|quit|x|exit)" ) )
+			if ( isQuit( str ) )
 			{
 				break;
 			}
 
 			// Show the help message
-			if ( str.matches( "^(h|help)" ) )
+			if ( str.equals( "h" ) || str.equals( "help" ) )
 			{
 				System.out.println( help() );
 				continue;
 			}
 
 			// Get the max supported integer representation
-			if ( str.matches( "^(max)" ) )
+			if ( str.equals( "max" ) )
 			{
 				str = ValidateNumeric.maxIntegerRepresentation();
 			}
 
 			// Get the min supported integer representation
-			else if ( str.matches( "^(min)" ) )
+			else if ( str.equals( "min" ) )
 			{
 				str = "-" + ValidateNumeric.maxIntegerRepresentation();
 			}
 
 			// Display a hint, or the correct English words
-			String hint = ValidateNumeric.validateWithHints( str );
-			if ( hint != null )
+			Conversion conversion = WordifyEngine.DEFAULT.convert( str );
+			if ( !conversion.isValid() )
 			{
-				System.err.println( String.format( "%s %s", hint, instructions() ) );
+				System.err.println( String.format( "%s %s", conversion.hint(), instructions() ) );
 			}
 			else
 			{
 				System.out.println();
-				System.out.println( numberToWords( str ) );
+				System.out.println( conversion.words() );
 				System.out.println();
 			}
 		}
 	}
 
+	/**
+	 * Convert one number per line without prompts, writing exactly one line
+	 * of words or a hint for each line read. Reading stops at the end of
+	 * the input or at a quit command. The words are written as pre-encoded
+	 * ASCII bytes, so no charset encoding takes place.
+	 *
+	 * @param input Stream of numbers, one per line
+	 * @param output Stream to write the words to
+	 * @return The number of lines converted
+	 * @throws IOException If the input cannot be read or the output written
+	 */
+	static long batch( InputStream input, OutputStream output ) throws IOException
+	{
+		long lines = 0;
+
+		BufferedReader in = new BufferedReader( new InputStreamReader( input, StandardCharsets.UTF_8 ), BUFFER_SIZE );
+		ByteBuffer out = ByteBuffer.allocate( BUFFER_SIZE );
+		int[] groups = new int[WordifyEngine.numGroups( ValidateNumeric.maxDigits() )];
+
+		String str;
+		while ( ( str = readLine( in ) ) != null )
+		{
+			str = str.trim();
+			if ( isQuit( str ) )
+			{
+				break;
+			}
+			if ( str.equals( "max" ) )
+			{
+				str = ValidateNumeric.maxIntegerRepresentation();
+			}
+			else if ( str.equals( "min" ) )
+			{
+				str = "-" + ValidateNumeric.maxIntegerRepresentation();
+			}
+
+			// Words or the hint, but always one line per input line
+			long started = ConversionMetrics.start();
+			Object validation = PhaseEvents.begin( PhaseEvents.VALIDATION );
+			String hint = WordifyEngine.DEFAULT.validateAndGroup( str, groups );
+			PhaseEvents.end( validation, str.length(), 0, 0 );
+			if ( hint != null )
+			{
+				byte[] bytes = hint.getBytes( StandardCharsets.US_ASCII );
+				out = ensureRemaining( out, bytes.length + LINE_SEPARATOR.length, output );
+				out.put( bytes );
+			}
+			else
+			{
+				boolean isNegative = str.charAt( 0 ) == '-';
+				int numGroups = WordifyEngine.numGroups( str.length() - ( isNegative ? 1 : 0 ) );
+				out = ensureRemaining( out, WordifyEngine.DEFAULT.encodedLength( groups, numGroups, isNegative ) + LINE_SEPARATOR.length, output );
+				Object rendering = PhaseEvents.begin( PhaseEvents.RENDERING );
+				int mark = out.position();
+				WordifyEngine.DEFAULT.writeGroups( groups, numGroups, isNegative, out );
+				PhaseEvents.end( rendering, str.length(), numGroups, out.position() - mark );
+			}
+			ConversionMetrics.record( str.length(), hint, started );
+			out.put( LINE_SEPARATOR );
+			lines++;
+		}
+		write( output, out );
+		output.flush();
+
+		return lines;
+	}
+
+	/**
+	 * Read a line, recording the time blocked on input
+	 *
+	 * @param in The input
+	 * @return The line, or null at the end of the input
+	 */
+	private static String readLine( Scanner in )
+	{
+		Object io = PhaseEvents.begin( PhaseEvents.IO );
+		String line = in.hasNextLine() ? in.nextLine() : null;
+		PhaseEvents.end( io, line == null ? 0 : line.length(), 0, 0 );
+		return line;
+	}
+
+	/**
+	 * Read a line, recording the time blocked on input
+	 *
+	 * @param in The input
+	 * @return The line, or null at the end of the input
+	 * @throws IOException If the input cannot be read
+	 */
+	private static String readLine( BufferedReader in ) throws IOException
+	{
+		Object io = PhaseEvents.begin( PhaseEvents.IO );
+		String line = in.readLine();
+		PhaseEvents.end( io, line == null ? 0 : line.length(), 0, 0 );
+		return line;
+	}
+
+	/**
+	 * Write out what the buffer holds, recording the time blocked on output
+	 *
+	 * @param output Stream to write the buffer to
+	 * @param buffer The output buffer
+	 * @throws IOException If the output cannot be written
+	 */
+	private static void write( OutputStream output, ByteBuffer buffer ) throws IOException
+	{
+		Object io = PhaseEvents.begin( PhaseEvents.IO );
+		output.write( buffer.array(), 0, buffer.position() );
+		PhaseEvents.end( io, 0, 0, buffer.position() );
+	}
+
+	/**
+	 * Make room in the output buffer, writing out what it holds if needed
+	 *
+	 * @param buffer The output buffer
+	 * @param needed The number of bytes about to be written
+	 * @param output Stream to write the buffer to
+	 * @return The buffer, or a larger one if it could never hold the bytes
+	 * @throws IOException If the output cannot be written
+	 */
+	private static ByteBuffer ensureRemaining( ByteBuffer buffer, int needed, OutputStream output ) throws IOException
+	{
+		if ( buffer.remaining() < needed )
+		{
+			write( output, buffer );
+			( (Buffer) buffer ).clear();	// Java 8 has no covariant ByteBuffer.clear()
+			if ( buffer.capacity() < needed )
+			{
+				buffer = ByteBuffer.allocate( needed );
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Convert a file of numbers, one per line, in parallel on all cores.
+	 * The output has one line of words or a hint for each input line, in order.
+	 * The throughput is reported to stderr.
+	 *
+	 * @param input File of numbers, one per line
+	 * @param output File to write the words to
+	 * @throws IOException If the input cannot be read or the output written
+	 */
+	static void file( Path input, Path output ) throws IOException
+	{
+		long started = System.nanoTime();
+		ForkJoinPool pool = new ForkJoinPool( Runtime.getRuntime().availableProcessors() );
+		try
+		{
+			long lines = new FileConverter( WordifyEngine.DEFAULT, pool, FileConverter.CHUNK_SIZE ).convert( input, output );
+			reportThroughput( lines, started );
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Report the number of lines converted and the lines per second to stderr
+	 *
+	 * @param lines Number of lines converted
+	 * @param started Start time from System.nanoTime()
+	 */
+	private static void reportThroughput( long lines, long started )
+	{
+		long elapsed = Math.max( System.nanoTime() - started, 1 );
+		System.err.println( String.format(
+			"Converted %d lines in %d ms (%.0f lines/s)",
+			lines,
+			TimeUnit.NANOSECONDS.toMillis( elapsed ),
+			lines * 1e9 / elapsed
+		) );
+	}
+
+	/**
+	 * Test if the input is one of the quit commands
+	 *
+	 * @param str The trimmed input
+	 * @return True to quit
+	 */
+	private static boolean isQuit( String str )
+	{
+		return str.equals( "q" ) || str.equals( "quit" ) || str.equals( "x" ) || str.equals( "exit" );
+	}
+
 	/**
 	 * Return the detailed help for the REPL
 	 *
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * English words held as references to the engine's shared phrases and
+ * scale names rather than as one joined String. Writing the words out
+ * needs no copy: the fragments are appended, or their pre-encoded bytes
+ * are written, one after another with a space between each. The engine
+ * gives the first fragment already capitalized.
+ */
+public final class Words implements CharSequence
+{
+	private final String[] fragments;
+
+	private final byte[][] encoded;
+
+	private final String space;
+
+	private final byte[] spaceBytes;
+
+	// Offset of each fragment, including the spaces before it
+	private final int[] starts;
+
+	private final int length;
+
+	/**
+	 * @param fragments Shared words and phrases, in order
+	 * @param encoded The same fragments as pre-encoded bytes
+	 * @param count Number of fragments to use from the arrays
+	 * @param space Separator between fragments
+	 * @param spaceBytes The encoded separator
+	 */
+	Words( String[] fragments, byte[][] encoded, int count, String space, byte[] spaceBytes )
+	{
+		this.fragments = count == fragments.length ? fragments : Arrays.copyOf( fragments, count );
+		this.encoded = count == encoded.length ? encoded : Arrays.copyOf( encoded, count );
+		this.space = space;
+		this.spaceBytes = spaceBytes;
+
+		starts = new int[count];
+		int offset = 0;
+		for ( int i = 0; i < count; i++ )
+		{
+			starts[i] = offset;
+			offset += fragments[i].length() + space.length();
+		}
+		length = count == 0 ? 0 : offset - space.length();
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	/**
+	 * Find the char at an index by binary search over the fragment offsets
+	 *
+	 * @param index Index from 0 to length() - 1
+	 * @return The char at the index
+	 */
+	@Override
+	public char charAt( int index )
+	{
+		if ( index < 0 || index >= length )
+		{
+			throw new IndexOutOfBoundsException( "Index " + index + " out of " + length );
+		}
+
+		int fragment = Arrays.binarySearch( starts, index );
+		if ( fragment < 0 )
+		{
+			fragment = -fragment - 2;
+		}
+
+		int offset = index - starts[fragment];
+		String word = fragments[fragment];
+		return offset < word.length() ? word.charAt( offset ) : space.charAt( offset - word.length() );
+	}
+
+	@Override
+	public CharSequence subSequence( int start, int end )
+	{
+		return toString().substring( start, end );
+	}
+
+	/**
+	 * Append the words to an output without joining them first
+	 *
+	 * @param out Output to append the words to
+	 * @throws IOException If the output cannot be written to
+	 */
+	public void writeTo( @NotNull Appendable out ) throws IOException
+	{
+		for ( int i = 0; i < fragments.length; i++ )
+		{
+			if ( i > 0 )
+			{
+				out.append( space );
+			}
+			out.append( fragments[i] );
+		}
+	}
+
+	/**
+	 * Write the pre-encoded words to a channel. The shared bytes are only
+	 * wrapped, never copied, and a gathering channel takes them in one call.
+	 *
+	 * @param out Channel to write the words to
+	 * @throws IOException If the channel cannot be written to
+	 */
+	public void writeTo( @NotNull WritableByteChannel out ) throws IOException
+	{
+		if ( fragments.length == 0 )
+		{
+			return;
+		}
+
+		// The first fragment, then each other one with a space before it
+		ByteBuffer[] buffers = new ByteBuffer[fragments.length * 2 - 1];
+		buffers[0] = ByteBuffer.wrap( encoded[0] );
+		for ( int i = 1; i < fragments.length; i++ )
+		{
+			buffers[i * 2 - 1] = ByteBuffer.wrap( spaceBytes );
+			buffers[i * 2] = ByteBuffer.wrap( encoded[i] );
+		}
+
+		if ( out instanceof GatheringByteChannel )
+		{
+			GatheringByteChannel gathering = (GatheringByteChannel) out;
+			for ( int i = 0; i < buffers.length; )
+			{
+				gathering.write( buffers, i, buffers.length - i );
+				while ( i < buffers.length && !buffers[i].hasRemaining() )
+				{
+					i++;
+				}
+			}
+		}
+		else
+		{
+			for ( ByteBuffer buffer : buffers )
+			{
+				while ( buffer.hasRemaining() )
+				{
+					out.write( buffer );
+				}
+			}
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder( length );
+		try
+		{
+			writeTo( sb );
+		}
+		catch ( IOException e )
+		{
+			// StringBuilder never throws
+			throw new UncheckedIOException( e );
+		}
+		return sb.toString();
+	}
+}
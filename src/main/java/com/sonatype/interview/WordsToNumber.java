@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Dictionary;
+import com.sonatype.interview.utils.Language;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parse English words back into the integer representation they describe,
+ * the inverse of Wordify.numberToWords()
+ * e.g. Negative one thousand and forty seven -> -1047
+ * Every word is looked up in a trie of the language's words, and the whole
+ * phrase is parsed in a single pass, so the cost is linear in its length.
+ * Phrases are expected to follow the default Language composition rules.
+ */
+public final class WordsToNumber
+{
+	/**
+	 * The default English parser
+	 */
+	public final static WordsToNumber DEFAULT = new WordsToNumber( Dictionary.ENGLISH );
+
+	// Token kinds are stored in the high bits of the trie values
+	private final static int KIND_SHIFT = 16;
+
+	private final static int VALUE_MASK = ( 1 << KIND_SHIFT ) - 1;
+
+	private final static int ONES = 1;
+
+	private final static int TENS_KIND = 2;
+
+	private final static int HUNDRED_KIND = 3;
+
+	private final static int AND_KIND = 4;
+
+	private final static int NEGATIVE_KIND = 5;
+
+	private final static int SCALE = 6;
+
+	// Parser states within one thousands group
+	private final static int START = 0;
+
+	private final static int HUNDREDS_DIGIT = 1;	// e.g. 'four', which may be followed by 'hundred'
+
+	private final static int AFTER_HUNDRED = 2;
+
+	private final static int AFTER_AND = 3;
+
+	private final static int AFTER_TENS = 4;
+
+	private final static int AFTER_ONES = 5;
+
+	private final WordTrie trie;
+
+	/**
+	 * @param language The language of the words to parse
+	 */
+	public WordsToNumber( @NotNull Language language )
+	{
+		String[] onesAndTeens = language.onesAndTeens();
+		String[] tens = language.tens();
+		String[] scales = new String[language.scaleCount()];
+
+		int chars = 0;
+		for ( int i = 0; i < scales.length; i++ )
+		{
+			scales[i] = language.scale( i );
+			chars += scales[i].length();
+		}
+		trie = new WordTrie( chars + 256 );
+
+		for ( int i = 0; i < onesAndTeens.length; i++ )
+		{
+			trie.put( onesAndTeens[i], token( ONES, i ) );
+		}
+		for ( int i = 2; i < tens.length; i++ )
+		{
+			trie.put( tens[i], token( TENS_KIND, i * 10 ) );
+		}
+		trie.put( language.hundred(), token( HUNDRED_KIND, 100 ) );
+		trie.put( language.and(), token( AND_KIND, 0 ) );
+		trie.put( language.negative(), token( NEGATIVE_KIND, 0 ) );
+		for ( int i = 0; i < scales.length; i++ )
+		{
+			trie.put( scales[i], token( SCALE, i ) );
+		}
+	}
+
+	/**
+	 * Parse English words into an integer representation. Case and
+	 * the amount of whitespace between words are ignored.
+	 * e.g. Negative one thousand and forty seven -> -1047
+	 *
+	 * @param words English words for an integer
+	 * @return The integer representation, or null if the words are not a number
+	 */
+	public String parse( @NotNull CharSequence words )
+	{
+		int length = words.length();
+		int[] groups = null;		// Indexed by scale, units group first
+		int lastScale = Integer.MAX_VALUE;
+		int state = START;
+		int group = 0;
+		int tokens = 0;
+		boolean isNegative = false;
+		boolean isZero = false;
+		boolean isUnits = false;	// True once an 'and' marks the units group
+
+		for ( int pos = 0; pos < length; )
+		{
+			// Find the next word
+			while ( pos < length && Character.isWhitespace( words.charAt( pos ) ) )
+			{
+				pos++;
+			}
+			int start = pos;
+			while ( pos < length && !Character.isWhitespace( words.charAt( pos ) ) )
+			{
+				pos++;
+			}
+			if ( start == pos )
+			{
+				break;
+			}
+
+			int token = trie.get( words, start, pos );
+			if ( token == WordTrie.NOT_FOUND || isZero )
+			{
+				return null;
+			}
+			int kind = token >>> KIND_SHIFT;
+			int value = token & VALUE_MASK;
+			tokens++;
+
+			switch ( kind )
+			{
+				case NEGATIVE_KIND:
+					if ( tokens != 1 )
+					{
+						return null;
+					}
+					isNegative = true;
+					break;
+
+				case ONES:
+					if ( value == 0 )
+					{
+						// Zero stands alone, and cannot be negative
+						if ( tokens != 1 )
+						{
+							return null;
+						}
+						isZero = true;
+					}
+					else if ( value < 10 && state == START )
+					{
+						state = HUNDREDS_DIGIT;
+					}
+					else if ( state == AFTER_HUNDRED || state == AFTER_AND || ( state == START ) || ( state == AFTER_TENS && value < 10 ) )
+					{
+						state = AFTER_ONES;
+					}
+					else
+					{
+						return null;
+					}
+					group += value;
+					break;
+
+				case TENS_KIND:
+					if ( state != START && state != AFTER_HUNDRED && state != AFTER_AND )
+					{
+						return null;
+					}
+					state = AFTER_TENS;
+					group += value;
+					break;
+
+				case HUNDRED_KIND:
+					if ( state != HUNDREDS_DIGIT )
+					{
+						return null;
+					}
+					state = AFTER_HUNDRED;
+					group *= 100;
+					break;
+
+				case AND_KIND:
+					// Only between the hundreds and the rest, or before a final group under 100
+					if ( state != AFTER_HUNDRED && !( state == START && groups != null ) )
+					{
+						return null;
+					}
+					state = AFTER_AND;
+					isUnits = true;
+					break;
+
+				case SCALE:
+					// Wordify only puts an 'and' in the units group
+					if ( group == 0 || isUnits || value >= lastScale )
+					{
+						return null;
+					}
+					if ( groups == null )
+					{
+						groups = new int[value + 2];
+					}
+					groups[value + 1] = group;
+					lastScale = value;
+					state = START;
+					group = 0;
+					break;
+			}
+		}
+
+		if ( isZero )
+		{
+			return isNegative ? null : "0";
+		}
+		if ( state == AFTER_AND || ( state == START && groups == null ) )
+		{
+			return null;
+		}
+		if ( groups == null )
+		{
+			groups = new int[1];
+		}
+		groups[0] = group;
+		return digits( groups, isNegative );
+	}
+
+	/**
+	 * Write out the groups as digits, padding every group but the first
+	 *
+	 * @param groups Thousands groups, units group first, with a non-zero last group
+	 * @param isNegative True to prepend a dash
+	 * @return The integer representation
+	 */
+	private static String digits( int[] groups, boolean isNegative )
+	{
+		StringBuilder sb = new StringBuilder( groups.length * 3 + 1 );
+		if ( isNegative )
+		{
+			sb.append( '-' );
+		}
+
+		int top = groups.length - 1;
+		sb.append( groups[top] );
+		for ( int i = top - 1; i >= 0; i-- )
+		{
+			int group = groups[i];
+			sb.append( (char) ( '0' + group / 100 ) )
+				.append( (char) ( '0' + group / 10 % 10 ) )
+				.append( (char) ( '0' + group % 10 ) );
+		}
+		return sb.toString();
+	}
+
+	private static int token( int kind, int value )
+	{
+		return kind << KIND_SHIFT | value;
+	}
+}
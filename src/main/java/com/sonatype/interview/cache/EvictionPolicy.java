@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.cache;
+
+/**
+ * Decides which cached conversion to evict when the cache is over its byte budget.
+ * The cache calls every method while holding its eviction lock, so
+ * implementations do not need to be thread-safe.
+ *
+ * @param <K> The key type
+ */
+public interface EvictionPolicy<K>
+{
+	/**
+	 * A cached key was read
+	 *
+	 * @param key The key
+	 */
+	void recordAccess( K key );
+
+	/**
+	 * A key was requested but not cached, just before it may be inserted.
+	 * The default ignores misses.
+	 *
+	 * @param key The key
+	 */
+	default void recordMiss( K key )
+	{
+	}
+
+	/**
+	 * A key was added to the cache
+	 *
+	 * @param key The key
+	 */
+	void recordInsert( K key );
+
+	/**
+	 * A key was removed from the cache
+	 *
+	 * @param key The key
+	 */
+	void recordRemoval( K key );
+
+	/**
+	 * Return the key to evict next, or null if nothing is tracked
+	 *
+	 * @return The next victim
+	 */
+	K victim();
+
+	/**
+	 * Decide whether a new key is worth evicting the given victim for.
+	 * The default always admits the new key.
+	 *
+	 * @param candidate The key about to be inserted
+	 * @param victim The key that would be evicted to make room
+	 * @return True to insert the candidate
+	 */
+	default boolean admit( K candidate, K victim )
+	{
+		return true;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Evict the least recently used key
+ *
+ * @param <K> The key type
+ */
+public class LruPolicy<K> implements EvictionPolicy<K>
+{
+	// Keys in access order, least recent first
+	private final LinkedHashMap<K, Boolean> order = new LinkedHashMap<>( 64, 0.75f, true );
+
+	@Override
+	public void recordAccess( K key )
+	{
+		order.get( key );
+	}
+
+	@Override
+	public void recordInsert( K key )
+	{
+		order.put( key, Boolean.TRUE );
+	}
+
+	@Override
+	public void recordRemoval( K key )
+	{
+		order.remove( key );
+	}
+
+	@Override
+	public K victim()
+	{
+		Iterator<K> keys = order.keySet().iterator();
+		return keys.hasNext() ? keys.next() : null;
+	}
+}
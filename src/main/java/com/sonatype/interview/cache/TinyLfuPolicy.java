@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.cache;
+
+/**
+ * Evict the least recently used key, but only admit a new key if it has
+ * been requested more often than the victim (TinyLFU admission).
+ * Frequencies are estimated with a count-min sketch of 4-bit counters
+ * that are halved periodically, so popularity ages out.
+ *
+ * @param <K> The key type
+ */
+public class TinyLfuPolicy<K> extends LruPolicy<K>
+{
+	// Number of hash functions, one per counter row
+	private final static int DEPTH = 4;
+
+	// Counters saturate at 15
+	private final static int MAX_COUNT = 15;
+
+	private final static int[] SEEDS = { 0x97cb3127, 0xb87ed91d, 0x5c6f9e1d, 0x2c1b3c6d };
+
+	private final byte[] counters;
+
+	private final int mask;
+
+	// Halve every counter after this many increments
+	private final int sampleSize;
+
+	private int samples;
+
+	/**
+	 * @param expectedKeys Roughly how many distinct keys the cache holds
+	 */
+	public TinyLfuPolicy( int expectedKeys )
+	{
+		int width = Integer.highestOneBit( Math.max( 16, expectedKeys ) - 1 ) << 1;
+		this.counters = new byte[width * DEPTH];
+		this.mask = width - 1;
+		this.sampleSize = width * 10;
+	}
+
+	@Override
+	public void recordAccess( K key )
+	{
+		increment( key );
+		super.recordAccess( key );
+	}
+
+	@Override
+	public void recordMiss( K key )
+	{
+		increment( key );
+	}
+
+	@Override
+	public boolean admit( K candidate, K victim )
+	{
+		return frequency( candidate ) > frequency( victim );
+	}
+
+	/**
+	 * Estimate how often the key was requested
+	 *
+	 * @param key The key
+	 * @return The smallest counter for the key
+	 */
+	int frequency( K key )
+	{
+		int hash = key.hashCode();
+		int min = MAX_COUNT;
+		for ( int row = 0; row < DEPTH; row++ )
+		{
+			min = Math.min( min, counters[index( hash, row )] );
+		}
+		return min;
+	}
+
+	/**
+	 * Count a request for the key, aging all counters when the sample is full
+	 *
+	 * @param key The key
+	 */
+	private void increment( K key )
+	{
+		int hash = key.hashCode();
+		for ( int row = 0; row < DEPTH; row++ )
+		{
+			int index = index( hash, row );
+			if ( counters[index] < MAX_COUNT )
+			{
+				counters[index]++;
+			}
+		}
+
+		if ( ++samples == sampleSize )
+		{
+			for ( int i = 0; i < counters.length; i++ )
+			{
+				counters[i] >>= 1;
+			}
+			samples /= 2;
+		}
+	}
+
+	private int index( int hash, int row )
+	{
+		int h = ( hash ^ SEEDS[row] ) * 0x9e3779b9;
+		return row * ( mask + 1 ) + ( ( h ^ ( h >>> 16 ) ) & mask );
+	}
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.cache;
+
+import com.sonatype.interview.Conversion;
+import com.sonatype.interview.WordifyEngine;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe cache of conversions bounded by an estimated byte budget
+ * rather than an entry count, since a single max-length conversion is
+ * tens of kilobytes. Hits only read a ConcurrentHashMap and record the
+ * access in a lossy ring buffer, so they never take a lock. The buffer
+ * is replayed into the eviction policy under a lock when writing, or
+ * when it fills and the lock happens to be free.
+ */
+public final class WordifyCache
+{
+	// Estimated bytes for the entry, map node, Conversion and String headers
+	private final static int ENTRY_OVERHEAD = 128;
+
+	// Accesses buffered before they are replayed into the policy
+	private final static int READ_BUFFER_SIZE = 128;
+
+	private final WordifyEngine engine;
+
+	private final EvictionPolicy<String> policy;
+
+	private final long maxBytes;
+
+	private final ConcurrentHashMap<String, Entry> map = new ConcurrentHashMap<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final AtomicReferenceArray<String> readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+
+	private final AtomicLong readCount = new AtomicLong();
+
+	// Guarded by the eviction lock
+	private volatile long readsDrained;
+
+	private long weightedSize;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param engine The engine to convert misses with
+	 * @param maxBytes Estimated heap budget for the cached keys and words
+	 * @param policy Decides which entries to evict, e.g. LruPolicy or TinyLfuPolicy
+	 */
+	public WordifyCache( @NotNull WordifyEngine engine, long maxBytes, @NotNull EvictionPolicy<String> policy )
+	{
+		this.engine = engine;
+		this.maxBytes = maxBytes;
+		this.policy = policy;
+	}
+
+	/**
+	 * Validate and convert the integer representation of a number, returning
+	 * a cached result when the same trimmed input was converted before
+	 *
+	 * @param number Representation of an integer, which may be invalid
+	 * @return The English words, or a hint as to why the input is invalid
+	 */
+	public Conversion convert( @NotNull CharSequence number )
+	{
+		String key = number.toString().trim();
+
+		Entry entry = map.get( key );
+		if ( entry != null )
+		{
+			hits.increment();
+			recordRead( key );
+			return entry.conversion;
+		}
+
+		misses.increment();
+		Conversion conversion = engine.convert( key );
+		long weight = weigh( key, conversion );
+		if ( weight <= maxBytes )
+		{
+			insert( key, new Entry( conversion, weight ) );
+		}
+		return conversion;
+	}
+
+	/**
+	 * @return The number of lookups answered from the cache
+	 */
+	public long hitCount()
+	{
+		return hits.sum();
+	}
+
+	/**
+	 * @return The number of lookups that had to be converted
+	 */
+	public long missCount()
+	{
+		return misses.sum();
+	}
+
+	/**
+	 * @return The number of entries evicted to stay within the byte budget
+	 */
+	public long evictionCount()
+	{
+		return evictions.sum();
+	}
+
+	/**
+	 * @return The number of cached entries
+	 */
+	public int size()
+	{
+		return map.size();
+	}
+
+	/**
+	 * @return The estimated bytes held by the cached entries
+	 */
+	public long weightedSize()
+	{
+		evictionLock.lock();
+		try
+		{
+			return weightedSize;
+		}
+		finally
+		{
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Estimate the heap held by an entry, counting two bytes per char
+	 *
+	 * @param key The normalized input
+	 * @param conversion The conversion
+	 * @return The estimated size in bytes
+	 */
+	static long weigh( String key, Conversion conversion )
+	{
+		return ENTRY_OVERHEAD + 2L * ( key.length() + conversion.toString().length() );
+	}
+
+	/**
+	 * Record a hit without blocking. Accesses may be dropped when
+	 * the buffer laps itself, which only makes the policy less exact.
+	 *
+	 * @param key The key that was read
+	 */
+	private void recordRead( String key )
+	{
+		long count = readCount.getAndIncrement();
+		readBuffer.lazySet( (int) ( count & ( READ_BUFFER_SIZE - 1 ) ), key );
+
+		if ( count - readsDrained >= READ_BUFFER_SIZE / 2 && evictionLock.tryLock() )
+		{
+			try
+			{
+				drainReads();
+			}
+			finally
+			{
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Add an entry, evicting others until the cache is within its budget
+	 *
+	 * @param key The normalized input
+	 * @param entry The entry to add
+	 */
+	private void insert( String key, Entry entry )
+	{
+		evictionLock.lock();
+		try
+		{
+			drainReads();
+			policy.recordMiss( key );
+
+			// Another thread may have converted the same key
+			if ( map.containsKey( key ) )
+			{
+				return;
+			}
+
+			// Admission only matters when something has to go
+			if ( weightedSize + entry.weight > maxBytes )
+			{
+				String victim = policy.victim();
+				if ( victim != null && !policy.admit( key, victim ) )
+				{
+					return;
+				}
+			}
+
+			map.put( key, entry );
+			policy.recordInsert( key );
+			weightedSize += entry.weight;
+
+			while ( weightedSize > maxBytes )
+			{
+				String victim = policy.victim();
+				Entry evicted = map.remove( victim );
+				policy.recordRemoval( victim );
+				weightedSize -= evicted.weight;
+				evictions.increment();
+			}
+		}
+		finally
+		{
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Replay buffered accesses into the policy. Must hold the eviction lock.
+	 */
+	private void drainReads()
+	{
+		long count = readCount.get();
+		long from = Math.max( readsDrained, count - READ_BUFFER_SIZE );
+		for ( long i = from; i < count; i++ )
+		{
+			String key = readBuffer.get( (int) ( i & ( READ_BUFFER_SIZE - 1 ) ) );
+			if ( key != null && map.containsKey( key ) )
+			{
+				policy.recordAccess( key );
+			}
+		}
+		readsDrained = count;
+	}
+
+	/**
+	 * A cached conversion and its estimated size
+	 */
+	private static final class Entry
+	{
+		final Conversion conversion;
+
+		final long weight;
+
+		Entry( Conversion conversion, long weight )
+		{
+			this.conversion = conversion;
+			this.weight = weight;
+		}
+	}
+}
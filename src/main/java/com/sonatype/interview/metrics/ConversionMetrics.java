@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters and latency histograms for conversions, exposed over JMX.
+ * Enabled with -Dwordify.metrics=true. The flag is a static final, so when it is
+ * off the JIT folds start() and record() away and the callers stay inlinable.
+ */
+public final class ConversionMetrics implements ConversionMetricsMXBean
+{
+	/**
+	 * True if conversions are being measured
+	 */
+	public final static boolean ENABLED = Boolean.getBoolean( "wordify.metrics" );
+
+	/**
+	 * Name the metrics are registered under
+	 */
+	public final static String OBJECT_NAME = "com.sonatype.interview:type=ConversionMetrics";
+
+	/**
+	 * Latency buckets per band; the last also counts anything slower
+	 */
+	final static int BUCKETS = 40;
+
+	// Input length bands, by decimal order of magnitude
+	private final static String[] BANDS = { "1-9", "10-99", "100-999", "1000+" };
+
+	private final static ConversionMetrics INSTANCE = ENABLED ? register( new ConversionMetrics() ) : null;
+
+	private final LongAdder conversions = new LongAdder();
+
+	private final LongAdder rejections = new LongAdder();
+
+	private final ConcurrentHashMap<String, LongAdder> rejectionsByHint = new ConcurrentHashMap<>();
+
+	private final LongAdder[][] latencies = new LongAdder[BANDS.length][BUCKETS];
+
+	ConversionMetrics()
+	{
+		for ( LongAdder[] band : latencies )
+		{
+			for ( int i = 0; i < band.length; i++ )
+			{
+				band[i] = new LongAdder();
+			}
+		}
+	}
+
+	/**
+	 * Start timing a conversion
+	 *
+	 * @return The start time, or zero when disabled
+	 */
+	public static long start()
+	{
+		return ENABLED ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Record a conversion, or its rejection, started at the given time
+	 *
+	 * @param length Length of the input
+	 * @param hint The hint it was rejected with, or null if it was converted
+	 * @param started Time from start()
+	 */
+	public static void record( int length, String hint, long started )
+	{
+		if ( ENABLED )
+		{
+			INSTANCE.recordConversion( length, hint, System.nanoTime() - started );
+		}
+	}
+
+	/**
+	 * Record one conversion or rejection
+	 *
+	 * @param length Length of the input
+	 * @param hint The hint it was rejected with, or null if it was converted
+	 * @param nanos How long it took
+	 */
+	void recordConversion( int length, String hint, long nanos )
+	{
+		if ( hint != null )
+		{
+			rejections.increment();
+			LongAdder count = rejectionsByHint.get( hint );
+			if ( count == null )
+			{
+				count = rejectionsByHint.computeIfAbsent( hint, key -> new LongAdder() );
+			}
+			count.increment();
+			return;
+		}
+
+		conversions.increment();
+		latencies[band( length )][bucket( nanos )].increment();
+	}
+
+	/**
+	 * @param length Length of the input
+	 * @return Index of the band it falls in
+	 */
+	static int band( int length )
+	{
+		if ( length < 10 )
+		{
+			return 0;
+		}
+		if ( length < 100 )
+		{
+			return 1;
+		}
+		return length < 1000 ? 2 : 3;
+	}
+
+	/**
+	 * @param nanos A latency
+	 * @return Index of the power-of-two bucket it falls in
+	 */
+	static int bucket( long nanos )
+	{
+		int bucket = 63 - Long.numberOfLeadingZeros( Math.max( nanos, 1 ) );
+		return Math.min( bucket, BUCKETS - 1 );
+	}
+
+	@Override
+	public long getConversions()
+	{
+		return conversions.sum();
+	}
+
+	@Override
+	public long getRejections()
+	{
+		return rejections.sum();
+	}
+
+	@Override
+	public Map<String, Long> getRejectionsByHint()
+	{
+		Map<String, Long> counts = new LinkedHashMap<>();
+		rejectionsByHint.forEach( ( hint, count ) -> counts.put( hint, count.sum() ) );
+		return counts;
+	}
+
+	@Override
+	public Map<String, long[]> getLatencyHistograms()
+	{
+		Map<String, long[]> histograms = new LinkedHashMap<>();
+		for ( int band = 0; band < BANDS.length; band++ )
+		{
+			long[] counts = new long[BUCKETS];
+			for ( int i = 0; i < BUCKETS; i++ )
+			{
+				counts[i] = latencies[band][i].sum();
+			}
+			histograms.put( BANDS[band], counts );
+		}
+		return histograms;
+	}
+
+	@Override
+	public void reset()
+	{
+		conversions.reset();
+		rejections.reset();
+		rejectionsByHint.clear();
+		for ( LongAdder[] band : latencies )
+		{
+			for ( LongAdder bucket : band )
+			{
+				bucket.reset();
+			}
+		}
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server
+	 *
+	 * @param metrics The metrics to expose
+	 * @return The same metrics
+	 * @throws IllegalStateException If the metrics cannot be registered
+	 */
+	static ConversionMetrics register( @NotNull ConversionMetrics metrics )
+	{
+		try
+		{
+			ManagementFactory.getPlatformMBeanServer().registerMBean( metrics, new ObjectName( OBJECT_NAME ) );
+			return metrics;
+		}
+		catch ( JMException e )
+		{
+			throw new IllegalStateException( "Cannot register " + OBJECT_NAME, e );
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the conversion metrics
+ */
+public interface ConversionMetricsMXBean
+{
+	/**
+	 * @return Number of valid inputs converted
+	 */
+	long getConversions();
+
+	/**
+	 * @return Number of inputs rejected with a hint
+	 */
+	long getRejections();
+
+	/**
+	 * @return Number of rejections for each hint given
+	 */
+	Map<String, Long> getRejectionsByHint();
+
+	/**
+	 * Latency histograms by input length band, e.g. 10-99.
+	 * Bucket i counts conversions taking from 2^i up to 2^(i+1) nanoseconds.
+	 *
+	 * @return Bucket counts for each band
+	 */
+	Map<String, long[]> getLatencyHistograms();
+
+	/**
+	 * Zero every counter
+	 */
+	void reset();
+}
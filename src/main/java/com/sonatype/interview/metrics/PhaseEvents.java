@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+/**
+ * Flight Recorder events for the validation, grouping, rendering and I/O phases.
+ * Enabled with -Dwordify.jfr=true. The flag is a static final and the event
+ * classes sit behind a holder, so when it is off nothing is allocated, the
+ * jdk.jfr classes are never loaded, and the calls compile away. The events
+ * are built from the Java 11 sources; without them nothing is recorded.
+ */
+public final class PhaseEvents
+{
+	/**
+	 * True if phase events are being recorded
+	 */
+	public final static boolean ENABLED = Boolean.getBoolean( "wordify.jfr" );
+
+	public final static int VALIDATION = 0;
+
+	public final static int GROUPING = 1;
+
+	public final static int RENDERING = 2;
+
+	public final static int IO = 3;
+
+	private PhaseEvents()
+	{
+	}
+
+	/**
+	 * Start timing a phase
+	 *
+	 * @param phase One of the phase constants
+	 * @return The started event, or null when disabled
+	 */
+	public static Object begin( int phase )
+	{
+		return ENABLED ? Holder.begin( phase ) : null;
+	}
+
+	/**
+	 * Finish timing a phase and commit its event
+	 *
+	 * @param event The event from begin()
+	 * @param inputLength Length of the input
+	 * @param groupCount Number of thousands groups, or zero if not known
+	 * @param outputLength Length of the output, or zero if none
+	 */
+	public static void end( Object event, int inputLength, int groupCount, int outputLength )
+	{
+		if ( ENABLED )
+		{
+			Holder.end( event, inputLength, groupCount, outputLength );
+		}
+	}
+
+	/**
+	 * Keeps the recorder, and so the jdk.jfr classes, unloaded until events are enabled
+	 */
+	private static final class Holder
+	{
+		private final static PhaseRecorder RECORDER = load();
+
+		static Object begin( int phase )
+		{
+			return RECORDER.begin( phase );
+		}
+
+		static void end( Object event, int inputLength, int groupCount, int outputLength )
+		{
+			RECORDER.end( event, inputLength, groupCount, outputLength );
+		}
+
+		/**
+		 * @return The Flight Recorder implementation, or one that records nothing
+		 * if the build or the runtime has no Java 11
+		 */
+		private static PhaseRecorder load()
+		{
+			try
+			{
+				return (PhaseRecorder) Class.forName( PhaseRecorder.JFR_CLASS_NAME ).getDeclaredConstructor().newInstance();
+			}
+			catch ( ReflectiveOperationException | LinkageError e )
+			{
+				return PhaseRecorder.NONE;
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+/**
+ * Records the phases PhaseEvents times. The Flight Recorder implementation
+ * is built from the Java 11 sources and found by name, so the rest of
+ * the project still builds and runs on Java 8, where nothing is recorded.
+ */
+interface PhaseRecorder
+{
+	/**
+	 * Name of the Flight Recorder implementation
+	 */
+	String JFR_CLASS_NAME = "com.sonatype.interview.metrics.JfrPhaseRecorder";
+
+	/**
+	 * Records nothing, for when Flight Recorder is not available
+	 */
+	PhaseRecorder NONE = new PhaseRecorder()
+	{
+		@Override
+		public Object begin( int phase )
+		{
+			return null;
+		}
+
+		@Override
+		public void end( Object event, int inputLength, int groupCount, int outputLength )
+		{
+		}
+	};
+
+	/**
+	 * Start timing a phase
+	 *
+	 * @param phase One of the PhaseEvents phase constants
+	 * @return The started event, or null if nothing is recorded
+	 */
+	Object begin( int phase );
+
+	/**
+	 * Finish timing a phase and commit its event
+	 *
+	 * @param event The event from begin()
+	 * @param inputLength Length of the input
+	 * @param groupCount Number of thousands groups, or zero if not known
+	 * @param outputLength Length of the output, or zero if none
+	 */
+	void end( Object event, int inputLength, int groupCount, int outputLength );
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Find the first byte that is not an ASCII digit, eight bytes at a time.
+ * Each step loads a long and tests all eight bytes with SWAR arithmetic,
+ * so a 3,000 digit number takes under 400 steps instead of 3,000.
+ */
+public final class AsciiDigits
+{
+	private final static long ZEROS = 0x3030303030303030L;
+
+	private final static long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+	// 0x80 - 10, so adding it sets a byte's high bit when the byte is 10 or more
+	private final static long TEN_OR_MORE = 0x7676767676767676L;
+
+	private final static long HIGH_BITS = 0x8080808080808080L;
+
+	private AsciiDigits()
+	{
+	}
+
+	/**
+	 * Find the first byte that is not an ASCII digit
+	 *
+	 * @param bytes Array holding the bytes
+	 * @param offset Offset of the first byte
+	 * @param length Number of bytes
+	 * @return Offset of the first non-digit, or -1 if every byte is a digit
+	 */
+	public static int firstNonDigit( @NotNull byte[] bytes, int offset, int length )
+	{
+		return firstNonDigit( ByteBuffer.wrap( bytes ), offset, length );
+	}
+
+	/**
+	 * Find the first byte that is not an ASCII digit. The buffer's
+	 * position, limit and byte order are left untouched.
+	 *
+	 * @param buffer Buffer holding the bytes
+	 * @param offset Absolute offset of the first byte
+	 * @param length Number of bytes
+	 * @return Absolute offset of the first non-digit, or -1 if every byte is a digit
+	 */
+	public static int firstNonDigit( @NotNull ByteBuffer buffer, int offset, int length )
+	{
+		boolean isLittleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+		int end = offset + length;
+		int i = offset;
+		for ( ; i + Long.BYTES <= end; i += Long.BYTES )
+		{
+			long mask = nonDigitMask( buffer.getLong( i ) );
+			if ( mask != 0 )
+			{
+				// The lowest address is the least significant byte only in little-endian order
+				int zeros = isLittleEndian ? Long.numberOfTrailingZeros( mask ) : Long.numberOfLeadingZeros( mask );
+				return i + ( zeros >>> 3 );
+			}
+		}
+
+		// The remaining tail of up to seven bytes
+		for ( ; i < end; i++ )
+		{
+			byte chr = buffer.get( i );
+			if ( chr < '0' || chr > '9' )
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the first char that is not an ASCII digit
+	 *
+	 * @param chars The chars
+	 * @param offset Offset of the first char
+	 * @param length Number of chars to check
+	 * @return Offset of the first non-digit, or -1 if every char is a digit
+	 */
+	public static int firstNonDigit( @NotNull CharSequence chars, int offset, int length )
+	{
+		int end = offset + length;
+		for ( int i = offset; i < end; i++ )
+		{
+			char chr = chars.charAt( i );
+			if ( chr < '0' || chr > '9' )
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Set the high bit of every byte that is not an ASCII digit. A byte is a
+	 * digit when XOR '0' leaves a value under ten; adding 0x76 to the low seven
+	 * bits sets the high bit for ten or more without carrying into the next byte,
+	 * and OR-ing the XOR back in catches bytes of 0x80 and over.
+	 *
+	 * @param word Eight bytes
+	 * @return 0x80 in the place of each non-digit byte, zero elsewhere
+	 */
+	static long nonDigitMask( long word )
+	{
+		long value = word ^ ZEROS;
+		return ( ( ( value & LOW_BITS ) + TEN_OR_MORE ) | value ) & HIGH_BITS;
+	}
+}
@@ -8,15 +8,101 @@ package com.sonatype.interview.utils;
  * Dictionary of words used to convert a string representation
  * of integers into English words
  */
-abstract public class Dictionary
+public class Dictionary implements Language
 {
+	/**
+	 * The English language
+	 */
+	final static public Language ENGLISH = new Dictionary();
+
 	final static public String SPACE = " ";
 
 	final static public String NEGATIVE = "negative";
 
 	final static public String HUNDRED = "hundred";
 
-	final static public String AND = "and";	// Modify this if you want, say, a comma
+	final static public String AND = "and";	// See WordifyEngine.builder() to replace or drop it
+
+	// Every thousands scale packed end to end, decoded only on demand
+	private final static PackedWords PACKED_SCALES =
+		PackedWords.fromConstants( GeneratedTables.SCALES_BYTES, GeneratedTables.SCALES_ENDS );
+
+	protected Dictionary()
+	{
+	}
+
+	@Override
+	public String tag()
+	{
+		return "en";
+	}
+
+	@Override
+	public String[] onesAndTeens()
+	{
+		return ONE_TO_NINETEEN;
+	}
+
+	@Override
+	public String[] tens()
+	{
+		return TENS;
+	}
+
+	@Override
+	public String hundred()
+	{
+		return HUNDRED;
+	}
+
+	@Override
+	public String and()
+	{
+		return AND;
+	}
+
+	@Override
+	public String negative()
+	{
+		return NEGATIVE;
+	}
+
+	@Override
+	public String space()
+	{
+		return SPACE;
+	}
+
+	@Override
+	public int scaleCount()
+	{
+		return numScales();
+	}
+
+	@Override
+	public String scale( int index )
+	{
+		return index < numScales() ? thousandScale( index ) : ScaleNames.scale( index );
+	}
+
+	@Override
+	public int scaleLength( int index )
+	{
+		return index < numScales() ? PACKED_SCALES.charLength( index ) : ScaleNames.scale( index ).length();
+	}
+
+	/**
+	 * Return a thousands scale from the packed table. The word is
+	 * decoded on every call, so callers that need it often should keep it.
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The scale name
+	 * @throws ArrayIndexOutOfBoundsException If there is no such scale
+	 */
+	public static String thousandScale( int index )
+	{
+		return PACKED_SCALES.get( index );
+	}
 
 	/**
 	 * Return the very last thousands scale
@@ -25,7 +111,7 @@ abstract public class Dictionary
 	 */
 	static String lastScale()
 	{
-		return Dictionary.THOUSAND_SCALES[ Dictionary.THOUSAND_SCALES.length-1 ];
+		return thousandScale( numScales() - 1 );
 	}
 
 	/**
@@ -35,7 +121,7 @@ abstract public class Dictionary
 	 */
 	static int numScales()
 	{
-		return Dictionary.THOUSAND_SCALES.length;
+		return PACKED_SCALES.size();
 	}
 
 	final static public String[] ONE_TO_NINETEEN = new String[]{
@@ -73,1008 +159,4 @@ abstract public class Dictionary
 		"eighty",
 		"ninety",
 	};
-
-	// TODO: Verify the vocabulary
-	final static public String[] THOUSAND_SCALES = new String[]{
-		"thousand",
-		"million",
-		"billion",
-		"trillion",
-		"quadrillion",
-		"quintillion",
-		"sextillion",
-		"septillion",
-		"octillion",
-		"nonillion",
-		"decillion",
-		"undecillion",
-		"duodecillion",
-		"tredecillion",
-		"quattuordecillion",
-		"quindecillion",
-		"sexdecillion",
-		"septendecillion",
-		"ocodecillion",
-		"novemdecillion",
-		"vigintillion",
-		"unvigintillion",
-		"duovigintillion",
-		"trevigintillion",
-		"quattuorvigintillion",
-		"quinvigintillion",
-		"sexvigintillion",
-		"septenvigintillion",
-		"octovigintillion",
-		"novemvigintillion",
-		"trigintillion",
-		"untrigintillion",
-		"duotrigintillion",
-		"tretrigintillion",
-		"quattuortrigintillion",
-		"quintrigintillion",
-		"sextrigintillion",
-		"septentrigintillion",
-		"octotrigintillion",
-		"novemtrigintillion",
-		"quadragintillion",
-		"unquadragintillion",
-		"duoquadragintillion",
-		"tresquadragintillion",
-		"quattuorquadragintillion",
-		"quindragintillion",
-		"sesquadragintillion",
-		"septenquadragintillion",
-		"octoquadragintillion",
-		"novenquadragintillion",
-		"quinquagintillion",
-		"unquinquagintillion",
-		"duoquinquagintillion",
-		"tresquinquagintillion",
-		"quattuorquinquagintillion",
-		"quinquinquagintillion",
-		"sesquinquagintillion",
-		"septenquinquagintillion",
-		"octoquinquagintillion",
-		"novenquinquagintillion",
-		"sexagintillion",
-		"unsexagintillion",
-		"duosexagintillion",
-		"tresexagintillion",
-		"quattuorsexagintillion",
-		"quinsexagintillion",
-		"sesexagintillion",
-		"septensexagintillion",
-		"octosexagintillion",
-		"novensexagintillion",
-		"septuagintillion",
-		"unseptuagintillion",
-		"duoseptuagintillion",
-		"treseptuagintillion",
-		"quattuorseptuagintillion",
-		"quinseptuagintillion",
-		"seseptuagintillion",
-		"septenseptuagintillion",
-		"octoseptuagintillion",
-		"novenseptuagintillion",
-		"octogintillion",
-		"unoctogintillion",
-		"duooctogintillion",
-		"tresoctogintillion",
-		"quattuoroctogintillion",
-		"quinoctogintillion",
-		"sexoctogintillion",
-		"septemoctogintillion",
-		"octooctogintillion",
-		"novemoctogintillion",
-		"nonagintillion",
-		"unnonagintillion",
-		"duononagintillion",
-		"trenonagintillion",
-		"quattuornonagintillion",
-		"quinnonagintillion",
-		"senonagintillion",
-		"septenonagintillion",
-		"octononagintillion",
-		"novenonagintillion",
-		"centillion",
-		"uncentillion",
-		"duocentillion",
-		"trescentillion",
-		"quattuorcentillion",
-		"quincentillion",
-		"sexcentillion",
-		"septencentillion",
-		"octocentillion",
-		"novencentillion",
-		"decicentillion",
-		"undecicentillion",
-		"duodecicentillion",
-		"tredecicentillion",
-		"quattuordecicentillion",
-		"quindecicentillion",
-		"sedecicentillion",
-		"septendecicentillion",
-		"octodecicentillion",
-		"novendecicentillion",
-		"viginticentillion",
-		"unviginticentillion",
-		"duoviginticentillion",
-		"tresviginticentillion",
-		"quattuorviginticentillion",
-		"quinviginticentillion",
-		"sesviginticentillion",
-		"septemviginticentillion",
-		"octoviginticentillion",
-		"novemviginticentillion",
-		"trigintacentillion",
-		"untrigintacentillion",
-		"duotrigintacentillion",
-		"trestrigintacentillion",
-		"quattuortrigintacentillion",
-		"quintrigintacentillion",
-		"sestrigintacentillion",
-		"septentrigintacentillion",
-		"octotrigintacentillion",
-		"noventrigintacentillion",
-		"quadragintacentillion",
-		"unquadragintacentillion",
-		"duoquadragintacentillion",
-		"tresquadragintacentillion",
-		"quattuorquadragintacentillion",
-		"quinquadragintacentillion",
-		"sesquadragintacentillion",
-		"septenquadragintacentillion",
-		"octoquadragintacentillion",
-		"novenquadragintacentillion",
-		"quinquagintacentillion",
-		"unquinquagintacentillion",
-		"duoquinquagintacentillion",
-		"tresquinquagintacentillion",
-		"quattuorquinquagintacentillion",
-		"quinquinquagintacentillion",
-		"sesquinquagintacentillion",
-		"septenquinquagintacentillion",
-		"octoquinquagintacentillion",
-		"novenquinquagintacentillion",
-		"sexagintacentillion",
-		"unsexagintacentillion",
-		"duosexagintacentillion",
-		"tresexagintacentillion",
-		"quattuorsexagintacentillion",
-		"quinsexagintacentillion",
-		"sesexagintacentillion",
-		"septensexagintacentillion",
-		"octosexagintacentillion",
-		"novensexagintacentillion",
-		"septuagintacentillion",
-		"unseptuagintacentillion",
-		"duoseptuagintacentillion",
-		"treseptuagintacentillion",
-		"quattuorseptuagintacentillion",
-		"quinseptuagintacentillion",
-		"seseptuagintacentillion",
-		"septenseptuagintacentillion",
-		"octoseptuagintacentillion",
-		"novenseptuagintacentillion",
-		"octogintacentillion",
-		"unoctogintacentillion",
-		"duooctogintacentillion",
-		"tresoctogintacentillion",
-		"quattuoroctogintacentillion",
-		"quinoctogintacentillion",
-		"sexoctogintacentillion",
-		"septemoctogintacentillion",
-		"octooctogintacentillion",
-		"novemoctogintacentillion",
-		"nonagintacentillion",
-		"unnonagintacentillion",
-		"duononagintacentillion",
-		"trenonagintacentillion",
-		"quattuornonagintacentillion",
-		"quinnonagintacentillion",
-		"senonagintacentillion",
-		"septenonagintacentillion",
-		"octononagintacentillion",
-		"novenonagintacentillion",
-		"ducentillion",
-		"unducentillion",
-		"duoducentillion",
-		"treducentillion",
-		"quattuorducentillion",
-		"quinducentillion",
-		"seducentillion",
-		"septenducentillion",
-		"octoducentillion",
-		"novenducentillion",
-		"deciducentillion",
-		"undeciducentillion",
-		"duodeciducentillion",
-		"tredeciducentillion",
-		"quattuordeciducentillion",
-		"quindeciducentillion",
-		"sedeciducentillion",
-		"septendeciducentillion",
-		"octodeciducentillion",
-		"novendeciducentillion",
-		"vigintiducentillion",
-		"unvigintiducentillion",
-		"duovigintiducentillion",
-		"tresvigintiducentillion",
-		"quattuorvigintiducentillion",
-		"quinvigintiducentillion",
-		"sesvigintiducentillion",
-		"septemvigintiducentillion",
-		"octovigintiducentillion",
-		"novemvigintiducentillion",
-		"trigintaducentillion",
-		"untrigintaducentillion",
-		"duotrigintaducentillion",
-		"trestrigintaducentillion",
-		"quattuortrigintaducentillion",
-		"quintrigintaducentillion",
-		"sestrigintaducentillion",
-		"septentrigintaducentillion",
-		"octotrigintaducentillion",
-		"noventrigintaducentillion",
-		"quadragintaducentillion",
-		"unquadragintaducentillion",
-		"duoquadragintaducentillion",
-		"tresquadragintaducentillion",
-		"quattuorquadragintaducentillion",
-		"quinquadragintaducentillion",
-		"sesquadragintaducentillion",
-		"septenquadragintaducentillion",
-		"octoquadragintaducentillion",
-		"novenquadragintaducentillion",
-		"quinquagintaducentillion",
-		"unquinquagintaducentillion",
-		"duoquinquagintaducentillion",
-		"tresquinquagintaducentillion",
-		"quattuorquinquagintaducentillion",
-		"quinquinquagintaducentillion",
-		"sesquinquagintaducentillion",
-		"septenquinquagintaducentillion",
-		"octoquinquagintaducentillion",
-		"novenquinquagintaducentillion",
-		"sexagintaducentillion",
-		"unsexagintaducentillion",
-		"duosexagintaducentillion",
-		"tresexagintaducentillion",
-		"quattuorsexagintaducentillion",
-		"quinsexagintaducentillion",
-		"sesexagintaducentillion",
-		"septensexagintaducentillion",
-		"octosexagintaducentillion",
-		"novensexagintaducentillion",
-		"septuagintaducentillion",
-		"unseptuagintaducentillion",
-		"duoseptuagintaducentillion",
-		"treseptuagintaducentillion",
-		"quattuorseptuagintaducentillion",
-		"quinseptuagintaducentillion",
-		"seseptuagintaducentillion",
-		"septenseptuagintaducentillion",
-		"octoseptuagintaducentillion",
-		"novenseptuagintaducentillion",
-		"octogintaducentillion",
-		"unoctogintaducentillion",
-		"duooctogintaducentillion",
-		"tresoctogintaducentillion",
-		"quattuoroctogintaducentillion",
-		"quinoctogintaducentillion",
-		"sexoctogintaducentillion",
-		"septemoctogintaducentillion",
-		"octooctogintaducentillion",
-		"novemoctogintaducentillion",
-		"nonagintaducentillion",
-		"unnonagintaducentillion",
-		"duononagintaducentillion",
-		"trenonagintaducentillion",
-		"quattuornonagintaducentillion",
-		"quinnonagintaducentillion",
-		"senonagintaducentillion",
-		"septenonagintaducentillion",
-		"octononagintaducentillion",
-		"novenonagintaducentillion",
-		"trecentillion",
-		"untrecentillion",
-		"duotrecentillion",
-		"trestrecentillion",
-		"quattuortrecentillion",
-		"quintrecentillion",
-		"sestrecentillion",
-		"septentrecentillion",
-		"octotrecentillion",
-		"noventrecentillion",
-		"decitrecentillion",
-		"undecitrecentillion",
-		"duodecitrecentillion",
-		"tredecitrecentillion",
-		"quattuordecitrecentillion",
-		"quindecitrecentillion",
-		"sedecitrecentillion",
-		"septendecitrecentillion",
-		"octodecitrecentillion",
-		"novendecitrecentillion",
-		"vigintitrecentillion",
-		"unvigintitrecentillion",
-		"duovigintitrecentillion",
-		"tresvigintitrecentillion",
-		"quattuorvigintitrecentillion",
-		"quinvigintitrecentillion",
-		"sesvigintitrecentillion",
-		"septemvigintitrecentillion",
-		"octovigintitrecentillion",
-		"novemvigintitrecentillion",
-		"trigintatrecentillion",
-		"untrigintatrecentillion",
-		"duotrigintatrecentillion",
-		"trestrigintatrecentillion",
-		"quattuortrigintatrecentillion",
-		"quintrigintatrecentillion",
-		"sestrigintatrecentillion",
-		"septentrigintatrecentillion",
-		"octotrigintatrecentillion",
-		"noventrigintatrecentillion",
-		"quadragintatrecentillion",
-		"unquadragintatrecentillion",
-		"duoquadragintatrecentillion",
-		"tresquadragintatrecentillion",
-		"quattuorquadragintatrecentillion",
-		"quinquadragintatrecentillion",
-		"sesquadragintatrecentillion",
-		"septenquadragintatrecentillion",
-		"octoquadragintatrecentillion",
-		"novenquadragintatrecentillion",
-		"quinquagintatrecentillion",
-		"unquinquagintatrecentillion",
-		"duoquinquagintatrecentillion",
-		"tresquinquagintatrecentillion",
-		"quattuorquinquagintatrecentillion",
-		"quinquinquagintatrecentillion",
-		"sesquinquagintatrecentillion",
-		"septenquinquagintatrecentillion",
-		"octoquinquagintatrecentillion",
-		"novenquinquagintatrecentillion",
-		"sexagintatrecentillion",
-		"unsexagintatrecentillion",
-		"duosexagintatrecentillion",
-		"tresexagintatrecentillion",
-		"quattuorsexagintatrecentillion",
-		"quinsexagintatrecentillion",
-		"sesexagintatrecentillion",
-		"septensexagintatrecentillion",
-		"octosexagintatrecentillion",
-		"novensexagintatrecentillion",
-		"septuagintatrecentillion",
-		"unseptuagintatrecentillion",
-		"duoseptuagintatrecentillion",
-		"treseptuagintatrecentillion",
-		"quattuorseptuagintatrecentillion",
-		"quinseptuagintatrecentillion",
-		"seseptuagintatrecentillion",
-		"septenseptuagintatrecentillion",
-		"octoseptuagintatrecentillion",
-		"novenseptuagintatrecentillion",
-		"octogintatrecentillion",
-		"unoctogintatrecentillion",
-		"duooctogintatrecentillion",
-		"tresoctogintatrecentillion",
-		"quattuoroctogintatrecentillion",
-		"quinoctogintatrecentillion",
-		"sexoctogintatrecentillion",
-		"septemoctogintatrecentillion",
-		"octooctogintatrecentillion",
-		"novemoctogintatrecentillion",
-		"nonagintatrecentillion",
-		"unnonagintatrecentillion",
-		"duononagintatrecentillion",
-		"trenonagintatrecentillion",
-		"quattuornonagintatrecentillion",
-		"quinnonagintatrecentillion",
-		"senonagintatrecentillion",
-		"septenonagintatrecentillion",
-		"octononagintatrecentillion",
-		"novenonagintatrecentillion",
-		"quadringentillion",
-		"unquadringentillion",
-		"duoquadringentillion",
-		"tresquadringentillion",
-		"quattuorquadringentillion",
-		"quinquadringentillion",
-		"sesquadringentillion",
-		"septenquadringentillion",
-		"octoquadringentillion",
-		"novenquadringentillion",
-		"deciquadringentillion",
-		"undeciquadringentillion",
-		"duodeciquadringentillion",
-		"tredeciquadringentillion",
-		"quattuordeciquadringentillion",
-		"quindeciquadringentillion",
-		"sedeciquadringentillion",
-		"septendeciquadringentillion",
-		"octodeciquadringentillion",
-		"novendeciquadringentillion",
-		"vigintiquadringentillion",
-		"unvigintiquadringentillion",
-		"duovigintiquadringentillion",
-		"tresvigintiquadringentillion",
-		"quattuorvigintiquadringentillion",
-		"quinvigintiquadringentillion",
-		"sesvigintiquadringentillion",
-		"septemvigintiquadringentillion",
-		"octovigintiquadringentillion",
-		"novemvigintiquadringentillion",
-		"trigintaquadringentillion",
-		"untrigintaquadringentillion",
-		"duotrigintaquadringentillion",
-		"trestrigintaquadringentillion",
-		"quattuortrigintaquadringentillion",
-		"quintrigintaquadringentillion",
-		"sestrigintaquadringentillion",
-		"septentrigintaquadringentillion",
-		"octotrigintaquadringentillion",
-		"noventrigintaquadringentillion",
-		"quadragintaquadringentillion",
-		"unquadragintaquadringentillion",
-		"duoquadragintaquadringentillion",
-		"tresquadragintaquadringentillion",
-		"quattuorquadragintaquadringentillion",
-		"quinquadragintaquadringentillion",
-		"sesquadragintaquadringentillion",
-		"septenquadragintaquadringentillion",
-		"octoquadragintaquadringentillion",
-		"novenquadragintaquadringentillion",
-		"quinquagintaquadringentillion",
-		"unquinquagintaquadringentillion",
-		"duoquinquagintaquadringentillion",
-		"tresquinquagintaquadringentillion",
-		"quattuorquinquagintaquadringentillion",
-		"quinquinquagintaquadringentillion",
-		"sesquinquagintaquadringentillion",
-		"septenquinquagintaquadringentillion",
-		"octoquinquagintaquadringentillion",
-		"novenquinquagintaquadringentillion",
-		"sexagintaquadringentillion",
-		"unsexagintaquadringentillion",
-		"duosexagintaquadringentillion",
-		"tresexagintaquadringentillion",
-		"quattuorsexagintaquadringentillion",
-		"quinsexagintaquadringentillion",
-		"sesexagintaquadringentillion",
-		"septensexagintaquadringentillion",
-		"octosexagintaquadringentillion",
-		"novensexagintaquadringentillion",
-		"septuagintaquadringentillion",
-		"unseptuagintaquadringentillion",
-		"duoseptuagintaquadringentillion",
-		"treseptuagintaquadringentillion",
-		"quattuorseptuagintaquadringentillion",
-		"quinseptuagintaquadringentillion",
-		"seseptuagintaquadringentillion",
-		"septenseptuagintaquadringentillion",
-		"octoseptuagintaquadringentillion",
-		"novenseptuagintaquadringentillion",
-		"octogintaquadringentillion",
-		"unoctogintaquadringentillion",
-		"duooctogintaquadringentillion",
-		"tresoctogintaquadringentillion",
-		"quattuoroctogintaquadringentillion",
-		"quinoctogintaquadringentillion",
-		"sexoctogintaquadringentillion",
-		"septemoctogintaquadringentillion",
-		"octooctogintaquadringentillion",
-		"novemoctogintaquadringentillion",
-		"nonagintaquadringentillion",
-		"unnonagintaquadringentillion",
-		"duononagintaquadringentillion",
-		"trenonagintaquadringentillion",
-		"quattuornonagintaquadringentillion",
-		"quinnonagintaquadringentillion",
-		"senonagintaquadringentillion",
-		"septenonagintaquadringentillion",
-		"octononagintaquadringentillion",
-		"novenonagintaquadringentillion",
-		"quingentillion",
-		"unquingentillion",
-		"duoquingentillion",
-		"tresquingentillion",
-		"quattuorquingentillion",
-		"quinquingentillion",
-		"sesquingentillion",
-		"septenquingentillion",
-		"octoquingentillion",
-		"novenquingentillion",
-		"deciquingentillion",
-		"undeciquingentillion",
-		"duodeciquingentillion",
-		"tredeciquingentillion",
-		"quattuordeciquingentillion",
-		"quindeciquingentillion",
-		"sedeciquingentillion",
-		"septendeciquingentillion",
-		"octodeciquingentillion",
-		"novendeciquingentillion",
-		"vigintiquingentillion",
-		"unvigintiquingentillion",
-		"duovigintiquingentillion",
-		"tresvigintiquingentillion",
-		"quattuorvigintiquingentillion",
-		"quinvigintiquingentillion",
-		"sesvigintiquingentillion",
-		"septemvigintiquingentillion",
-		"octovigintiquingentillion",
-		"novemvigintiquingentillion",
-		"trigintaquingentillion",
-		"untrigintaquingentillion",
-		"duotrigintaquingentillion",
-		"trestrigintaquingentillion",
-		"quattuortrigintaquingentillion",
-		"quintrigintaquingentillion",
-		"sestrigintaquingentillion",
-		"septentrigintaquingentillion",
-		"octotrigintaquingentillion",
-		"noventrigintaquingentillion",
-		"quadragintaquingentillion",
-		"unquadragintaquingentillion",
-		"duoquadragintaquingentillion",
-		"tresquadragintaquingentillion",
-		"quattuorquadragintaquingentillion",
-		"quinquadragintaquingentillion",
-		"sesquadragintaquingentillion",
-		"septenquadragintaquingentillion",
-		"octoquadragintaquingentillion",
-		"novenquadragintaquingentillion",
-		"quinquagintaquingentillion",
-		"unquinquagintaquingentillion",
-		"duoquinquagintaquingentillion",
-		"tresquinquagintaquingentillion",
-		"quattuorquinquagintaquingentillion",
-		"quinquinquagintaquingentillion",
-		"sesquinquagintaquingentillion",
-		"septenquinquagintaquingentillion",
-		"octoquinquagintaquingentillion",
-		"novenquinquagintaquingentillion",
-		"sexagintaquingentillion",
-		"unsexagintaquingentillion",
-		"duosexagintaquingentillion",
-		"tresexagintaquingentillion",
-		"quattuorsexagintaquingentillion",
-		"quinsexagintaquingentillion",
-		"sesexagintaquingentillion",
-		"septensexagintaquingentillion",
-		"octosexagintaquingentillion",
-		"novensexagintaquingentillion",
-		"septuagintaquingentillion",
-		"unseptuagintaquingentillion",
-		"duoseptuagintaquingentillion",
-		"treseptuagintaquingentillion",
-		"quattuorseptuagintaquingentillion",
-		"quinseptuagintaquingentillion",
-		"seseptuagintaquingentillion",
-		"septenseptuagintaquingentillion",
-		"octoseptuagintaquingentillion",
-		"novenseptuagintaquingentillion",
-		"octogintaquingentillion",
-		"unoctogintaquingentillion",
-		"duooctogintaquingentillion",
-		"tresoctogintaquingentillion",
-		"quattuoroctogintaquingentillion",
-		"quinoctogintaquingentillion",
-		"sexoctogintaquingentillion",
-		"septemoctogintaquingentillion",
-		"octooctogintaquingentillion",
-		"novemoctogintaquingentillion",
-		"nonagintaquingentillion",
-		"unnonagintaquingentillion",
-		"duononagintaquingentillion",
-		"trenonagintaquingentillion",
-		"quattuornonagintaquingentillion",
-		"quinnonagintaquingentillion",
-		"senonagintaquingentillion",
-		"septenonagintaquingentillion",
-		"octononagintaquingentillion",
-		"novenonagintaquingentillion",
-		"sescentillion",
-		"unsescentillion",
-		"duosescentillion",
-		"tresescentillion",
-		"quattuorsescentillion",
-		"quinsescentillion",
-		"sesescentillion",
-		"septensescentillion",
-		"octosescentillion",
-		"novensescentillion",
-		"decisescentillion",
-		"undecisescentillion",
-		"duodecisescentillion",
-		"tredecisescentillion",
-		"quattuordecisescentillion",
-		"quindecisescentillion",
-		"sedecisescentillion",
-		"septendecisescentillion",
-		"octodecisescentillion",
-		"novendecisescentillion",
-		"vigintisescentillion",
-		"unvigintisescentillion",
-		"duovigintisescentillion",
-		"tresvigintisescentillion",
-		"quattuorvigintisescentillion",
-		"quinvigintisescentillion",
-		"sesvigintisescentillion",
-		"septemvigintisescentillion",
-		"octovigintisescentillion",
-		"novemvigintisescentillion",
-		"trigintasescentillion",
-		"untrigintasescentillion",
-		"duotrigintasescentillion",
-		"trestrigintasescentillion",
-		"quattuortrigintasescentillion",
-		"quintrigintasescentillion",
-		"sestrigintasescentillion",
-		"septentrigintasescentillion",
-		"octotrigintasescentillion",
-		"noventrigintasescentillion",
-		"quadragintasescentillion",
-		"unquadragintasescentillion",
-		"duoquadragintasescentillion",
-		"tresquadragintasescentillion",
-		"quattuorquadragintasescentillion",
-		"quinquadragintasescentillion",
-		"sesquadragintasescentillion",
-		"septenquadragintasescentillion",
-		"octoquadragintasescentillion",
-		"novenquadragintasescentillion",
-		"quinquagintasescentillion",
-		"unquinquagintasescentillion",
-		"duoquinquagintasescentillion",
-		"tresquinquagintasescentillion",
-		"quattuorquinquagintasescentillion",
-		"quinquinquagintasescentillion",
-		"sesquinquagintasescentillion",
-		"septenquinquagintasescentillion",
-		"octoquinquagintasescentillion",
-		"novenquinquagintasescentillion",
-		"sexagintasescentillion",
-		"unsexagintasescentillion",
-		"duosexagintasescentillion",
-		"tresexagintasescentillion",
-		"quattuorsexagintasescentillion",
-		"quinsexagintasescentillion",
-		"sesexagintasescentillion",
-		"septensexagintasescentillion",
-		"octosexagintasescentillion",
-		"novensexagintasescentillion",
-		"septuagintasescentillion",
-		"unseptuagintasescentillion",
-		"duoseptuagintasescentillion",
-		"treseptuagintasescentillion",
-		"quattuorseptuagintasescentillion",
-		"quinseptuagintasescentillion",
-		"seseptuagintasescentillion",
-		"septenseptuagintasescentillion",
-		"octoseptuagintasescentillion",
-		"novenseptuagintasescentillion",
-		"octogintasescentillion",
-		"unoctogintasescentillion",
-		"duooctogintasescentillion",
-		"tresoctogintasescentillion",
-		"quattuoroctogintasescentillion",
-		"quinoctogintasescentillion",
-		"sexoctogintasescentillion",
-		"septemoctogintasescentillion",
-		"octooctogintasescentillion",
-		"novemoctogintasescentillion",
-		"nonagintasescentillion",
-		"unnonagintasescentillion",
-		"duononagintasescentillion",
-		"trenonagintasescentillion",
-		"quattuornonagintasescentillion",
-		"quinnonagintasescentillion",
-		"senonagintasescentillion",
-		"septenonagintasescentillion",
-		"octononagintasescentillion",
-		"novenonagintasescentillion",
-		"septingentillion",
-		"unseptingentillion",
-		"duoseptingentillion",
-		"treseptingentillion",
-		"quattuorseptingentillion",
-		"quinseptingentillion",
-		"seseptingentillion",
-		"septenseptingentillion",
-		"octoseptingentillion",
-		"novenseptingentillion",
-		"deciseptingentillion",
-		"undeciseptingentillion",
-		"duodeciseptingentillion",
-		"tredeciseptingentillion",
-		"quattuordeciseptingentillion",
-		"quindeciseptingentillion",
-		"sedeciseptingentillion",
-		"septendeciseptingentillion",
-		"octodeciseptingentillion",
-		"novendeciseptingentillion",
-		"vigintiseptingentillion",
-		"unvigintiseptingentillion",
-		"duovigintiseptingentillion",
-		"tresvigintiseptingentillion",
-		"quattuorvigintiseptingentillion",
-		"quinvigintiseptingentillion",
-		"sesvigintiseptingentillion",
-		"septemvigintiseptingentillion",
-		"octovigintiseptingentillion",
-		"novemvigintiseptingentillion",
-		"trigintaseptingentillion",
-		"untrigintaseptingentillion",
-		"duotrigintaseptingentillion",
-		"trestrigintaseptingentillion",
-		"quattuortrigintaseptingentillion",
-		"quintrigintaseptingentillion",
-		"sestrigintaseptingentillion",
-		"septentrigintaseptingentillion",
-		"octotrigintaseptingentillion",
-		"noventrigintaseptingentillion",
-		"quadragintaseptingentillion",
-		"unquadragintaseptingentillion",
-		"duoquadragintaseptingentillion",
-		"tresquadragintaseptingentillion",
-		"quattuorquadragintaseptingentillion",
-		"quinquadragintaseptingentillion",
-		"sesquadragintaseptingentillion",
-		"septenquadragintaseptingentillion",
-		"octoquadragintaseptingentillion",
-		"novenquadragintaseptingentillion",
-		"quinquagintaseptingentillion",
-		"unquinquagintaseptingentillion",
-		"duoquinquagintaseptingentillion",
-		"tresquinquagintaseptingentillion",
-		"quattuorquinquagintaseptingentillion",
-		"quinquinquagintaseptingentillion",
-		"sesquinquagintaseptingentillion",
-		"septenquinquagintaseptingentillion",
-		"octoquinquagintaseptingentillion",
-		"novenquinquagintaseptingentillion",
-		"sexagintaseptingentillion",
-		"unsexagintaseptingentillion",
-		"duosexagintaseptingentillion",
-		"tresexagintaseptingentillion",
-		"quattuorsexagintaseptingentillion",
-		"quinsexagintaseptingentillion",
-		"sesexagintaseptingentillion",
-		"septensexagintaseptingentillion",
-		"octosexagintaseptingentillion",
-		"novensexagintaseptingentillion",
-		"septuagintaseptingentillion",
-		"unseptuagintaseptingentillion",
-		"duoseptuagintaseptingentillion",
-		"treseptuagintaseptingentillion",
-		"quattuorseptuagintaseptingentillion",
-		"quinseptuagintaseptingentillion",
-		"seseptuagintaseptingentillion",
-		"septenseptuagintaseptingentillion",
-		"octoseptuagintaseptingentillion",
-		"novenseptuagintaseptingentillion",
-		"octogintaseptingentillion",
-		"unoctogintaseptingentillion",
-		"duooctogintaseptingentillion",
-		"tresoctogintaseptingentillion",
-		"quattuoroctogintaseptingentillion",
-		"quinoctogintaseptingentillion",
-		"sexoctogintaseptingentillion",
-		"septemoctogintaseptingentillion",
-		"octooctogintaseptingentillion",
-		"novemoctogintaseptingentillion",
-		"nonagintaseptingentillion",
-		"unnonagintaseptingentillion",
-		"duononagintaseptingentillion",
-		"trenonagintaseptingentillion",
-		"quattuornonagintaseptingentillion",
-		"quinnonagintaseptingentillion",
-		"senonagintaseptingentillion",
-		"septenonagintaseptingentillion",
-		"octononagintaseptingentillion",
-		"novenonagintaseptingentillion",
-		"octingentillion",
-		"unoctingentillion",
-		"duooctingentillion",
-		"tresoctingentillion",
-		"quattuoroctingentillion",
-		"quinoctingentillion",
-		"sexoctingentillion",
-		"septemoctingentillion",
-		"octooctingentillion",
-		"novemoctingentillion",
-		"decioctingentillion",
-		"undecioctingentillion",
-		"duodecioctingentillion",
-		"tredecioctingentillion",
-		"quattuordecioctingentillion",
-		"quindecioctingentillion",
-		"sedecioctingentillion",
-		"septendecioctingentillion",
-		"octodecioctingentillion",
-		"novendecioctingentillion",
-		"vigintioctingentillion",
-		"unvigintioctingentillion",
-		"duovigintioctingentillion",
-		"tresvigintioctingentillion",
-		"quattuorvigintioctingentillion",
-		"quinvigintioctingentillion",
-		"sesvigintioctingentillion",
-		"septemvigintioctingentillion",
-		"octovigintioctingentillion",
-		"novemvigintioctingentillion",
-		"trigintaoctingentillion",
-		"untrigintaoctingentillion",
-		"duotrigintaoctingentillion",
-		"trestrigintaoctingentillion",
-		"quattuortrigintaoctingentillion",
-		"quintrigintaoctingentillion",
-		"sestrigintaoctingentillion",
-		"septentrigintaoctingentillion",
-		"octotrigintaoctingentillion",
-		"noventrigintaoctingentillion",
-		"quadragintaoctingentillion",
-		"unquadragintaoctingentillion",
-		"duoquadragintaoctingentillion",
-		"tresquadragintaoctingentillion",
-		"quattuorquadragintaoctingentillion",
-		"quinquadragintaoctingentillion",
-		"sesquadragintaoctingentillion",
-		"septenquadragintaoctingentillion",
-		"octoquadragintaoctingentillion",
-		"novenquadragintaoctingentillion",
-		"quinquagintaoctingentillion",
-		"unquinquagintaoctingentillion",
-		"duoquinquagintaoctingentillion",
-		"tresquinquagintaoctingentillion",
-		"quattuorquinquagintaoctingentillion",
-		"quinquinquagintaoctingentillion",
-		"sesquinquagintaoctingentillion",
-		"septenquinquagintaoctingentillion",
-		"octoquinquagintaoctingentillion",
-		"novenquinquagintaoctingentillion",
-		"sexagintaoctingentillion",
-		"unsexagintaoctingentillion",
-		"duosexagintaoctingentillion",
-		"tresexagintaoctingentillion",
-		"quattuorsexagintaoctingentillion",
-		"quinsexagintaoctingentillion",
-		"sesexagintaoctingentillion",
-		"septensexagintaoctingentillion",
-		"octosexagintaoctingentillion",
-		"novensexagintaoctingentillion",
-		"septuagintaoctingentillion",
-		"unseptuagintaoctingentillion",
-		"duoseptuagintaoctingentillion",
-		"treseptuagintaoctingentillion",
-		"quattuorseptuagintaoctingentillion",
-		"quinseptuagintaoctingentillion",
-		"seseptuagintaoctingentillion",
-		"septenseptuagintaoctingentillion",
-		"octoseptuagintaoctingentillion",
-		"novenseptuagintaoctingentillion",
-		"octogintaoctingentillion",
-		"unoctogintaoctingentillion",
-		"duooctogintaoctingentillion",
-		"tresoctogintaoctingentillion",
-		"quattuoroctogintaoctingentillion",
-		"quinoctogintaoctingentillion",
-		"sexoctogintaoctingentillion",
-		"septemoctogintaoctingentillion",
-		"octooctogintaoctingentillion",
-		"novemoctogintaoctingentillion",
-		"nonagintaoctingentillion",
-		"unnonagintaoctingentillion",
-		"duononagintaoctingentillion",
-		"trenonagintaoctingentillion",
-		"quattuornonagintaoctingentillion",
-		"quinnonagintaoctingentillion",
-		"senonagintaoctingentillion",
-		"septenonagintaoctingentillion",
-		"octononagintaoctingentillion",
-		"novenonagintaoctingentillion",
-		"nongentillion",
-		"unnongentillion",
-		"duonongentillion",
-		"trenongentillion",
-		"quattuornongentillion",
-		"quinnongentillion",
-		"senongentillion",
-		"septenongentillion",
-		"octonongentillion",
-		"novenongentillion",
-		"decinongentillion",
-		"undecinongentillion",
-		"duodecinongentillion",
-		"tredecinongentillion",
-		"quattuordecinongentillion",
-		"quindecinongentillion",
-		"sedecinongentillion",
-		"septendecinongentillion",
-		"octodecinongentillion",
-		"novendecinongentillion",
-		"vigintinongentillion",
-		"unvigintinongentillion",
-		"duovigintinongentillion",
-		"tresvigintinongentillion",
-		"quattuorvigintinongentillion",
-		"quinvigintinongentillion",
-		"sesvigintinongentillion",
-		"septemvigintinongentillion",
-		"octovigintinongentillion",
-		"novemvigintinongentillion",
-		"trigintanongentillion",
-		"untrigintanongentillion",
-		"duotrigintanongentillion",
-		"trestrigintanongentillion",
-		"quattuortrigintanongentillion",
-		"quintrigintanongentillion",
-		"sestrigintanongentillion",
-		"septentrigintanongentillion",
-		"octotrigintanongentillion",
-		"noventrigintanongentillion",
-		"quadragintanongentillion",
-		"unquadragintanongentillion",
-		"duoquadragintanongentillion",
-		"tresquadragintanongentillion",
-		"quattuorquadragintanongentillion",
-		"quinquadragintanongentillion",
-		"sesquadragintanongentillion",
-		"septenquadragintanongentillion",
-		"octoquadragintanongentillion",
-		"novenquadragintanongentillion",
-		"quinquagintanongentillion",
-		"unquinquagintanongentillion",
-		"duoquinquagintanongentillion",
-		"tresquinquagintanongentillion",
-		"quattuorquinquagintanongentillion",
-		"quinquinquagintanongentillion",
-		"sesquinquagintanongentillion",
-		"septenquinquagintanongentillion",
-		"octoquinquagintanongentillion",
-		"novenquinquagintanongentillion",
-		"sexagintanongentillion",
-		"unsexagintanongentillion",
-		"duosexagintanongentillion",
-		"tresexagintanongentillion",
-		"quattuorsexagintanongentillion",
-		"quinsexagintanongentillion",
-		"sesexagintanongentillion",
-		"septensexagintanongentillion",
-		"octosexagintanongentillion",
-		"novensexagintanongentillion",
-		"septuagintanongentillion",
-		"unseptuagintanongentillion",
-		"duoseptuagintanongentillion",
-		"treseptuagintanongentillion",
-		"quattuorseptuagintanongentillion",
-		"quinseptuagintanongentillion",
-		"seseptuagintanongentillion",
-		"septenseptuagintanongentillion",
-		"octoseptuagintanongentillion",
-		"novenseptuagintanongentillion",
-		"octogintanongentillion",
-		"unoctogintanongentillion",
-		"duooctogintanongentillion",
-		"tresoctogintanongentillion",
-		"quattuoroctogintanongentillion",
-		"quinoctogintanongentillion",
-		"sexoctogintanongentillion",
-		"septemoctogintanongentillion",
-		"octooctogintanongentillion",
-		"novemoctogintanongentillion",
-		"nonagintanongentillion",
-		"unnonagintanongentillion",
-		"duononagintanongentillion",
-		"trenonagintanongentillion",
-		"quattuornonagintanongentillion",
-		"quinnonagintanongentillion",
-		"senonagintanongentillion",
-		"septenonagintanongentillion",
-		"octononagintanongentillion",
-		"novenonagintanongentillion"
-	};
 }
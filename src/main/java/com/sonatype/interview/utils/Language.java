@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+/**
+ * Words and rules of one language for converting integers into words.
+ * Implementations are found with the ServiceLoader, so a new language
+ * only needs a META-INF/services/com.sonatype.interview.utils.Language entry.
+ * The default rules compose phrases the English way, e.g.
+ * four hundred and fifty six; override phrase() for other rules.
+ */
+public interface Language
+{
+	/**
+	 * @return The IETF language tag, e.g. en
+	 */
+	String tag();
+
+	/**
+	 * @return Words for 0 to 19
+	 */
+	String[] onesAndTeens();
+
+	/**
+	 * @return Words for the tens, indexed by ten, e.g. [2] = twenty
+	 */
+	String[] tens();
+
+	/**
+	 * @return Word for a hundred
+	 */
+	String hundred();
+
+	/**
+	 * @return Word between the hundreds and the remainder, or an empty string for none
+	 */
+	String and();
+
+	/**
+	 * @return Word for negative numbers
+	 */
+	String negative();
+
+	/**
+	 * @return Separator between words
+	 */
+	String space();
+
+	/**
+	 * @return Number of thousands scales the language names itself,
+	 * which bounds the digits a checked conversion accepts
+	 */
+	int scaleCount();
+
+	/**
+	 * Return the name of any thousands scale. Scales from scaleCount()
+	 * on may be generated, e.g. with ScaleNames.scale().
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The scale name
+	 */
+	String scale( int index );
+
+	/**
+	 * Return the length in chars of a thousands scale. Override this
+	 * if the length is known without making the name.
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The length of scale( index )
+	 */
+	default int scaleLength( int index )
+	{
+		return scale( index ).length();
+	}
+
+	/**
+	 * Compose the words for a group from 1 to 999
+	 * e.g. 450 -> four hundred and fifty (with the 'and')
+	 *
+	 * @param group An int from 1 to 999
+	 * @param withAnd True to add an 'and' before the remainder under 100
+	 * @return The words for this group
+	 */
+	default String phrase( int group, boolean withAnd )
+	{
+		String[] onesAndTeens = onesAndTeens();
+		String space = space();
+		int hundreds = group / 100;
+		int remainder = group % 100;
+
+		StringBuilder sb = new StringBuilder( 64 );
+		if ( hundreds > 0 )
+		{
+			sb.append( onesAndTeens[hundreds] ).append( space ).append( hundred() );
+		}
+		if ( remainder > 0 )
+		{
+			if ( hundreds > 0 )
+			{
+				sb.append( space );
+			}
+			if ( withAnd && !and().isEmpty() )
+			{
+				sb.append( and() ).append( space );
+			}
+			if ( remainder < 20 )
+			{
+				sb.append( onesAndTeens[remainder] );
+			}
+			else
+			{
+				sb.append( tens()[remainder / 10] );
+				if ( remainder % 10 != 0 )
+				{
+					sb.append( space ).append( onesAndTeens[remainder % 10] );
+				}
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of languages by tag. English is built in, and other
+ * languages are discovered with the ServiceLoader the first time
+ * an unknown tag is asked for.
+ */
+public final class Languages
+{
+	private final static Map<String, Language> LANGUAGES = new ConcurrentHashMap<>();
+
+	private static volatile boolean discovered;
+
+	static
+	{
+		LANGUAGES.put( Dictionary.ENGLISH.tag(), Dictionary.ENGLISH );
+	}
+
+	private Languages()
+	{
+	}
+
+	/**
+	 * Find a language by its tag
+	 *
+	 * @param tag The IETF language tag, e.g. en
+	 * @return The language
+	 * @throws IllegalArgumentException If no language has the tag
+	 */
+	public static Language forTag( @NotNull String tag )
+	{
+		Language language = LANGUAGES.get( tag );
+		if ( language == null && !discovered )
+		{
+			discover();
+			language = LANGUAGES.get( tag );
+		}
+		if ( language == null )
+		{
+			throw new IllegalArgumentException( "Unsupported language: " + tag );
+		}
+		return language;
+	}
+
+	/**
+	 * Register the languages on the classpath, keeping the first of any duplicate tag
+	 */
+	private static synchronized void discover()
+	{
+		if ( discovered )
+		{
+			return;
+		}
+		for ( Language language : ServiceLoader.load( Language.class ) )
+		{
+			LANGUAGES.putIfAbsent( language.tag(), language );
+		}
+		discovered = true;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Words packed end to end as UTF-8 in one byte array, with the offset
+ * of every word in an int array. A word only becomes a String when asked
+ * for, so a large vocabulary costs two arrays instead of one object per word.
+ * The words are unpacked from String constants, as in GeneratedTables.
+ */
+public final class PackedWords
+{
+	private final byte[] bytes;
+
+	// Where each word starts in bytes, plus the end of the last one
+	private final int[] offsets;
+
+	private PackedWords( byte[] bytes, int[] offsets )
+	{
+		this.bytes = bytes;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * Unpack words from the two String constants TableGenerator writes
+	 * in GeneratedTables
+	 *
+	 * @param bytes One char per UTF-8 byte of the packed words
+	 * @param ends One char per word, holding the offset just past its end
+	 * @return The packed words
+	 */
+	public static PackedWords fromConstants( @NotNull String bytes, @NotNull String ends )
+	{
+		int[] offsets = new int[ends.length() + 1];
+		for ( int i = 0; i < ends.length(); i++ )
+		{
+			offsets[i + 1] = ends.charAt( i );
+		}
+		return new PackedWords( bytes.getBytes( StandardCharsets.ISO_8859_1 ), offsets );
+	}
+
+	/**
+	 * @return The number of words
+	 */
+	public int size()
+	{
+		return offsets.length - 1;
+	}
+
+	/**
+	 * Decode one word. A new String is made on every call,
+	 * so callers that need the word often should keep it.
+	 *
+	 * @param index Index of the word
+	 * @return The word
+	 * @throws ArrayIndexOutOfBoundsException If there is no such word
+	 */
+	public String get( int index )
+	{
+		int start = offsets[index];
+		return new String( bytes, start, offsets[index + 1] - start, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * Count the chars of one word without decoding it
+	 *
+	 * @param index Index of the word
+	 * @return The length of the word in chars
+	 * @throws ArrayIndexOutOfBoundsException If there is no such word
+	 */
+	public int charLength( int index )
+	{
+		int length = 0;
+		for ( int i = offsets[index]; i < offsets[index + 1]; i++ )
+		{
+			int b = bytes[i] & 0xFF;
+			if ( b >= 0xF0 )
+			{
+				// Four bytes decode to a surrogate pair
+				length += 2;
+			}
+			else if ( ( b & 0xC0 ) != 0x80 )
+			{
+				length++;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * @param index Index of the word
+	 * @return A copy of the UTF-8 bytes of the word
+	 * @throws ArrayIndexOutOfBoundsException If there is no such word
+	 */
+	public byte[] bytes( int index )
+	{
+		return Arrays.copyOfRange( bytes, offsets[index], offsets[index + 1] );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+/**
+ * Why an integer representation was rejected, and where
+ */
+public final class Rejection
+{
+	private final String hint;
+
+	private final int index;
+
+	Rejection( String hint, int index )
+	{
+		this.hint = hint;
+		this.index = index;
+	}
+
+	/**
+	 * @return One of the ValidateNumeric hint constants
+	 */
+	public String hint()
+	{
+		return hint;
+	}
+
+	/**
+	 * The offending position: the first bad char, the leading zero,
+	 * the end of an empty number, or the first char past the digit limit
+	 *
+	 * @return Index into the representation
+	 */
+	public int index()
+	{
+		return index;
+	}
+
+	@Override
+	public String toString()
+	{
+		return hint + " (at " + index + ")";
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generate the names of thousands scales with the Conway-Wechsler system,
+ * so numbers of any length can be named. Index i names 1000^(i+1),
+ * e.g. 0 = thousand, 1 = million, 1000 = millinillion.
+ * Names are generated on first use and memoized, so only the scales
+ * actually used are ever materialized.
+ */
+public final class ScaleNames
+{
+	// Latin prefixes for the units, tens and hundreds of an illion number
+	private final static String[] UNITS = {
+		"", "un", "duo", "tre", "quattuor", "quin", "se", "septe", "octo", "nove"
+	};
+
+	private final static String[] TENS = {
+		"", "deci", "viginti", "triginta", "quadraginta", "quinquaginta", "sexaginta", "septuaginta", "octoginta", "nonaginta"
+	};
+
+	private final static String[] HUNDREDS = {
+		"", "centi", "ducenti", "trecenti", "quadringenti", "quingenti", "sescenti", "septingenti", "octingenti", "nongenti"
+	};
+
+	// Letters a tens or hundreds prefix adds to tre, se, septe and nove before it
+	private final static String[] TENS_MARKS = { "", "n", "ms", "ns", "ns", "ns", "n", "n", "mx", "" };
+
+	private final static String[] HUNDREDS_MARKS = { "", "nx", "n", "ns", "ns", "ns", "n", "n", "mx", "" };
+
+	// Stems for illion numbers under ten
+	private final static String[] SMALL = {
+		"n", "m", "b", "tr", "quadr", "quint", "sext", "sept", "oct", "non"
+	};
+
+	private final static Map<Integer, String> NAMES = new ConcurrentHashMap<>();
+
+	private ScaleNames()
+	{
+	}
+
+	/**
+	 * Return the name of a thousands scale
+	 *
+	 * @param index Zero for thousand, one for million, and so on
+	 * @return The scale name, e.g. 2 -> billion
+	 */
+	public static String scale( int index )
+	{
+		if ( index < 0 )
+		{
+			throw new IllegalArgumentException( "Negative scale: " + index );
+		}
+		if ( index == 0 )
+		{
+			return "thousand";
+		}
+
+		String name = NAMES.get( index );
+		if ( name == null )
+		{
+			// Racing threads generate the same name
+			name = generate( index );
+			NAMES.putIfAbsent( index, name );
+		}
+		return name;
+	}
+
+	/**
+	 * Name 1000^(n+1) by joining the stems of each base-1000 group
+	 * of n with 'illi', ending in 'illion'
+	 *
+	 * @param n The illion number, one or more
+	 * @return The scale name
+	 */
+	private static String generate( int n )
+	{
+		// Groups of n, least significant first
+		int[] groups = new int[4];
+		int numGroups = 0;
+		do
+		{
+			groups[numGroups++] = n % 1000;
+			n /= 1000;
+		}
+		while ( n != 0 );
+
+		StringBuilder sb = new StringBuilder( 16 * numGroups );
+		for ( int i = numGroups - 1; i >= 0; i-- )
+		{
+			appendStem( sb, groups[i] );
+			sb.append( "illi" );
+		}
+		return sb.append( "on" ).toString();
+	}
+
+	/**
+	 * Append the stem for a group of an illion number, e.g. 13 -> tredec
+	 *
+	 * @param sb Buffer to append the stem to
+	 * @param group An int from 0 to 999
+	 */
+	private static void appendStem( StringBuilder sb, int group )
+	{
+		if ( group < 10 )
+		{
+			sb.append( SMALL[group] );
+			return;
+		}
+
+		int units = group % 10;
+		int tens = group / 10 % 10;
+		int hundreds = group / 100;
+
+		// The units take letters from whichever prefix follows them
+		String marks = tens > 0 ? TENS_MARKS[tens] : HUNDREDS_MARKS[hundreds];
+		sb.append( UNITS[units] );
+		if ( units == 3 && ( marks.indexOf( 's' ) >= 0 || marks.indexOf( 'x' ) >= 0 ) )
+		{
+			sb.append( 's' );
+		}
+		else if ( units == 6 && marks.indexOf( 's' ) >= 0 )
+		{
+			sb.append( 's' );
+		}
+		else if ( units == 6 && marks.indexOf( 'x' ) >= 0 )
+		{
+			sb.append( 'x' );
+		}
+		else if ( ( units == 7 || units == 9 ) && marks.indexOf( 'm' ) >= 0 )
+		{
+			sb.append( 'm' );
+		}
+		else if ( ( units == 7 || units == 9 ) && marks.indexOf( 'n' ) >= 0 )
+		{
+			sb.append( 'n' );
+		}
+		sb.append( TENS[tens] ).append( HUNDREDS[hundreds] );
+
+		// Drop the final vowel before 'illi'
+		sb.setLength( sb.length() - 1 );
+	}
+}
@@ -4,34 +4,115 @@
 
 package com.sonatype.interview.utils;
 
+import com.sonatype.interview.metrics.PhaseEvents;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * String integer representation validator with error hinting
  */
 public class ValidateNumeric
 {
-	final static String EMPTY = "The number is empty.";
+	public final static String EMPTY = "The number is empty.";
+
+	public final static String DASH = "There can only be one '-' at the beginning of the number.";
+
+	public final static String WHITESPACE = "A valid number doesn't contain whitespace";
+
+	public final static String ZERO = "Integers start with a 1 through 9.";
+
+	public final static String FRACTION = "Fractional numbers are not supported.";
+
+	public final static String ASCII = "Only ASCII characters are allowed.";
+
+	public final static String MIXED = "Numbers can only contain the numerals 0-9 and start with a -.";
+
+	public final static String INVALID = "The number is invalid.";
+
+	public final static String NEGATIVE_ZERO = "Zero is a non-negative number and cannot be made negative.";
+
+	public final static String NEGATIVE_WHAT = "Negative what?";
+
+	public final static String TOO_LONG = "Cannot exceed 999 " + Dictionary.lastScale() + ".";
+
+	/**
+	 * Most digits an unbounded conversion takes, keeping group arithmetic within an int
+	 */
+	public final static int MAX_UNBOUNDED_DIGITS = Integer.MAX_VALUE - 2;
+
+	public final static String UNBOUNDED_TOO_LONG = "Cannot exceed " + MAX_UNBOUNDED_DIGITS + " digits.";
+
+	// Validator states
+	private final static int START = 0;
 
-	final static String DASH = "There can only be one '-' at the beginning of the number.";
+	private final static int DASH_READ = 1;
 
-	final static String WHITESPACE = "A valid number doesn't contain whitespace";
+	private final static int ZERO_READ = 2;
 
-	final static String ZERO = "Integers start with a 1 through 9.";
+	private final static int NEGATIVE_ZERO_READ = 3;
 
-	final static String FRACTION = "Fractional numbers are not supported.";
+	private final static int DIGITS_READ = 4;
 
-	final static String ASCII = "Only ASCII characters are allowed.";
+	// Char classes
+	private final static int NON_ZERO_DIGIT = 0;
 
-	final static String MIXED = "Numbers can only contain the numerals 0-9 and start with a -.";
+	private final static int ZERO_DIGIT = 1;
 
-	final static String INVALID = "The number is invalid.";
+	private final static int DASH_CHAR = 2;
 
-	final static String NEGATIVE_ZERO = "Zero is a non-negative number and cannot be made negative.";
+	private final static int DOT_CHAR = 3;
 
-	final static String NEGATIVE_WHAT = "Negative what?";
+	private final static int SPACE_CHAR = 4;
 
-	final static String TOO_LONG = String.format( "Cannot exceed 999 %s.", Dictionary.lastScale() );
+	private final static int NON_ASCII_CHAR = 5;
+
+	private final static int OTHER_CHAR = 6;
+
+	// Hints reached from a transition, encoded in the table as -1 - index
+	private final static String[] TRANSITION_HINTS = { DASH, FRACTION, ASCII, WHITESPACE, MIXED, ZERO };
+
+	private final static int E_DASH = -1;
+
+	private final static int E_FRACTION = -2;
+
+	private final static int E_ASCII = -3;
+
+	private final static int E_WHITESPACE = -4;
+
+	private final static int E_MIXED = -5;
+
+	private final static int E_ZERO = -6;
+
+	// Next state for each state and char class
+	private final static byte[][] TRANSITIONS = {
+		// Digit, zero, dash, dot, space, non-ASCII, other
+		{ DIGITS_READ, ZERO_READ, DASH_READ, E_FRACTION, E_WHITESPACE, E_ASCII, E_MIXED },			// START
+		{ DIGITS_READ, NEGATIVE_ZERO_READ, E_DASH, E_FRACTION, E_WHITESPACE, E_ASCII, E_MIXED },	// DASH_READ
+		{ E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO },									// ZERO_READ
+		{ E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO, E_ZERO },									// NEGATIVE_ZERO_READ
+		{ DIGITS_READ, DIGITS_READ, E_DASH, E_FRACTION, E_WHITESPACE, E_ASCII, E_MIXED }			// DIGITS_READ
+	};
+
+	// Hint for running out of chars in each state, or null if the state accepts
+	private final static String[] END_HINTS = { EMPTY, NEGATIVE_WHAT, null, NEGATIVE_ZERO, null };
+
+	// Class of each ASCII char
+	private final static byte[] CHAR_CLASSES = new byte[128];
+
+	static
+	{
+		Arrays.fill( CHAR_CLASSES, (byte) OTHER_CHAR );
+		for ( char chr = '1'; chr <= '9'; chr++ )
+		{
+			CHAR_CLASSES[chr] = NON_ZERO_DIGIT;
+		}
+		CHAR_CLASSES['0'] = ZERO_DIGIT;
+		CHAR_CLASSES['-'] = DASH_CHAR;
+		CHAR_CLASSES['.'] = DOT_CHAR;
+		CHAR_CLASSES[' '] = SPACE_CHAR;
+	}
 
 	/**
 	 * If the number is an invalid integer representation, return a hint
@@ -42,113 +123,234 @@ public class ValidateNumeric
 	 */
 	public static String validateWithHints( @NotNull String number )
 	{
-		if ( ! ValidateNumeric.isValidIntegerRepresentation( number ) )
+		Object validation = PhaseEvents.begin( PhaseEvents.VALIDATION );
+		Rejection rejection = validate( number );
+		PhaseEvents.end( validation, number.length(), 0, 0 );
+		return rejection == null ? null : rejection.hint();
+	}
+
+	/**
+	 * Validate an integer representation with a table-driven state machine
+	 * that reads each char once and copies nothing. The hint is the same one
+	 * validateWithHints() gives, along with the offending index.
+	 *
+	 * @param number Integer representation, which may be invalid
+	 * @return Null if valid, otherwise the hint and where the problem is
+	 */
+	public static Rejection validate( @NotNull CharSequence number )
+	{
+		return validate( number, maxDigits() );
+	}
+
+	/**
+	 * Validate an integer representation against a digit limit with the
+	 * state machine. Every other validator here runs the same machine.
+	 *
+	 * @param number Integer representation, which may be invalid
+	 * @param maxDigits Most digits allowed, up to MAX_UNBOUNDED_DIGITS
+	 * @return Null if valid, otherwise the hint and where the problem is
+	 */
+	public static Rejection validate( @NotNull CharSequence number, int maxDigits )
+	{
+		int length = number.length();
+		boolean isNegative = length > 0 && number.charAt( 0 ) == '-';
+
+		// More digits than scales, whatever else is wrong
+		if ( length - ( isNegative ? 1 : 0 ) > maxDigits )
 		{
-			boolean isNegative = number.startsWith( "-" );
+			return new Rejection( tooLong( maxDigits ), maxDigits );
+		}
 
-			// More groups than scales
-			if ( number.length() > (Dictionary.numScales() * 3) + 3 )
+		int state = START;
+		for ( int i = 0; i < length; i++ )
+		{
+			int next = TRANSITIONS[state][classOf( number.charAt( i ) )];
+			if ( next < 0 )
 			{
-				return TOO_LONG;
+				return reject( next, i, length, maxDigits );
 			}
+			state = next;
+		}
+		return end( state, length );
+	}
 
-			// Remove leading dash
-			number = isNegative ? number.substring( 1 ) : number;
+	/**
+	 * Validate the ASCII bytes of an integer representation with the state
+	 * machine, without creating a String or char[]. Once a digit has been
+	 * read, the rest is scanned eight bytes at a time, as only a non-digit
+	 * can change the state. Any byte outside ASCII is reported as non-ASCII.
+	 *
+	 * @param buffer Buffer holding the number
+	 * @param offset Absolute offset of the first byte
+	 * @param length Number of bytes
+	 * @param maxDigits Most digits allowed, up to MAX_UNBOUNDED_DIGITS
+	 * @return Null if valid, otherwise the hint and where the problem is, relative to the offset
+	 */
+	public static Rejection validate( @NotNull ByteBuffer buffer, int offset, int length, int maxDigits )
+	{
+		boolean isNegative = length > 0 && buffer.get( offset ) == '-';
 
-			// Empty cases
-			if ( number.isEmpty() )
-			{
-				if ( isNegative )
-					return NEGATIVE_WHAT;
-				else
-					return EMPTY;
-			}
+		// More digits than scales, whatever else is wrong
+		if ( length - ( isNegative ? 1 : 0 ) > maxDigits )
+		{
+			return new Rejection( tooLong( maxDigits ), maxDigits );
+		}
 
-			// Hint things like -0, 01, 0.12, etc.
-			if ( number.charAt( 0 ) == '0' )
+		int state = START;
+		for ( int i = 0; i < length; i++ )
+		{
+			int next = TRANSITIONS[state][classOf( buffer.get( offset + i ) & 0xFF )];
+			if ( next < 0 )
 			{
-				if ( isNegative && number.length() == 1 )
-				{
-					return NEGATIVE_ZERO;
-				}
-				else if ( number.length() > 1 )
-				{
-					return ZERO;
-				}
+				return reject( next, i, length, maxDigits );
 			}
-
-			// Simple for-loop over the characters
-			// to find the offending character
-			for ( char chr : number.toCharArray() )
+			if ( next == DIGITS_READ )
 			{
-				if ( chr == '-' )
-				{
-					return DASH;
-				}
-				if ( chr == '.' )
-				{
-					return FRACTION;
-				}
-				if ( chr >= 128 )
-				{
-					return ASCII;
-				}
-				if ( chr == ' ' )
-				{
-					return WHITESPACE;
-				}
-				// ASCII '0' = 48, '9' = 57
-				if ( chr < 48 || chr > 57 )
+				// Only the first non-digit can move the machine on from here
+				int bad = AsciiDigits.firstNonDigit( buffer, offset + i + 1, length - i - 1 );
+				if ( bad < 0 )
 				{
-					return MIXED;
+					return end( DIGITS_READ, length );
 				}
+				return reject( TRANSITIONS[DIGITS_READ][classOf( buffer.get( bad ) & 0xFF )], bad - offset, length, maxDigits );
 			}
-
-			// Catch all
-			return INVALID;
+			state = next;
 		}
+		return end( state, length );
+	}
 
-		return null;
+	/**
+	 * If the number is an invalid integer representation of any length,
+	 * return a hint as to why it fails, otherwise return null. Scales past
+	 * the Dictionary are named by ScaleNames, so the only limit is
+	 * MAX_UNBOUNDED_DIGITS.
+	 *
+	 * @param number Integer representation of any length
+	 * @return A hint as to why the number is invalid
+	 */
+	public static String validateUnboundedWithHints( @NotNull CharSequence number )
+	{
+		Rejection rejection = validate( number, MAX_UNBOUNDED_DIGITS );
+		return rejection == null ? null : rejection.hint();
 	}
 
 	/**
-	 * Test that the string number representation is an integer of any length,
-	 * both positive and negative.
+	 * If the ASCII bytes in the buffer are an invalid integer representation,
+	 * return a hint as to why it fails, otherwise return null. No String or
+	 * char[] is created. Any byte outside ASCII is reported as non-ASCII.
+	 *
+	 * @param buffer Buffer holding the number
+	 * @param offset Absolute offset of the first byte
+	 * @param length Number of bytes
+	 * @return A hint as to why the bytes are invalid
+	 */
+	public static String validateWithHints( @NotNull ByteBuffer buffer, int offset, int length )
+	{
+		Rejection rejection = validate( buffer, offset, length, maxDigits() );
+		return rejection == null ? null : rejection.hint();
+	}
+
+	/**
+	 * Return a hint for a character that cannot appear after
+	 * the optional leading dash, or null if it is a digit
+	 *
+	 * @param chr The character to classify
+	 * @return A hint as to why the character is invalid
+	 */
+	public static String hintFor( char chr )
+	{
+		int next = TRANSITIONS[DIGITS_READ][classOf( chr )];
+		return next < 0 ? TRANSITION_HINTS[-1 - next] : null;
+	}
+
+	/**
+	 * Test that the string number representation is an integer,
+	 * both positive and negative, with no more than maxDigits() digits
 	 *
 	 * @param number The string representation of an integer number
 	 * @return True if this is valid, false otherwise
 	 */
 	static boolean isValidIntegerRepresentation( @NotNull String number )
 	{
-		// Remove the leading negative before performing the digit tests
-		boolean isNegative = number.startsWith( "-" );
-		number = isNegative ? number.substring( 1 ) : number;
+		return validate( number ) == null;
+	}
 
-		// Empty
-		if ( number.isEmpty() )
-		{
-			return false;
-		}
+	/**
+	 * Test that the ASCII bytes in the buffer are an integer representation,
+	 * both positive and negative, without creating a String or char[]
+	 *
+	 * @param buffer Buffer holding the number
+	 * @param offset Absolute offset of the first byte
+	 * @param length Number of bytes
+	 * @return True if this is valid, false otherwise
+	 */
+	public static boolean isValidIntegerRepresentation( @NotNull ByteBuffer buffer, int offset, int length )
+	{
+		return validate( buffer, offset, length, maxDigits() ) == null;
+	}
+
+	/**
+	 * @param maxDigits Most digits allowed
+	 * @return The hint for a number with more digits, which names the limit in force
+	 */
+	public static String tooLong( int maxDigits )
+	{
+		return maxDigits < MAX_UNBOUNDED_DIGITS ? TOO_LONG : UNBOUNDED_TOO_LONG;
+	}
+
+	/**
+	 * @param chr A char, or a byte as an unsigned int
+	 * @return The class of the char in the transition table
+	 */
+	private static int classOf( int chr )
+	{
+		return chr < 128 ? CHAR_CLASSES[chr] : NON_ASCII_CHAR;
+	}
 
-		// Leading zeros means hex (or a fraction - either way, no good), and -0 is illogical
-		if ( number.charAt( 0 ) == '0'  )
+	/**
+	 * @param next The error a transition reached
+	 * @param index Index of the char that reached it
+	 * @param length Length of the representation
+	 * @param maxDigits Most digits allowed
+	 * @return Why the representation is rejected
+	 */
+	private static Rejection reject( int next, int index, int length, int maxDigits )
+	{
+		if ( length > maxDigits )
 		{
-			if ( number.length() > 1 || isNegative )
-			{
-				return false;
-			}
+			return new Rejection( tooLong( maxDigits ), maxDigits );
 		}
 
-		// More groups than scales
-		if ( number.length() > (Dictionary.numScales() * 3) + 3 )
+		// A leading zero is reported where it is, not where it is followed
+		return next == E_ZERO
+			? new Rejection( ZERO, index - 1 )
+			: new Rejection( TRANSITION_HINTS[-1 - next], index );
+	}
+
+	/**
+	 * @param state The state after the last char
+	 * @param length Length of the representation
+	 * @return Null if the state accepts, otherwise why the representation is rejected
+	 */
+	private static Rejection end( int state, int length )
+	{
+		String hint = END_HINTS[state];
+		if ( hint == null )
 		{
-			return false;
+			return null;
 		}
+		return new Rejection( hint, state == NEGATIVE_ZERO_READ ? length - 1 : length );
+	}
 
-		// ASCII '0' = 48, '9' = 57
-		return number.chars().allMatch( chr ->
-			chr >= 48 && chr <= 57
-		);
+	/**
+	 * Return the maximum number of digits supported, which is
+	 * one group for each thousands scale plus the units group
+	 *
+	 * @return The maximum number of digits
+	 */
+	public static int maxDigits()
+	{
+		return (Dictionary.numScales() * 3) + 3;
 	}
 
 	/**
@@ -157,6 +359,6 @@ public class ValidateNumeric
 	 */
 	public static String maxIntegerRepresentation()
 	{
-		return new String( new char[(Dictionary.numScales() * 3) + 3] ).replace( "\0", "9" );
+		return new String( new char[maxDigits()] ).replace( "\0", "9" );
 	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+/**
+ * Records each phase as a Flight Recorder PhaseEvent
+ */
+final class JfrPhaseRecorder implements PhaseRecorder
+{
+	@Override
+	public Object begin( int phase )
+	{
+		PhaseEvent event;
+		switch ( phase )
+		{
+			case PhaseEvents.VALIDATION:
+				event = new PhaseEvent.Validation();
+				break;
+			case PhaseEvents.GROUPING:
+				event = new PhaseEvent.Grouping();
+				break;
+			case PhaseEvents.RENDERING:
+				event = new PhaseEvent.Rendering();
+				break;
+			default:
+				event = new PhaseEvent.Io();
+				break;
+		}
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public void end( Object started, int inputLength, int groupCount, int outputLength )
+	{
+		PhaseEvent event = (PhaseEvent) started;
+		event.end();
+		if ( event.shouldCommit() )
+		{
+			event.inputLength = inputLength;
+			event.groupCount = groupCount;
+			event.outputLength = outputLength;
+			event.commit();
+		}
+	}
+}
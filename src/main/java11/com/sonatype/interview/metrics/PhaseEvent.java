@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for one phase of a conversion.
+ * Built for Java 11 and only loaded through PhaseEvents when recording is enabled.
+ */
+@Category( "Wordify" )
+abstract class PhaseEvent extends Event
+{
+	@Label( "Input Length" )
+	int inputLength;
+
+	@Label( "Group Count" )
+	int groupCount;
+
+	@Label( "Output Length" )
+	int outputLength;
+
+	@Name( "com.sonatype.interview.Validation" )
+	@Label( "Validation" )
+	@Description( "Checking an integer representation, and grouping its digits when fused" )
+	static final class Validation extends PhaseEvent
+	{
+	}
+
+	@Name( "com.sonatype.interview.Grouping" )
+	@Label( "Grouping" )
+	@Description( "Splitting the digits into thousands groups" )
+	static final class Grouping extends PhaseEvent
+	{
+	}
+
+	@Name( "com.sonatype.interview.Rendering" )
+	@Label( "Rendering" )
+	@Description( "Writing the words for the thousands groups" )
+	static final class Rendering extends PhaseEvent
+	{
+	}
+
+	@Name( "com.sonatype.interview.Io" )
+	@Label( "I/O" )
+	@Description( "Blocked reading input or writing output" )
+	static final class Io extends PhaseEvent
+	{
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test converting whole files in parallel chunks
+ */
+class FileConverterTest
+{
+	@Test
+	void convertKeepsInputOrder( @TempDir Path dir ) throws IOException
+	{
+		List<String> numbers = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for ( int i = -500; i < 5000; i += 7 )
+		{
+			numbers.add( Integer.toString( i ) );
+			expected.add( Wordify.numberToWords( i ) );
+		}
+
+		// Invalid lines, a line longer than a chunk and a Windows line ending
+		numbers.add( "1.5" );
+		expected.add( ValidateNumeric.FRACTION );
+		numbers.add( "" );
+		expected.add( ValidateNumeric.EMPTY );
+		numbers.add( ValidateNumeric.maxIntegerRepresentation() );
+		expected.add( Wordify.numberToWords( ValidateNumeric.maxIntegerRepresentation() ) );
+		numbers.add( "42\r" );
+		expected.add( "Forty two" );
+		numbers.add( "7" );
+		expected.add( "Seven" );
+
+		Path input = dir.resolve( "numbers.txt" );
+		Path output = dir.resolve( "words.txt" );
+		Files.write( input, String.join( "\n", numbers ).getBytes( StandardCharsets.UTF_8 ) );
+
+		ForkJoinPool pool = new ForkJoinPool( 4 );
+		try
+		{
+			long lines = new FileConverter( WordifyEngine.DEFAULT, pool, 64 ).convert( input, output );
+			assertEquals( numbers.size(), lines );
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+
+		assertEquals( expected, Files.readAllLines( output, StandardCharsets.UTF_8 ) );
+	}
+
+	@Test
+	void overlongLineIsReplacedByHint( @TempDir Path dir ) throws IOException
+	{
+		// One line ends inside its chunk, the other runs far past the end of one
+		String longLine = repeat( '1', FileConverter.MAX_LINE_LENGTH + 1 );
+		String longerLine = repeat( '2', FileConverter.MAX_LINE_LENGTH * 3 );
+		Path input = dir.resolve( "numbers.txt" );
+		Path output = dir.resolve( "words.txt" );
+		Files.write( input, String.join( "\n", "7", longLine, "8", longerLine, "9" ).getBytes( StandardCharsets.US_ASCII ) );
+
+		ForkJoinPool pool = new ForkJoinPool( 2 );
+		try
+		{
+			for ( int chunkSize : new int[]{ 2, 64, FileConverter.MAX_CHUNK_SIZE } )
+			{
+				long lines = new FileConverter( WordifyEngine.DEFAULT, pool, chunkSize ).convert( input, output );
+				assertEquals( 5, lines );
+				assertEquals( Arrays.asList( "Seven", ValidateNumeric.TOO_LONG, "Eight", ValidateNumeric.TOO_LONG, "Nine" ),
+					Files.readAllLines( output, StandardCharsets.US_ASCII ), "Chunk size " + chunkSize );
+			}
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void chunkSizeIsBounded()
+	{
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		assertThrows( IllegalArgumentException.class, () -> new FileConverter( WordifyEngine.DEFAULT, pool, 0 ) );
+		assertThrows( IllegalArgumentException.class, () -> new FileConverter( WordifyEngine.DEFAULT, pool, FileConverter.MAX_CHUNK_SIZE + 1 ) );
+	}
+
+	private static String repeat( char c, int count )
+	{
+		char[] chars = new char[count];
+		Arrays.fill( chars, c );
+		return new String( chars );
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Dictionary;
+import com.sonatype.interview.utils.MinusLanguage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test the generated phrase tables against freshly composed ones
+ */
+class PhraseTablesTest
+{
+	@Test
+	void generatedTablesMatchComposedTables()
+	{
+		assertTablesEqual(
+			PhraseTables.compose( Dictionary.ENGLISH, Capitalization.FIRST_WORD ),
+			PhraseTables.forLanguage( Dictionary.ENGLISH, Capitalization.FIRST_WORD )
+		);
+	}
+
+	@Test
+	void otherLanguagesAreComposed()
+	{
+		assertEquals( "one hundred plus one", PhraseTables.forLanguage( new MinusLanguage(), Capitalization.FIRST_WORD ).phrase( 101, true ) );
+	}
+
+	@Test
+	void firstPhrasesAreCapitalized()
+	{
+		PhraseTables tables = PhraseTables.forLanguage( Dictionary.ENGLISH, Capitalization.FIRST_WORD );
+		assertEquals( "Four hundred and fifty six", tables.firstPhrase( 456, true ) );
+		assertArrayEquals( "Four hundred fifty six".getBytes( StandardCharsets.UTF_8 ), tables.firstEncoded( 456, false ) );
+		assertEquals( "four hundred fifty six", tables.phrase( 456, false ) );
+	}
+
+	@Test
+	void uncapitalizedFirstPhrasesAreShared()
+	{
+		PhraseTables tables = PhraseTables.compose( Dictionary.ENGLISH, Capitalization.NONE );
+		assertSame( tables.phrase( 456, true ), tables.firstPhrase( 456, true ) );
+		assertSame( tables.encoded( 456, true ), tables.firstEncoded( 456, true ) );
+	}
+
+	private static void assertTablesEqual( PhraseTables expected, PhraseTables actual )
+	{
+		for ( int group = 0; group < WordifyEngine.GROUP_SIZE; group++ )
+		{
+			for ( boolean withAnd : new boolean[]{ true, false } )
+			{
+				assertEquals( expected.phrase( group, withAnd ), actual.phrase( group, withAnd ) );
+				assertArrayEquals( expected.encoded( group, withAnd ), actual.encoded( group, withAnd ) );
+				assertEquals( expected.length( group, withAnd ), actual.length( group, withAnd ) );
+				assertEquals( expected.firstPhrase( group, withAnd ), actual.firstPhrase( group, withAnd ) );
+				assertArrayEquals( expected.firstEncoded( group, withAnd ), actual.firstEncoded( group, withAnd ) );
+			}
+		}
+	}
+}
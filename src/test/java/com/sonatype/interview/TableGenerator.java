@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Dictionary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes GeneratedTables, the source the build adds from src/generated/java.
+ * It holds the composed phrase tables of the built-in language and the
+ * packed thousands scales as String constants, as loading a constant is far
+ * cheaper than composing the phrases at startup. TableGeneratorTest fails
+ * when the checked-in source is stale; run main() to write it again.
+ */
+final class TableGenerator
+{
+	/**
+	 * The generated source, relative to the project
+	 */
+	final static Path SOURCE = Paths.get( "src/generated/java/com/sonatype/interview/utils/GeneratedTables.java" );
+
+	/**
+	 * Thousands scales, one per line, e.g. thousand, million
+	 */
+	final static String SCALES_TEXT = "scales.txt";
+
+	// Chars of a constant per line of generated source
+	private final static int LINE_CHARS = 96;
+
+	private TableGenerator()
+	{
+	}
+
+	/**
+	 * @param args Optionally, the file to write instead of SOURCE
+	 * @throws IOException If the scales cannot be read or the source written
+	 */
+	public static void main( String[] args ) throws IOException
+	{
+		Path source = args.length > 0 ? Paths.get( args[0] ) : SOURCE;
+		Files.createDirectories( source.getParent() );
+		Files.write( source, source().getBytes( StandardCharsets.US_ASCII ) );
+	}
+
+	/**
+	 * @return The source of GeneratedTables
+	 * @throws IOException If the scales cannot be read
+	 */
+	static String source() throws IOException
+	{
+		PhraseTables tables = PhraseTables.compose( Dictionary.ENGLISH, Capitalization.FIRST_WORD );
+		StringBuilder out = new StringBuilder( 1 << 17 );
+		out.append( "/* Generated by " ).append( TableGenerator.class.getName() ).append( ". Do not edit. */\n\n" );
+		out.append( "package com.sonatype.interview.utils;\n\n" );
+		out.append( "/**\n * Phrase tables and thousands scales of the built-in language, packed by PackedWords\n */\n" );
+		out.append( "public final class GeneratedTables\n{\n" );
+		writeWords( out, "SCALES", readScales() );
+		writePhrases( out, "WITH_AND", tables, true );
+		writePhrases( out, "WITHOUT_AND", tables, false );
+		out.append( "\tprivate GeneratedTables()\n\t{\n\t}\n}\n" );
+		return out.toString();
+	}
+
+	/**
+	 * @return The scales, in order
+	 * @throws IOException If the scales cannot be read
+	 */
+	private static String[] readScales() throws IOException
+	{
+		try ( InputStream in = Dictionary.class.getResourceAsStream( SCALES_TEXT ) )
+		{
+			if ( in == null )
+			{
+				throw new IllegalStateException( "Missing resource " + SCALES_TEXT );
+			}
+			BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) );
+			List<String> scales = new ArrayList<>( 1000 );
+			String line;
+			while ( ( line = reader.readLine() ) != null )
+			{
+				scales.add( line );
+			}
+			return scales.toArray( new String[0] );
+		}
+	}
+
+	/**
+	 * Write the phrases for every group and their lengths
+	 *
+	 * @param out The generated source
+	 * @param name Name of the phrases
+	 * @param tables The composed tables
+	 * @param withAnd True for the phrases with an 'and'
+	 */
+	private static void writePhrases( StringBuilder out, String name, PhraseTables tables, boolean withAnd )
+	{
+		String[] phrases = new String[WordifyEngine.GROUP_SIZE];
+		StringBuilder lengths = new StringBuilder( phrases.length );
+		for ( int group = 0; group < phrases.length; group++ )
+		{
+			phrases[group] = tables.phrase( group, withAnd );
+			lengths.append( (char) tables.length( group, withAnd ) );
+		}
+		writeWords( out, name, phrases );
+		writeConstant( out, name + "_LENGTHS", lengths.toString() );
+	}
+
+	/**
+	 * Write the two constants PackedWords.fromConstants() reads back
+	 *
+	 * @param out The generated source
+	 * @param name Name of the words
+	 * @param words The words to pack
+	 */
+	private static void writeWords( StringBuilder out, String name, String[] words )
+	{
+		writeConstant( out, name + "_BYTES", bytesConstant( words ) );
+		writeConstant( out, name + "_ENDS", endsConstant( words ) );
+	}
+
+	/**
+	 * @param words The words to pack
+	 * @return One char per UTF-8 byte of the words end to end, so they fit in a Latin-1 String constant
+	 */
+	static String bytesConstant( String[] words )
+	{
+		StringBuilder bytes = new StringBuilder();
+		for ( String word : words )
+		{
+			bytes.append( new String( word.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.ISO_8859_1 ) );
+		}
+		return bytes.toString();
+	}
+
+	/**
+	 * @param words The words to pack
+	 * @return One char per word, holding the offset just past its end
+	 * @throws IllegalStateException If the words take more bytes than a char can index
+	 */
+	static String endsConstant( String[] words )
+	{
+		StringBuilder ends = new StringBuilder( words.length );
+		int end = 0;
+		for ( String word : words )
+		{
+			end += word.getBytes( StandardCharsets.UTF_8 ).length;
+			if ( end > Character.MAX_VALUE )
+			{
+				throw new IllegalStateException( "Too many bytes for a constant: " + end );
+			}
+			ends.append( (char) end );
+		}
+		return ends.toString();
+	}
+
+	/**
+	 * Write a String constant as ASCII source, split over lines
+	 *
+	 * @param out The generated source
+	 * @param name Name of the constant
+	 * @param value Value of the constant
+	 */
+	private static void writeConstant( StringBuilder out, String name, String value )
+	{
+		out.append( "\tpublic final static String " ).append( name ).append( " =\n\t\t\"" );
+		for ( int i = 0; i < value.length(); i++ )
+		{
+			if ( i > 0 && i % LINE_CHARS == 0 )
+			{
+				out.append( "\" +\n\t\t\"" );
+			}
+			char c = value.charAt( i );
+			if ( c >= ' ' && c <= '~' && c != '"' && c != '\\' )
+			{
+				out.append( c );
+			}
+			else if ( c <= 0xFF )
+			{
+				// Octal, as a unicode escape for a line break or quote would end the literal
+				out.append( String.format( "\\%03o", (int) c ) );
+			}
+			else
+			{
+				out.append( String.format( "\\u%04x", (int) c ) );
+			}
+		}
+		out.append( "\";\n\n" );
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.PackedWords;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test the checked-in GeneratedTables is what the generator writes
+ */
+class TableGeneratorTest
+{
+	@Test
+	void generatedSourceIsCurrent() throws IOException
+	{
+		assertEquals( TableGenerator.source(), new String( Files.readAllBytes( TableGenerator.SOURCE ), StandardCharsets.US_ASCII ),
+			"GeneratedTables is stale, run TableGenerator.main() to write it again" );
+	}
+
+	@Test
+	void constantsUnpack()
+	{
+		String[] expected = { "", "mil", "millón", "tausend", "mil\uD83D\uDE00" };
+		PackedWords words = PackedWords.fromConstants( TableGenerator.bytesConstant( expected ), TableGenerator.endsConstant( expected ) );
+		assertEquals( expected.length, words.size() );
+		for ( int i = 0; i < expected.length; i++ )
+		{
+			assertEquals( expected[i], words.get( i ) );
+			assertArrayEquals( expected[i].getBytes( StandardCharsets.UTF_8 ), words.bytes( i ) );
+			assertEquals( expected[i].length(), words.charLength( i ) );
+		}
+	}
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.Dictionary;
+import com.sonatype.interview.utils.Languages;
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the precomputed engine against the
+ * reference Wordify implementation
+ */
+class WordifyEngineTest
+{
+	// 0..999
+	private static IntStream allGroups()
+	{
+		return IntStream.range( 0, WordifyEngine.GROUP_SIZE );
+	}
+
+	private static String[] validAndInvalidStrings()
+	{
+		String max = ValidateNumeric.maxIntegerRepresentation();
+		return new String[]{
+			"0", "7", "10", "100", "101", "1000", "1001", "123456789", "-1", "-1000000001",
+			max, "-" + max, max + "9", "-" + max + "9", "0" + max.substring( 1 ), "-0" + max.substring( 1 ),
+			max.substring( 1 ) + "a", "-" + max.substring( 1 ) + "a", "-" + max.substring( 2 ) + "a",
+			"", "-", "-0", "0", "00", "07", "-07", "0a", "0.5", ".", "1.0", "1 000", " 1", "- 1",
+			"--1", "1-", "12-3", "abc", "100c", "123E234", "१२३", "一二", "123\u200B456"
+		};
+	}
+
+	// Ranges crossing the carries between groups
+	private static Stream<Arguments> ranges()
+	{
+		return Stream.of(
+			Arguments.of( 0L, 2100L ),
+			Arguments.of( 5L, 5L ),
+			Arguments.of( 999_990L, 1_001_010L ),
+			Arguments.of( 999_999_990L, 1_000_000_010L ),
+			Arguments.of( 1_000_000_998_990L, 1_000_001_001_010L ),
+			Arguments.of( Long.MAX_VALUE - 1500, Long.MAX_VALUE )
+		);
+	}
+
+	// Every string of up to three chars from a small alphabet of tricky chars
+	private static Stream<String> shortStrings()
+	{
+		char[] alphabet = { '0', '1', '9', '-', '.', ' ', 'a', '\u0663' };
+		List<String> strings = new ArrayList<>();
+		strings.add( "" );
+		for ( int i = 0; i < strings.size() && strings.get( i ).length() < 3; i++ )
+		{
+			for ( char chr : alphabet )
+			{
+				strings.add( strings.get( i ) + chr );
+			}
+		}
+		return strings.stream();
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "allGroups" )
+	void phraseWithoutAnd( int group )
+	{
+		assertEquals( Wordify.smallIntToWords( group, false ), WordifyEngine.DEFAULT.phrase( group, false ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "allGroups" )
+	void phraseWithAnd( int group )
+	{
+		assertEquals( Wordify.smallIntToWords( group, true ), WordifyEngine.DEFAULT.phrase( group, true ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void convertMatchesValidateThenWordify( String number )
+	{
+		Conversion conversion = WordifyEngine.DEFAULT.convert( number );
+		String hint = ValidateNumeric.validateWithHints( number );
+
+		assertEquals( hint, conversion.hint() );
+		assertEquals( hint == null ? Wordify.numberToWords( number ) : null, conversion.words() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "shortStrings" )
+	void convertAgreesWithValidate( String number )
+	{
+		assertEquals( ValidateNumeric.validateWithHints( number ), WordifyEngine.DEFAULT.convert( number ).hint() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void writeToMatchesNumberToWords( String number ) throws IOException
+	{
+		int[] groups = new int[WordifyEngine.numGroups( ValidateNumeric.maxDigits() )];
+		String hint = WordifyEngine.DEFAULT.validateAndGroup( number, groups );
+		assertEquals( ValidateNumeric.validateWithHints( number ), hint );
+		if ( hint == null )
+		{
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			WordifyEngine.DEFAULT.writeTo( number, out );
+			assertEquals( Wordify.numberToWords( number ), new String( out.toByteArray(), StandardCharsets.US_ASCII ) );
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void exactSizeConversionMatchesNumberToWords( String number )
+	{
+		boolean isValid = ValidateNumeric.validateWithHints( number ) == null;
+		String words = isValid ? Wordify.numberToWords( number ) : null;
+
+		assertEquals( isValid ? words.length() : -1, WordifyEngine.DEFAULT.wordsLength( number ) );
+		char[] chars = WordifyEngine.DEFAULT.toChars( number );
+		assertEquals( words, chars == null ? null : new String( chars ) );
+		byte[] bytes = WordifyEngine.DEFAULT.toBytes( number );
+		assertEquals( words, bytes == null ? null : new String( bytes, StandardCharsets.UTF_8 ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void readerConversionMatchesConvert( String number ) throws IOException
+	{
+		StringWriter out = new StringWriter();
+		String hint = WordifyEngine.DEFAULT.convert( new StringReader( number + "\ntrailing" ), number.length(), out );
+
+		Conversion conversion = WordifyEngine.DEFAULT.convert( number );
+		assertEquals( conversion.hint(), hint );
+		if ( hint == null )
+		{
+			assertEquals( conversion.words(), out.toString() );
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void channelConversionMatchesValidateBytes( String number ) throws IOException
+	{
+		byte[] bytes = ( number + "\ntrailing" ).getBytes( StandardCharsets.UTF_8 );
+		int length = bytes.length - "\ntrailing".length();
+		ReadableByteChannel in = Channels.newChannel( new ByteArrayInputStream( bytes ) );
+		StringWriter out = new StringWriter();
+		String hint = WordifyEngine.DEFAULT.convert( in, length, out );
+
+		assertEquals( ValidateNumeric.validateWithHints( ByteBuffer.wrap( bytes ), 0, length ), hint );
+		if ( hint == null )
+		{
+			assertEquals( Wordify.numberToWords( number ), out.toString() );
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void convertUnboundedMatchesValidateUnbounded( String number ) throws IOException
+	{
+		String hint = ValidateNumeric.validateUnboundedWithHints( number );
+		Conversion conversion = WordifyEngine.DEFAULT.convertUnbounded( number );
+		assertEquals( hint, conversion.hint() );
+
+		StringWriter out = new StringWriter();
+		assertEquals( hint, WordifyEngine.DEFAULT.convertUnbounded( new StringReader( number ), number.length(), out ) );
+		if ( hint == null )
+		{
+			assertEquals( Wordify.numberToWords( number ), conversion.words() );
+			assertEquals( conversion.words(), out.toString() );
+		}
+	}
+
+	@Test
+	void convertUnboundedNamesGeneratedScales()
+	{
+		StringBuilder number = new StringBuilder( "-1001" );
+		for ( int i = 0; i < 1000; i++ )
+		{
+			number.append( "000" );
+		}
+		assertEquals( "Negative one millinillion one novenonagintanongentillion", WordifyEngine.DEFAULT.convertUnbounded( number ).words() );
+		assertEquals( ValidateNumeric.TOO_LONG, WordifyEngine.DEFAULT.convert( number ).hint() );
+
+		// A million digits, less one for a full leading group
+		char[] digits = new char[999_999];
+		Arrays.fill( digits, '7' );
+		String words = WordifyEngine.DEFAULT.convertUnbounded( new String( digits ) ).words();
+		assertTrue( words.startsWith( "Seven hundred seventy seven " ) );
+		assertTrue( words.endsWith( "seven hundred and seventy seven" ) );
+	}
+
+	@Test
+	void convertUnboundedNamesItsOwnLimit() throws IOException
+	{
+		// Too long to hold, but rejected by the length before the digits are read
+		CharSequence ones = new CharSequence()
+		{
+			@Override
+			public int length()
+			{
+				return ValidateNumeric.MAX_UNBOUNDED_DIGITS + 1;
+			}
+
+			@Override
+			public char charAt( int index )
+			{
+				return '1';
+			}
+
+			@Override
+			public CharSequence subSequence( int start, int end )
+			{
+				throw new UnsupportedOperationException();
+			}
+		};
+		assertEquals( ValidateNumeric.UNBOUNDED_TOO_LONG, ValidateNumeric.validateUnboundedWithHints( ones ) );
+		assertEquals( ValidateNumeric.UNBOUNDED_TOO_LONG, WordifyEngine.DEFAULT.convertUnbounded( ones ).hint() );
+		assertEquals( ValidateNumeric.UNBOUNDED_TOO_LONG,
+			WordifyEngine.DEFAULT.convertUnbounded( new StringReader( "1" ), Long.MAX_VALUE, new StringWriter() ) );
+	}
+
+	@Test
+	void streamEndingEarlyIsRejected()
+	{
+		assertThrows( EOFException.class, () -> WordifyEngine.DEFAULT.convert( new StringReader( "123" ), 4, new StringWriter() ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "ranges" )
+	void iteratorMatchesNumberToWords( long from, long to )
+	{
+		Iterator<String> words = WordifyEngine.DEFAULT.iterator( from, to );
+		for ( long n = from; ; n++ )
+		{
+			assertEquals( Wordify.numberToWords( n ), words.next() );
+			if ( n == to )
+			{
+				break;
+			}
+		}
+		assertFalse( words.hasNext() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "ranges" )
+	void parallelStreamMatchesNumberToWords( long from, long to )
+	{
+		List<String> expected = LongStream.rangeClosed( from, to )
+			.mapToObj( Wordify::numberToWords )
+			.collect( Collectors.toCollection( ArrayList::new ) );
+		List<String> words = StreamSupport.stream( WordifyEngine.DEFAULT.spliterator( from, to ), true )
+			.collect( Collectors.toList() );
+		assertEquals( expected, words );
+	}
+
+	@Test
+	void invalidRangesAreRejected()
+	{
+		assertThrows( IllegalArgumentException.class, () -> WordifyEngine.DEFAULT.spliterator( -1, 5 ) );
+		assertThrows( IllegalArgumentException.class, () -> WordifyEngine.DEFAULT.iterator( 6, 5 ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validAndInvalidStrings" )
+	void wordsMatchNumberToWords( String number ) throws IOException
+	{
+		Words words = WordifyEngine.DEFAULT.toWords( number );
+		if ( ValidateNumeric.validateWithHints( number ) != null )
+		{
+			assertNull( words );
+			return;
+		}
+
+		String expected = Wordify.numberToWords( number );
+		assertEquals( expected, words.toString() );
+		assertEquals( expected.length(), words.length() );
+		for ( int i = 0; i < expected.length(); i++ )
+		{
+			assertEquals( expected.charAt( i ), words.charAt( i ) );
+		}
+		assertEquals( expected.substring( 1, expected.length() - 1 ), words.subSequence( 1, expected.length() - 1 ).toString() );
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		words.writeTo( Channels.newChannel( bytes ) );
+		assertEquals( expected, new String( bytes.toByteArray(), StandardCharsets.UTF_8 ) );
+	}
+
+	@Test
+	void wordsWriteToGatheringChannel( @TempDir Path dir ) throws IOException
+	{
+		String max = ValidateNumeric.maxIntegerRepresentation();
+		Path file = dir.resolve( "words.txt" );
+		try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.CREATE, StandardOpenOption.WRITE ) )
+		{
+			WordifyEngine.DEFAULT.toWords( "-" + max ).writeTo( channel );
+		}
+		assertEquals( Wordify.numberToWords( "-" + max ), new String( Files.readAllBytes( file ), StandardCharsets.UTF_8 ) );
+	}
+
+	@Test
+	void enginesAreSharedPerLanguage()
+	{
+		assertSame( WordifyEngine.DEFAULT, WordifyEngine.forLanguage( Dictionary.ENGLISH ) );
+		assertSame( WordifyEngine.DEFAULT, WordifyEngine.forTag( "en" ) );
+		assertSame( WordifyEngine.forTag( "en-x-minus" ), WordifyEngine.forTag( "en-x-minus" ) );
+	}
+
+	@Test
+	void engineUsesItsLanguage() throws IOException
+	{
+		WordifyEngine engine = WordifyEngine.forTag( "en-x-minus" );
+		assertEquals( "Minus one thousand plus six", engine.convert( "-1006" ).words() );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		engine.writeTo( "-1006", out );
+		assertEquals( "Minus one thousand plus six", new String( out.toByteArray(), StandardCharsets.UTF_8 ) );
+	}
+
+	@Test
+	void builderWithoutOptionsSharesTheEngine()
+	{
+		assertSame( WordifyEngine.DEFAULT, WordifyEngine.builder().build() );
+		assertSame( WordifyEngine.forTag( "en-x-minus" ), WordifyEngine.builder().language( Languages.forTag( "en-x-minus" ) ).build() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( "styles" )
+	void builtEngineAppliesItsStyle( WordifyEngine engine, String number, String expected ) throws IOException
+	{
+		assertEquals( expected, engine.convert( number ).words() );
+		assertEquals( expected, new String( engine.toChars( number ) ) );
+		assertEquals( expected, new String( engine.toBytes( number ), StandardCharsets.UTF_8 ) );
+		assertEquals( expected, engine.toWords( number ).toString() );
+		assertEquals( expected.length(), engine.wordsLength( number ) );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		engine.writeTo( number, out );
+		assertEquals( expected, new String( out.toByteArray(), StandardCharsets.UTF_8 ) );
+	}
+
+	private static Stream<Arguments> styles()
+	{
+		WordifyEngine american = WordifyEngine.builder().conjunction( "" ).build();
+		WordifyEngine dashed = WordifyEngine.builder()
+			.separator( "-" ).negative( "minus" ).capitalization( Capitalization.ALL_WORDS ).build();
+		WordifyEngine lower = WordifyEngine.builder().capitalization( Capitalization.NONE ).build();
+		WordifyEngine upper = WordifyEngine.builder().capitalization( Capitalization.UPPER_CASE ).build();
+		WordifyEngine minus = WordifyEngine.builder()
+			.language( Languages.forTag( "en-x-minus" ) ).capitalization( Capitalization.UPPER_CASE ).build();
+		return Stream.of(
+			Arguments.of( american, "-1101", "Negative one thousand one hundred one" ),
+			Arguments.of( american, "1001", "One thousand one" ),
+			Arguments.of( dashed, "-1101", "Minus-One-Thousand-One-Hundred-And-One" ),
+			Arguments.of( dashed, "0", "Zero" ),
+			Arguments.of( lower, "1000001", "one million and one" ),
+			Arguments.of( lower, "-5", "negative five" ),
+			Arguments.of( upper, "250101", "TWO HUNDRED FIFTY THOUSAND ONE HUNDRED AND ONE" ),
+			Arguments.of( minus, "-1006", "MINUS ONE THOUSAND PLUS SIX" )
+		);
+	}
+
+	@Test
+	void builtEngineLeavesTheDefaultAlone()
+	{
+		WordifyEngine.builder().conjunction( "plus" ).capitalization( Capitalization.UPPER_CASE ).build();
+		assertEquals( "One hundred and one", WordifyEngine.DEFAULT.convert( "101" ).words() );
+		assertSame( WordifyEngine.DEFAULT, WordifyEngine.forLanguage( Dictionary.ENGLISH ) );
+	}
+
+	@Test
+	void emptyNegativeIsRejected()
+	{
+		assertThrows( IllegalArgumentException.class, () -> WordifyEngine.builder().negative( "" ) );
+	}
+
+	@Test
+	void emptySeparatorIsRejected()
+	{
+		assertThrows( IllegalArgumentException.class, () -> WordifyEngine.builder().separator( "" ) );
+	}
+}
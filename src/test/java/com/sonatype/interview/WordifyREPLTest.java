@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Test the non-interactive modes of the REPL
+ */
+class WordifyREPLTest
+{
+	@Test
+	void batchWritesOneLinePerInputLine() throws IOException
+	{
+		String input = String.join( "\n", "12", " -1000 ", "-0", "", "1.5", "q", "7" );
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		WordifyREPL.batch( new ByteArrayInputStream( input.getBytes( StandardCharsets.UTF_8 ) ), output );
+
+		String[] lines = new String( output.toByteArray(), StandardCharsets.UTF_8 ).split( System.lineSeparator() );
+		assertArrayEquals(
+			new String[]{
+				"Twelve",
+				"Negative one thousand",
+				ValidateNumeric.NEGATIVE_ZERO,
+				ValidateNumeric.EMPTY,
+				ValidateNumeric.FRACTION
+			},
+			lines
+		);
+	}
+}
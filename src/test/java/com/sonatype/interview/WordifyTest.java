@@ -4,16 +4,26 @@
 
 package com.sonatype.interview;
 
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static com.sonatype.interview.utils.Dictionary.*;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 // Helper class for parametric testing
 class Pair<A, B>
@@ -163,4 +173,90 @@ class WordifyTest
 	{
 		assertEquals( words, Wordify.numberToWords( rep ) );
 	}
-}
\ No newline at end of file
+
+	@ParameterizedTest
+	@MethodSource( value = "testWordifiedStrings" )
+	void numberToWordsStringBuilder( String rep, String words )
+	{
+		StringBuilder sb = new StringBuilder( "> " );
+		Wordify.numberToWords( rep, sb );
+		assertEquals( "> " + words, sb.toString() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "testWordifiedStrings" )
+	void numberToWordsAppendable( String rep, String words ) throws IOException
+	{
+		StringWriter writer = new StringWriter();
+		Wordify.numberToWords( rep, (Appendable) writer );
+		assertEquals( words, writer.toString() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "numberStringsAndGroups" )
+	void groupNonNegativeNumbersReused( Pair<String, List<Integer>> pair )
+	{
+		String number = pair.fst.trim();
+		int[] groups = new int[8];
+		int numGroups = Wordify.groupNonNegativeIntegers( number, 0, number.length(), groups );
+		int[] testGroups = pair.snd.stream().mapToInt( Integer::intValue ).toArray();
+		assertArrayEquals( testGroups, Arrays.copyOf( groups, numGroups ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "testWordifiedStrings" )
+	void numberToWordsInt( String rep, String words )
+	{
+		assertEquals( words, Wordify.numberToWords( Integer.parseInt( rep ) ) );
+	}
+
+	@ParameterizedTest
+	@ValueSource( longs = { 0, 1, -1, 1000, 1000000001, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 } )
+	void numberToWordsLong( long number )
+	{
+		assertEquals( Wordify.numberToWords( Long.toString( number ) ), Wordify.numberToWords( number ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "bigIntegers" )
+	void numberToWordsBigInteger( BigInteger number )
+	{
+		assertEquals( Wordify.numberToWords( number.toString() ), Wordify.numberToWords( number ) );
+	}
+
+	@Test
+	void numberToWordsBigIntegerTooLong()
+	{
+		BigInteger tooLong = new BigInteger( ValidateNumeric.maxIntegerRepresentation() + '9' );
+		assertThrows( IllegalArgumentException.class, () -> Wordify.numberToWords( tooLong ) );
+	}
+
+	@Test
+	void numberToWordsBigIntegerFarTooLong()
+	{
+		// Rejected by its bit length, before it is split into groups
+		BigInteger farTooLong = BigInteger.ONE.shiftLeft( 1 << 24 ).negate();
+		assertTimeoutPreemptively( Duration.ofSeconds( 1 ),
+			() -> assertThrows( IllegalArgumentException.class, () -> Wordify.numberToWords( farTooLong ) ) );
+	}
+
+	private static List<BigInteger> bigIntegers()
+	{
+		BigInteger max = new BigInteger( ValidateNumeric.maxIntegerRepresentation() );
+		Random random = new Random( 1003 );
+		List<BigInteger> numbers = new ArrayList<>( Arrays.asList(
+			BigInteger.ZERO,
+			BigInteger.valueOf( Long.MIN_VALUE ),
+			BigInteger.valueOf( Long.MAX_VALUE ).add( BigInteger.ONE ),
+			BigInteger.TEN.pow( 3000 ),
+			BigInteger.TEN.pow( 3000 ).add( BigInteger.valueOf( 47 ) ),
+			max,
+			max.negate()
+		) );
+		for ( int i = 0; i < 50; i++ )
+		{
+			numbers.add( new BigInteger( 1 + random.nextInt( max.bitLength() - 1 ), random ) );
+		}
+		return numbers;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test parsing words back into integer representations
+ */
+class WordsToNumberTest
+{
+	private static List<String> roundTripNumbers()
+	{
+		String max = ValidateNumeric.maxIntegerRepresentation();
+		List<String> numbers = new ArrayList<>();
+		for ( int i = 0; i < 1200; i++ )
+		{
+			numbers.add( Integer.toString( i ) );
+		}
+		String[] fixed = {
+			"-1", "-1047", "1000000", "1000100", "1000000001", "-1000000001", "1000000000000",
+			"2147483647", "-2147483648", "9223372036854775807", "-9223372036854775808",
+			max, "-" + max, "1" + max.substring( 1 ).replace( '9', '0' )
+		};
+		for ( String number : fixed )
+		{
+			numbers.add( number );
+		}
+
+		Random random = new Random( 12 );
+		BigInteger bound = new BigInteger( max );
+		for ( int i = 0; i < 200; i++ )
+		{
+			BigInteger number = new BigInteger( 1 + random.nextInt( bound.bitLength() - 1 ), random );
+			numbers.add( ( random.nextBoolean() ? number.negate() : number ).toString() );
+		}
+		return numbers;
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "roundTripNumbers" )
+	void parseInvertsNumberToWords( String number )
+	{
+		assertEquals( number, WordsToNumber.DEFAULT.parse( Wordify.numberToWords( number ) ) );
+	}
+
+	@ParameterizedTest
+	@ValueSource( strings = { "ONE HUNDRED AND ONE", "  one   hundred\tand one ", "One Hundred And One" } )
+	void parseIgnoresCaseAndSpacing( String words )
+	{
+		assertEquals( "101", WordsToNumber.DEFAULT.parse( words ) );
+	}
+
+	@ParameterizedTest
+	@ValueSource( strings = {
+		"", " ", "negative", "negative zero", "zero zero", "one zero", "and", "and one", "one and",
+		"one hundred and", "hundred", "one hundred hundred", "twenty ten", "twenty twenty", "ten one",
+		"one one", "one twenty", "twenty hundred", "thousand", "one thousand thousand", "one thousand million",
+		"one million and thousand", "one and thousand", "one hundred and thousand", "one negative",
+		"negative negative one", "onehundred", "one hundreds", "twelve & one", "one thousand and",
+		"one hundred and one thousand", "one million two hundred and five thousand six"
+	} )
+	void parseRejectsInvalidWords( String words )
+	{
+		assertNull( WordsToNumber.DEFAULT.parse( words ) );
+	}
+}
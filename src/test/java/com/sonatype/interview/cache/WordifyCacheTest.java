@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.cache;
+
+import com.sonatype.interview.Conversion;
+import com.sonatype.interview.WordifyEngine;
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the bounded conversion cache and its eviction policies
+ */
+class WordifyCacheTest
+{
+	@Test
+	void hitsReturnTheCachedConversion()
+	{
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, 1 << 20, new LruPolicy<>() );
+
+		Conversion first = cache.convert( "2500" );
+		Conversion second = cache.convert( " 2500 " );	// Normalized to the same key
+
+		assertEquals( "Two thousand five hundred", first.words() );
+		assertSame( first, second );
+		assertEquals( 1, cache.hitCount() );
+		assertEquals( 1, cache.missCount() );
+	}
+
+	@Test
+	void hintsAreCachedToo()
+	{
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, 1 << 20, new LruPolicy<>() );
+
+		assertEquals( ValidateNumeric.FRACTION, cache.convert( "1.5" ).hint() );
+		assertEquals( ValidateNumeric.FRACTION, cache.convert( "1.5" ).hint() );
+		assertEquals( 1, cache.hitCount() );
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedWithinTheByteBudget()
+	{
+		long weight = WordifyCache.weigh( "100", WordifyEngine.DEFAULT.convert( "100" ) );
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, weight * 2 + weight / 2, new LruPolicy<>() );
+
+		cache.convert( "100" );
+		cache.convert( "200" );
+		cache.convert( "100" );	// 200 is now the least recent
+		cache.convert( "300" );
+
+		assertEquals( 2, cache.size() );
+		assertEquals( 1, cache.evictionCount() );
+		assertTrue( cache.weightedSize() <= weight * 2 + weight / 2 );
+
+		cache.convert( "100" );
+		assertEquals( 2, cache.hitCount() );
+	}
+
+	@Test
+	void neverCachesEntriesLargerThanTheBudget()
+	{
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, 1024, new LruPolicy<>() );
+
+		cache.convert( ValidateNumeric.maxIntegerRepresentation() );
+
+		assertEquals( 0, cache.size() );
+		assertEquals( 0, cache.weightedSize() );
+	}
+
+	@Test
+	void tinyLfuKeepsPopularEntries()
+	{
+		long weight = WordifyCache.weigh( "100", WordifyEngine.DEFAULT.convert( "100" ) );
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, weight, new TinyLfuPolicy<>( 16 ) );
+
+		// Make 100 popular, then stream one-off numbers past it
+		for ( int i = 0; i < 5; i++ )
+		{
+			cache.convert( "100" );
+		}
+		for ( int i = 101; i < 200; i++ )
+		{
+			cache.convert( Integer.toString( i ) );
+		}
+
+		cache.convert( "100" );
+		assertEquals( 5, cache.hitCount() );
+	}
+
+	@Test
+	void concurrentAccessStaysWithinBudget() throws Exception
+	{
+		long budget = 64 * 1024;
+		WordifyCache cache = new WordifyCache( WordifyEngine.DEFAULT, budget, new TinyLfuPolicy<>( 256 ) );
+
+		ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		List<Future<?>> futures = new ArrayList<>();
+		for ( int t = 0; t < 4; t++ )
+		{
+			int seed = t;
+			futures.add( executor.submit( () -> {
+				for ( int i = 0; i < 20000; i++ )
+				{
+					int number = ( i * 31 + seed ) % ( i % 3 == 0 ? 50 : 5000 );
+					assertEquals( WordifyEngine.DEFAULT.convert( Integer.toString( number ) ).words(),
+						cache.convert( Integer.toString( number ) ).words() );
+				}
+			} ) );
+		}
+		for ( Future<?> future : futures )
+		{
+			future.get();
+		}
+		executor.shutdown();
+		executor.awaitTermination( 10, TimeUnit.SECONDS );
+
+		assertEquals( 80000, cache.hitCount() + cache.missCount() );
+		assertTrue( cache.weightedSize() <= budget );
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+import com.sonatype.interview.utils.ValidateNumeric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the conversion counters and histograms
+ */
+class ConversionMetricsTest
+{
+	@ParameterizedTest
+	@CsvSource( { "0, 0", "1, 0", "2, 1", "3, 1", "1023, 9", "1024, 10", "9223372036854775807, 39" } )
+	void bucket( long nanos, int bucket )
+	{
+		assertEquals( bucket, ConversionMetrics.bucket( nanos ) );
+	}
+
+	@ParameterizedTest
+	@CsvSource( { "1, 0", "9, 0", "10, 1", "99, 1", "100, 2", "999, 2", "1000, 3", "3004, 3" } )
+	void band( int length, int band )
+	{
+		assertEquals( band, ConversionMetrics.band( length ) );
+	}
+
+	@Test
+	void disabledByDefault()
+	{
+		assertFalse( ConversionMetrics.ENABLED );
+		assertEquals( 0L, ConversionMetrics.start() );
+	}
+
+	@Test
+	void recordsConversionsAndRejections()
+	{
+		ConversionMetrics metrics = new ConversionMetrics();
+		metrics.recordConversion( 4, null, 1500 );
+		metrics.recordConversion( 4, null, 1600 );
+		metrics.recordConversion( 120, null, 3 );
+		metrics.recordConversion( 3, ValidateNumeric.FRACTION, 100 );
+		metrics.recordConversion( 3, ValidateNumeric.FRACTION, 100 );
+		metrics.recordConversion( 0, ValidateNumeric.EMPTY, 100 );
+
+		assertEquals( 3, metrics.getConversions() );
+		assertEquals( 3, metrics.getRejections() );
+		assertEquals( 2L, (long) metrics.getRejectionsByHint().get( ValidateNumeric.FRACTION ) );
+		assertEquals( 1L, (long) metrics.getRejectionsByHint().get( ValidateNumeric.EMPTY ) );
+
+		Map<String, long[]> histograms = metrics.getLatencyHistograms();
+		assertEquals( 2, histograms.get( "1-9" )[10] );
+		assertEquals( 1, histograms.get( "100-999" )[1] );
+		assertArrayEquals( new long[ConversionMetrics.BUCKETS], histograms.get( "1000+" ) );
+
+		metrics.reset();
+		assertEquals( 0, metrics.getConversions() );
+		assertTrue( metrics.getRejectionsByHint().isEmpty() );
+	}
+
+	@Test
+	void registersWithJmx() throws Exception
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName( ConversionMetrics.OBJECT_NAME );
+		ConversionMetrics metrics = ConversionMetrics.register( new ConversionMetrics() );
+		try
+		{
+			metrics.recordConversion( 4, null, 1500 );
+			assertEquals( 1L, server.getAttribute( name, "Conversions" ) );
+			assertThrows( IllegalStateException.class, () -> ConversionMetrics.register( new ConversionMetrics() ) );
+		}
+		finally
+		{
+			server.unregisterMBean( name );
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test the phase events are off by default and built where Java 11 is
+ */
+class PhaseEventsTest
+{
+	@Test
+	void disabledByDefault()
+	{
+		assertFalse( PhaseEvents.ENABLED );
+		Object event = PhaseEvents.begin( PhaseEvents.RENDERING );
+		assertNull( event );
+		PhaseEvents.end( event, 4, 2, 30 );
+	}
+
+	@Test
+	void flightRecorderIsBuiltForJava11() throws ReflectiveOperationException
+	{
+		Class<?> recorder = Class.forName( PhaseRecorder.JFR_CLASS_NAME );
+		assertTrue( PhaseRecorder.class.isAssignableFrom( recorder ) );
+	}
+
+	@Test
+	void noRecorderRecordsNothing()
+	{
+		assertNull( PhaseRecorder.NONE.begin( PhaseEvents.IO ) );
+		PhaseRecorder.NONE.end( null, 4, 2, 30 );
+	}
+}
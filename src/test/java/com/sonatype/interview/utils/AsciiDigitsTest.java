@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test the eight-bytes-at-a-time digit scan against a plain loop
+ */
+class AsciiDigitsTest
+{
+	// Every byte value at every position of a buffer longer than two words
+	@ParameterizedTest
+	@ValueSource( strings = { "BIG_ENDIAN", "LITTLE_ENDIAN" } )
+	void firstNonDigitFindsEveryByte( String order )
+	{
+		byte[] bytes = new byte[21];
+		for ( int b = 0; b < 256; b++ )
+		{
+			boolean isDigit = b >= '0' && b <= '9';
+			for ( int pos = 1; pos < bytes.length; pos++ )
+			{
+				Arrays.fill( bytes, (byte) '5' );
+				bytes[0] = 'x';		// Outside the range scanned
+				bytes[pos] = (byte) b;
+
+				ByteBuffer buffer = ByteBuffer.wrap( bytes ).order( "BIG_ENDIAN".equals( order ) ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN );
+				assertEquals( isDigit ? -1 : pos, AsciiDigits.firstNonDigit( buffer, 1, bytes.length - 1 ), "byte " + b + " at " + pos );
+			}
+		}
+	}
+
+	@Test
+	void firstNonDigitFindsTheFirstOfSeveral()
+	{
+		byte[] bytes = "12345678x2345y78z".getBytes();
+		assertEquals( 8, AsciiDigits.firstNonDigit( bytes, 0, bytes.length ) );
+		assertEquals( 13, AsciiDigits.firstNonDigit( bytes, 9, bytes.length - 9 ) );
+		assertEquals( -1, AsciiDigits.firstNonDigit( bytes, 9, 4 ) );
+		assertEquals( -1, AsciiDigits.firstNonDigit( bytes, 0, 0 ) );
+	}
+
+	@Test
+	void firstNonDigitInChars()
+	{
+		assertEquals( 3, AsciiDigits.firstNonDigit( "123.45", 0, 6 ) );
+		assertEquals( -1, AsciiDigits.firstNonDigit( "123.45", 4, 2 ) );
+		assertEquals( -1, AsciiDigits.firstNonDigit( "123.45", 0, 3 ) );
+		assertEquals( 1, AsciiDigits.firstNonDigit( "1٣", 0, 2 ) );
+	}
+}
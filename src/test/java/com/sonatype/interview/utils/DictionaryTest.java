@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the packed thousands scales
+ */
+class DictionaryTest
+{
+	@ParameterizedTest
+	@CsvSource( {
+		"0, thousand",
+		"1, million",
+		"4, quadrillion",
+		"500, quingentillion",
+		"998, octononagintanongentillion",
+		"999, novenonagintanongentillion"
+	} )
+	void thousandScale( int index, String name )
+	{
+		assertEquals( name, Dictionary.thousandScale( index ) );
+		assertEquals( name, Dictionary.ENGLISH.scale( index ) );
+	}
+
+	@Test
+	void scaleCount()
+	{
+		assertEquals( 1000, Dictionary.numScales() );
+		assertEquals( 1000, Dictionary.ENGLISH.scaleCount() );
+		assertEquals( "novenonagintanongentillion", Dictionary.lastScale() );
+	}
+
+	@Test
+	void missingScaleIsRejected()
+	{
+		assertThrows( ArrayIndexOutOfBoundsException.class, () -> Dictionary.thousandScale( 1000 ) );
+	}
+}
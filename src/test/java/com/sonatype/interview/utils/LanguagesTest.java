@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test finding languages by tag
+ */
+class LanguagesTest
+{
+	@Test
+	void englishIsBuiltIn()
+	{
+		assertSame( Dictionary.ENGLISH, Languages.forTag( "en" ) );
+	}
+
+	@Test
+	void servicesAreDiscovered()
+	{
+		Language language = Languages.forTag( "en-x-minus" );
+		assertEquals( MinusLanguage.class, language.getClass() );
+		assertSame( language, Languages.forTag( "en-x-minus" ) );
+	}
+
+	@Test
+	void unknownTagIsRejected()
+	{
+		assertThrows( IllegalArgumentException.class, () -> Languages.forTag( "xx" ) );
+	}
+
+	@Test
+	void defaultPhraseComposition()
+	{
+		assertEquals( "four hundred and fifty six", Dictionary.ENGLISH.phrase( 456, true ) );
+		assertEquals( "four hundred fifty six", Dictionary.ENGLISH.phrase( 456, false ) );
+		assertEquals( "four hundred plus six", Languages.forTag( "en-x-minus" ).phrase( 406, true ) );
+	}
+}
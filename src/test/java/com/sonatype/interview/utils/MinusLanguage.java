@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+/**
+ * English with 'minus' and 'plus' instead of 'negative' and 'and',
+ * registered as a service to test language discovery
+ */
+public class MinusLanguage extends Dictionary
+{
+	@Override
+	public String tag()
+	{
+		return "en-x-minus";
+	}
+
+	@Override
+	public String negative()
+	{
+		return "minus";
+	}
+
+	@Override
+	public String and()
+	{
+		return "plus";
+	}
+}
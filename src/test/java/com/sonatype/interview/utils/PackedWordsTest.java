@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test packing words into one array
+ */
+class PackedWordsTest
+{
+	@Test
+	void constantsUnpack()
+	{
+		// mil, then millón as UTF-8, ending at bytes 3 and 10
+		PackedWords words = PackedWords.fromConstants( "milmill\u00c3\u00b3n", "\003\012" );
+		assertEquals( 2, words.size() );
+		assertEquals( "mil", words.get( 0 ) );
+		assertEquals( "millón", words.get( 1 ) );
+		assertArrayEquals( "millón".getBytes( StandardCharsets.UTF_8 ), words.bytes( 1 ) );
+		assertEquals( 6, words.charLength( 1 ) );
+	}
+
+	@Test
+	void scalesAreGenerated()
+	{
+		PackedWords scales = PackedWords.fromConstants( GeneratedTables.SCALES_BYTES, GeneratedTables.SCALES_ENDS );
+		assertEquals( Dictionary.numScales(), scales.size() );
+		assertEquals( "novenonagintanongentillion", scales.get( 999 ) );
+	}
+}
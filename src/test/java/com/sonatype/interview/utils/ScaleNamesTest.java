@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019. Eric Draken - ericdraken.com
+ */
+
+package com.sonatype.interview.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test the Conway-Wechsler scale names
+ */
+class ScaleNamesTest
+{
+	@ParameterizedTest
+	@CsvSource( {
+		"0, thousand",
+		"1, million",
+		"9, nonillion",
+		"10, decillion",
+		"13, tredecillion",
+		"17, septendecillion",
+		"23, tresvigintillion",
+		"29, novemvigintillion",
+		"100, centillion",
+		"103, trescentillion",
+		"106, sexcentillion",
+		"999, novenonagintanongentillion",
+		"1000, millinillion",
+		"1001, millimillion",
+		"1010, millidecillion",
+		"1000000, millinillinillion"
+	} )
+	void scale( int index, String name )
+	{
+		assertEquals( name, ScaleNames.scale( index ) );
+	}
+
+	@Test
+	void namesAreMemoized()
+	{
+		assertSame( ScaleNames.scale( 4321 ), ScaleNames.scale( 4321 ) );
+	}
+
+	@Test
+	void languageFallsBackToGeneratedNames()
+	{
+		assertEquals( Dictionary.thousandScale( 999 ), Dictionary.ENGLISH.scale( 999 ) );
+		assertEquals( "millinillion", Dictionary.ENGLISH.scale( 1000 ) );
+	}
+
+	@Test
+	void negativeScaleIsRejected()
+	{
+		assertThrows( IllegalArgumentException.class, () -> ScaleNames.scale( -1 ) );
+	}
+}
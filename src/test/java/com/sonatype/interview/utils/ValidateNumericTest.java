@@ -5,11 +5,16 @@
 package com.sonatype.interview.utils;
 
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static com.sonatype.interview.utils.ValidateNumeric.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ValidateNumericTest
@@ -78,4 +83,62 @@ public class ValidateNumericTest
 	{
 		assertEquals( hint, ValidateNumeric.validateWithHints( number ) );
 	}
-}
\ No newline at end of file
+
+	@ParameterizedTest
+	@MethodSource( value = "validStrings" )
+	void validate_valid( String number )
+	{
+		assertNull( ValidateNumeric.validate( number ) );
+	}
+
+	@ParameterizedTest
+	@CsvSource( value = {
+		"'', 0", "' ', 0", "abc, 0", "100c, 3", "--100, 1", "100-000, 3", "100-, 3", "07, 0", "-07, 1",
+		"1.0, 1", "-0, 1", "-, 1", "- 123, 1", "' -123', 0", "12३, 2"
+	} )
+	void validate_index( String number, int index )
+	{
+		Rejection rejection = ValidateNumeric.validate( number );
+		assertEquals( ValidateNumeric.validateWithHints( number ), rejection.hint() );
+		assertEquals( index, rejection.index() );
+
+		// The same machine over bytes reports the same index, relative to the offset
+		ByteBuffer buffer = surroundedBytes( number );
+		Rejection bytes = ValidateNumeric.validate( buffer, 1, buffer.limit() - 2, ValidateNumeric.maxDigits() );
+		assertEquals( rejection.hint(), bytes.hint() );
+		assertEquals( index, bytes.index() );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "validStrings" )
+	void isValidIntegerRepresentation_validBytes( String number )
+	{
+		ByteBuffer buffer = surroundedBytes( number );
+		assertTrue( ValidateNumeric.isValidIntegerRepresentation( buffer, 1, buffer.limit() - 2 ) );
+		assertNull( ValidateNumeric.validateWithHints( buffer, 1, buffer.limit() - 2 ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "invalidStringsWithHints" )
+	void validateWithHintsBytes( String number, String hint )
+	{
+		ByteBuffer buffer = surroundedBytes( number );
+		assertFalse( ValidateNumeric.isValidIntegerRepresentation( buffer, 1, buffer.limit() - 2 ) );
+		assertEquals( hint, ValidateNumeric.validateWithHints( buffer, 1, buffer.limit() - 2 ) );
+	}
+
+	@ParameterizedTest
+	@MethodSource( value = "invalidStringsWithHints" )
+	void validateUnboundedWithHints( String number, String hint )
+	{
+		// Only the length limit is lifted
+		String expected = hint.equals( TOO_LONG ) ? null : hint;
+		assertEquals( expected, ValidateNumeric.validateUnboundedWithHints( number ) );
+	}
+
+	// Place the number between two other bytes to exercise the offsets
+	private static ByteBuffer surroundedBytes( String number )
+	{
+		return ByteBuffer.wrap( ( "7" + number + "\n" ).getBytes( StandardCharsets.UTF_8 ) );
+	}
+}